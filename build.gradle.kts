@@ -311,7 +311,7 @@ subprojects {
 		}
 
 		// If available, compile and include classes for other Java versions.
-		listOf("9").forEach { version ->
+		listOf("9", "11").forEach { version ->
 			val versionedProject = findProject(":${project.name}-java-$version")
 			if (versionedProject != null) {
 				// We"re only interested in the compiled classes. So we depend
@@ -21,6 +21,7 @@ import java.nio.file.Paths;
 
 import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.LauncherSession;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.launcher.core.LauncherConfig;
@@ -113,6 +114,28 @@ class UsingTheLauncherDemo {
 		// @formatter:on
 	}
 
+	@org.junit.jupiter.api.Test
+	@SuppressWarnings("unused")
+	void launcherSession() {
+		// @formatter:off
+		// tag::launcherSession[]
+		try (LauncherSession session = LauncherFactory.openSession()) {
+			Launcher launcher = session.getLauncher();
+
+			LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+				.selectors(selectClass(MyTestClass.class))
+				.build();
+
+			// Discover the tests, e.g. to display them in a tree
+			TestPlan testPlan = launcher.discover(request);
+
+			// Execute the previously discovered tests without discovering them again
+			launcher.execute(request);
+		}
+		// end::launcherSession[]
+		// @formatter:on
+	}
+
 }
 
 class MyTestClass {
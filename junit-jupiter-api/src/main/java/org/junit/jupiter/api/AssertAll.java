@@ -14,11 +14,19 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.function.Executable;
 import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.opentest4j.MultipleFailuresError;
 
@@ -83,4 +91,103 @@ class AssertAll {
 		}
 	}
 
+	static void assertAllConcurrently(Executable... executables) {
+		assertAllConcurrently(null, executables);
+	}
+
+	static void assertAllConcurrently(String heading, Executable... executables) {
+		Preconditions.notEmpty(executables, "executables array must not be null or empty");
+		Preconditions.containsNoNullElements(executables, "individual executables must not be null");
+		assertAllConcurrently(heading, Arrays.stream(executables));
+	}
+
+	static void assertAllConcurrently(Collection<Executable> executables) {
+		assertAllConcurrently(null, executables);
+	}
+
+	static void assertAllConcurrently(String heading, Collection<Executable> executables) {
+		Preconditions.notNull(executables, "executables collection must not be null");
+		Preconditions.containsNoNullElements(executables, "individual executables must not be null");
+		assertAllConcurrently(heading, executables.stream());
+	}
+
+	static void assertAllConcurrently(Stream<Executable> executables) {
+		assertAllConcurrently(null, executables);
+	}
+
+	static void assertAllConcurrently(String heading, Stream<Executable> executables) {
+		assertAllConcurrently(heading, Runtime.getRuntime().availableProcessors(), executables);
+	}
+
+	static void assertAllConcurrently(String heading, int parallelism, Stream<Executable> executables) {
+		Preconditions.condition(parallelism > 0, "parallelism must be greater than zero");
+		Preconditions.notNull(executables, "executables stream must not be null");
+
+		List<Executable> executableList = executables //
+				.peek(executable -> Preconditions.notNull(executable, "individual executables must not be null"))//
+				.collect(Collectors.toList());
+		if (executableList.isEmpty()) {
+			return;
+		}
+
+		Throwable[] failures = new Throwable[executableList.size()];
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			Math.min(parallelism, executableList.size()), new AssertAllThreadFactory());
+		try {
+			CompletionService<Throwable> completionService = new ExecutorCompletionService<>(executorService);
+			for (int i = 0; i < executableList.size(); i++) {
+				int index = i;
+				Executable executable = executableList.get(index);
+				completionService.submit(() -> {
+					try {
+						executable.execute();
+						return null;
+					}
+					catch (Throwable t) {
+						failures[index] = t;
+						return t;
+					}
+				});
+			}
+			// wait for completion in any order, so that blacklisted exceptions halt execution immediately
+			for (int i = 0; i < executableList.size(); i++) {
+				Throwable failure = completionService.take().get();
+				if (failure != null) {
+					BlacklistedExceptions.rethrowIfBlacklisted(failure);
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		// report failures in the order of the executables rather than in the order of their completion
+		List<Throwable> failureList = Arrays.stream(failures).filter(Objects::nonNull).collect(Collectors.toList());
+		if (!failureList.isEmpty()) {
+			MultipleFailuresError multipleFailuresError = new MultipleFailuresError(heading, failureList);
+			failureList.forEach(multipleFailuresError::addSuppressed);
+			throw multipleFailuresError;
+		}
+	}
+
+	private static class AssertAllThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "junit-assertAll-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
 }
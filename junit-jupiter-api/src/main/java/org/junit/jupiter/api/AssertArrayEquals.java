@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.AssertionUtils.nullSafeGet;
 import static org.junit.platform.commons.util.ReflectionUtils.isArray;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -26,6 +27,11 @@ import java.util.function.Supplier;
  * {@code AssertArrayEquals} is a collection of utility methods that support asserting
  * array equality in tests.
  *
+ * <p>Arrays of primitives without a delta are first compared as a whole via
+ * {@link Arrays#equals}, which the JVM implements using vectorized
+ * instructions on Java 9 and later. Only if that comparison fails are the
+ * elements compared one by one in order to report the first mismatch.
+ *
  * @since 5.0
  */
 class AssertArrayEquals {
@@ -174,6 +180,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -190,6 +199,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -206,6 +218,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -222,6 +237,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -238,6 +256,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -254,6 +275,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
@@ -270,6 +294,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i])) {
@@ -303,6 +330,9 @@ class AssertArrayEquals {
 		}
 		assertArraysNotNull(expected, actual, indexes, messageOrSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i])) {
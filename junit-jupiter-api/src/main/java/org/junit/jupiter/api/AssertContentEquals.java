@@ -0,0 +1,296 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.AssertionUtils.buildPrefix;
+import static org.junit.jupiter.api.AssertionUtils.fail;
+import static org.junit.jupiter.api.AssertionUtils.formatValues;
+import static org.junit.jupiter.api.AssertionUtils.nullSafeGet;
+import static org.junit.platform.commons.util.Preconditions.notNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * {@code AssertContentEquals} is a collection of utility methods that support asserting
+ * the equality of binary content in tests.
+ *
+ * <p>Contents are read and compared in chunks of {@value #CHUNK_SIZE} bytes so that
+ * arbitrarily large contents can be compared without loading them into memory. The
+ * comparison stops at the first mismatching byte.
+ *
+ * @since 5.4
+ */
+class AssertContentEquals {
+
+	static final int CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * Maximum number of bytes shown before and after the first mismatch.
+	 */
+	static final int WINDOW_SIZE = 16;
+
+	private AssertContentEquals() {
+		/* no-op */
+	}
+
+	static void assertContentEquals(Path expected, Path actual) {
+		assertContentEquals(expected, actual, (String) null);
+	}
+
+	static void assertContentEquals(Path expected, Path actual, String message) {
+		assertPathContentEquals(expected, actual, message);
+	}
+
+	static void assertContentEquals(Path expected, Path actual, Supplier<String> messageSupplier) {
+		assertPathContentEquals(expected, actual, messageSupplier);
+	}
+
+	static void assertContentEquals(InputStream expected, InputStream actual) {
+		assertContentEquals(expected, actual, (String) null);
+	}
+
+	static void assertContentEquals(InputStream expected, InputStream actual, String message) {
+		assertInputStreamContentEquals(expected, actual, message);
+	}
+
+	static void assertContentEquals(InputStream expected, InputStream actual, Supplier<String> messageSupplier) {
+		assertInputStreamContentEquals(expected, actual, messageSupplier);
+	}
+
+	static void assertContentEquals(ReadableByteChannel expected, ReadableByteChannel actual) {
+		assertContentEquals(expected, actual, (String) null);
+	}
+
+	static void assertContentEquals(ReadableByteChannel expected, ReadableByteChannel actual, String message) {
+		assertChannelContentEquals(expected, actual, message);
+	}
+
+	static void assertContentEquals(ReadableByteChannel expected, ReadableByteChannel actual,
+			Supplier<String> messageSupplier) {
+		assertChannelContentEquals(expected, actual, messageSupplier);
+	}
+
+	static void assertContentEquals(ByteBuffer expected, ByteBuffer actual) {
+		assertContentEquals(expected, actual, (String) null);
+	}
+
+	static void assertContentEquals(ByteBuffer expected, ByteBuffer actual, String message) {
+		assertByteBufferContentEquals(expected, actual, message);
+	}
+
+	static void assertContentEquals(ByteBuffer expected, ByteBuffer actual, Supplier<String> messageSupplier) {
+		assertByteBufferContentEquals(expected, actual, messageSupplier);
+	}
+
+	private static void assertPathContentEquals(Path expected, Path actual, Object messageOrSupplier) {
+		notNull(expected, "expected path must not be null");
+		notNull(actual, "actual path must not be null");
+
+		try (FileChannel expectedChannel = FileChannel.open(expected, StandardOpenOption.READ);
+				FileChannel actualChannel = FileChannel.open(actual, StandardOpenOption.READ)) {
+			assertChannelContentEquals(expectedChannel, actualChannel, messageOrSupplier);
+		}
+		catch (IOException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+	}
+
+	private static void assertInputStreamContentEquals(InputStream expected, InputStream actual,
+			Object messageOrSupplier) {
+
+		notNull(expected, "expected input stream must not be null");
+		notNull(actual, "actual input stream must not be null");
+
+		if (expected == actual) {
+			return;
+		}
+		assertChannelContentEquals(Channels.newChannel(expected), Channels.newChannel(actual), messageOrSupplier);
+	}
+
+	private static void assertByteBufferContentEquals(ByteBuffer expected, ByteBuffer actual,
+			Object messageOrSupplier) {
+
+		notNull(expected, "expected buffer must not be null");
+		notNull(actual, "actual buffer must not be null");
+
+		if (expected == actual) {
+			return;
+		}
+		// read from duplicates in order to leave the positions of the buffers untouched
+		assertChannelContentEquals(new ByteBufferChannel(expected.duplicate()),
+			new ByteBufferChannel(actual.duplicate()), messageOrSupplier);
+	}
+
+	private static void assertChannelContentEquals(ReadableByteChannel expected, ReadableByteChannel actual,
+			Object messageOrSupplier) {
+
+		notNull(expected, "expected channel must not be null");
+		notNull(actual, "actual channel must not be null");
+
+		if (expected == actual) {
+			return;
+		}
+
+		byte[] expectedChunk = new byte[CHUNK_SIZE];
+		byte[] actualChunk = new byte[CHUNK_SIZE];
+		// last bytes of the previous chunk which are equal for both contents
+		byte[] previousBytes = new byte[0];
+		long offset = 0;
+		try {
+			while (true) {
+				int expectedLength = readChunk(expected, expectedChunk);
+				int actualLength = readChunk(actual, actualChunk);
+				int commonLength = Math.min(expectedLength, actualLength);
+
+				// full chunks are compared as a whole first, which is vectorized on Java 9+
+				if (commonLength < CHUNK_SIZE || !Arrays.equals(expectedChunk, actualChunk)) {
+					int mismatch = mismatch(expectedChunk, actualChunk, commonLength);
+					if (mismatch < 0 && expectedLength != actualLength) {
+						mismatch = commonLength;
+					}
+					if (mismatch >= 0) {
+						failContentsNotEqual(previousBytes, expectedChunk, expectedLength, actualChunk, actualLength,
+							offset, mismatch, messageOrSupplier);
+					}
+				}
+				if (commonLength < CHUNK_SIZE) {
+					return;
+				}
+				previousBytes = Arrays.copyOfRange(expectedChunk, CHUNK_SIZE - WINDOW_SIZE, CHUNK_SIZE);
+				offset += commonLength;
+			}
+		}
+		catch (IOException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+	}
+
+	/**
+	 * Read from the supplied channel until the chunk is full or the end of
+	 * the content has been reached.
+	 *
+	 * @return the number of bytes read into the chunk
+	 */
+	private static int readChunk(ReadableByteChannel channel, byte[] chunk) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(chunk);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				break;
+			}
+		}
+		return buffer.position();
+	}
+
+	private static int mismatch(byte[] expected, byte[] actual, int length) {
+		for (int i = 0; i < length; i++) {
+			if (expected[i] != actual[i]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static void failContentsNotEqual(byte[] previousBytes, byte[] expectedChunk, int expectedLength,
+			byte[] actualChunk, int actualLength, long chunkOffset, int mismatch, Object messageOrSupplier) {
+
+		int windowStart = Math.max(0, mismatch - WINDOW_SIZE);
+		int windowEnd = mismatch + WINDOW_SIZE;
+		// bytes before the mismatch are equal and may partially stem from the previous chunk
+		int previousCount = Math.min(previousBytes.length, WINDOW_SIZE - (mismatch - windowStart));
+		String expectedWindow = formatWindow(previousBytes, previousCount, expectedChunk, windowStart,
+			Math.min(expectedLength, windowEnd));
+		String actualWindow = formatWindow(previousBytes, previousCount, actualChunk, windowStart,
+			Math.min(actualLength, windowEnd));
+
+		String message = buildPrefix(nullSafeGet(messageOrSupplier)) + "contents differ at offset "
+				+ (chunkOffset + mismatch);
+		if (expectedLength == mismatch) {
+			message += ", expected content ends";
+		}
+		else if (actualLength == mismatch) {
+			message += ", actual content ends";
+		}
+		message += " (showing bytes from offset " + (chunkOffset + windowStart - previousCount) + "), ";
+		fail(message + formatValues(expectedWindow, actualWindow), expectedWindow, actualWindow);
+	}
+
+	/**
+	 * Format the last {@code previousCount} of the {@code previousBytes} and
+	 * the supplied range of the {@code chunk} as hexadecimal values followed
+	 * by their ASCII representation, e.g. {@code 4a 55 6e 69 74 0a |JUnit.|}.
+	 */
+	private static String formatWindow(byte[] previousBytes, int previousCount, byte[] chunk, int start, int end) {
+		StringBuilder hex = new StringBuilder();
+		StringBuilder text = new StringBuilder();
+		for (int i = previousBytes.length - previousCount; i < previousBytes.length; i++) {
+			appendByte(previousBytes[i], hex, text);
+		}
+		for (int i = start; i < end; i++) {
+			appendByte(chunk[i], hex, text);
+		}
+		return hex.append('|').append(text).append('|').toString();
+	}
+
+	private static void appendByte(byte b, StringBuilder hex, StringBuilder text) {
+		int value = b & 0xFF;
+		hex.append(Character.forDigit(value >> 4, 16)).append(Character.forDigit(value & 0xF, 16)).append(' ');
+		text.append(value >= 0x20 && value < 0x7F ? (char) value : '.');
+	}
+
+	/**
+	 * {@link ReadableByteChannel} that reads the remaining content of a
+	 * {@link ByteBuffer}.
+	 */
+	private static class ByteBufferChannel implements ReadableByteChannel {
+
+		private final ByteBuffer source;
+
+		ByteBufferChannel(ByteBuffer source) {
+			this.source = source;
+		}
+
+		@Override
+		public int read(ByteBuffer target) {
+			if (!source.hasRemaining()) {
+				return -1;
+			}
+			int length = Math.min(source.remaining(), target.remaining());
+			ByteBuffer slice = source.slice();
+			slice.limit(length);
+			target.put(slice);
+			source.position(source.position() + length);
+			return length;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+			/* no-op */
+		}
+
+	}
+
+}
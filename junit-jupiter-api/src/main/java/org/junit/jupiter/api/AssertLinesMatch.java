@@ -12,15 +12,20 @@ package org.junit.jupiter.api;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.platform.commons.util.Preconditions.condition;
 import static org.junit.platform.commons.util.Preconditions.notNull;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * {@code AssertLinesMatch} is a collection of utility methods that support asserting
@@ -36,6 +41,12 @@ class AssertLinesMatch {
 
 	private final static int MAX_SNIPPET_LENGTH = 21;
 
+	/**
+	 * Number of lines shown before and after the current line when lines
+	 * read lazily do not match.
+	 */
+	private final static int CONTEXT_LINES = 10;
+
 	static void assertLinesMatch(List<String> expectedLines, List<String> actualLines) {
 		notNull(expectedLines, "expectedLines must not be null");
 		notNull(actualLines, "actualLines must not be null");
@@ -53,82 +64,107 @@ class AssertLinesMatch {
 			fail(expectedLines, actualLines, "expected %d lines, but only got %d", expectedSize, actualSize);
 		}
 
+		List<ExpectedLine> compiledExpectedLines = compile(expectedLines);
+
 		// simple case: both list are equally sized, compare them line-by-line
 		if (expectedSize == actualSize) {
-			if (IntStream.range(0, expectedSize).allMatch(i -> matches(expectedLines.get(i), actualLines.get(i)))) {
+			if (IntStream.range(0, expectedSize).allMatch(
+				i -> compiledExpectedLines.get(i).matches(actualLines.get(i)))) {
 				return;
 			}
 			// else fall-through to "with fast-forward" matching
 		}
 
-		assertLinesMatchWithFastForward(expectedLines, actualLines);
+		assertLinesMatchWithFastForward(compiledExpectedLines, new ActualLines(actualLines.iterator()),
+			(expectedIndex, format, args) -> fail(expectedLines, actualLines, format, args));
+	}
+
+	static void assertLinesMatchLazily(List<String> expectedLines, Stream<String> actualLines) {
+		notNull(actualLines, "actualLines must not be null");
+		assertLinesMatchLazily(expectedLines, actualLines.iterator());
+	}
+
+	static void assertLinesMatchLazily(List<String> expectedLines, Iterator<String> actualLines) {
+		notNull(expectedLines, "expectedLines must not be null");
+		notNull(actualLines, "actualLines must not be null");
+
+		ActualLines lazyActualLines = new ActualLines(actualLines);
+		assertLinesMatchWithFastForward(compile(expectedLines), lazyActualLines,
+			(expectedIndex, format, args) -> fail(expectedLines, expectedIndex, lazyActualLines, format, args));
+	}
+
+	private static List<ExpectedLine> compile(List<String> expectedLines) {
+		return expectedLines.stream().map(ExpectedLine::new).collect(toList());
 	}
 
-	private static void assertLinesMatchWithFastForward(List<String> expectedLines, List<String> actualLines) {
-		Deque<String> expectedDeque = new ArrayDeque<>(expectedLines);
-		Deque<String> actualDeque = new ArrayDeque<>(actualLines);
+	private static void assertLinesMatchWithFastForward(List<ExpectedLine> expectedLines, ActualLines actualLines,
+			MismatchHandler mismatchHandler) {
 
-		main: while (!expectedDeque.isEmpty()) {
-			String expectedLine = expectedDeque.pop();
-			int expectedLineNumber = expectedLines.size() - expectedDeque.size(); // 1-based line number
+		int expectedSize = expectedLines.size();
+
+		main: for (int expectedIndex = 0; expectedIndex < expectedSize; expectedIndex++) {
+			ExpectedLine expectedLine = expectedLines.get(expectedIndex);
+			int expectedLineNumber = expectedIndex + 1; // 1-based line number
 			// trivial case: no more actual lines available
-			if (actualDeque.isEmpty()) {
-				fail(expectedLines, actualLines, "expected line #%d:`%s` not found - actual lines depleted",
-					expectedLineNumber, snippet(expectedLine));
+			if (!actualLines.hasNext()) {
+				mismatchHandler.fail(expectedIndex, "expected line #%d:`%s` not found - actual lines depleted",
+					expectedLineNumber, snippet(expectedLine.line));
 			}
 
-			String actualLine = actualDeque.peek();
 			// trivial case: take the fast path when they simply match
-			if (matches(expectedLine, actualLine)) {
-				actualDeque.pop();
+			if (expectedLine.matches(actualLines.peek())) {
+				actualLines.pop();
 				continue; // main
 			}
 
 			// fast-forward marker found in expected line: fast-forward actual line...
-			if (isFastForwardLine(expectedLine)) {
-				int fastForwardLimit = parseFastForwardLimit(expectedLine);
+			if (isFastForwardLine(expectedLine.line)) {
+				int fastForwardLimit = parseFastForwardLimit(expectedLine.line);
 
 				// trivial case: fast-forward marker was in last expected line
-				if (expectedDeque.isEmpty()) {
-					int actualRemaining = actualDeque.size();
-					// no limit given or perfect match? we're done.
-					if (fastForwardLimit == Integer.MAX_VALUE || fastForwardLimit == actualRemaining) {
+				if (expectedIndex == expectedSize - 1) {
+					// no limit given? we're done.
+					if (fastForwardLimit == Integer.MAX_VALUE) {
+						return;
+					}
+					long actualRemaining = actualLines.countRemaining();
+					// perfect match? we're done.
+					if (fastForwardLimit == actualRemaining) {
 						return;
 					}
-					fail(expectedLines, actualLines, "terminal fast-forward(%d) error: fast-forward(%d) expected",
+					mismatchHandler.fail(expectedIndex, "terminal fast-forward(%d) error: fast-forward(%d) expected",
 						fastForwardLimit, actualRemaining);
 				}
 
 				// fast-forward limit was given: use it
 				if (fastForwardLimit != Integer.MAX_VALUE) {
-					// fast-forward now: actualDeque.pop(fastForwardLimit)
-					for (int i = 0; i < fastForwardLimit; i++) {
-						actualDeque.pop();
-					}
+					// missing actual lines are reported for the next expected line
+					actualLines.skip(fastForwardLimit);
 					continue; // main
 				}
 
 				// peek next expected line
-				expectedLine = expectedDeque.peek();
+				ExpectedLine nextExpectedLine = expectedLines.get(expectedIndex + 1);
 				// fast-forward "unlimited": until next match
 				while (true) {
-					if (actualDeque.isEmpty()) {
-						fail(expectedLines, actualLines, "fast-forward(∞) didn't find: `%s`", snippet(expectedLine));
+					if (!actualLines.hasNext()) {
+						mismatchHandler.fail(expectedIndex + 1, "fast-forward(∞) didn't find: `%s`",
+							snippet(nextExpectedLine.line));
 					}
-					if (matches(expectedLine, actualDeque.peek())) {
+					if (nextExpectedLine.matches(actualLines.peek())) {
 						continue main;
 					}
-					actualDeque.pop();
+					actualLines.pop();
 				}
 			}
 
-			fail(expectedLines, actualLines, "expected line #%d:`%s` doesn't match", expectedLineNumber,
-				snippet(expectedLine));
+			mismatchHandler.fail(expectedIndex, "expected line #%d:`%s` doesn't match", expectedLineNumber,
+				snippet(expectedLine.line));
 		}
 
 		// after math
-		if (!actualDeque.isEmpty()) {
-			fail(expectedLines, actualLines, "more actual lines than expected: %d", actualDeque.size());
+		if (actualLines.hasNext()) {
+			mismatchHandler.fail(expectedSize, "more actual lines than expected: %d", actualLines.countRemaining());
 		}
 	}
 
@@ -152,6 +188,18 @@ class AssertLinesMatch {
 		assertEquals(expected, actual, format(format, args));
 	}
 
+	private static void fail(List<String> expectedLines, int expectedIndex, ActualLines actualLines, String format,
+			Object... args) {
+
+		// only show the lines around the mismatch since the actual lines are read lazily
+		int fromIndex = Math.max(0, expectedIndex - CONTEXT_LINES);
+		int toIndex = Math.min(expectedLines.size(), expectedIndex + CONTEXT_LINES + 1);
+		String expected = join(System.lineSeparator(), expectedLines.subList(fromIndex, toIndex));
+		String actual = join(System.lineSeparator(), actualLines.getContext());
+		String message = format(format, args) + format(" (actual line #%d)", actualLines.getLineNumber());
+		assertEquals(expected, actual, message);
+	}
+
 	static boolean isFastForwardLine(String line) {
 		line = line.trim();
 		return line.length() >= 4 && line.startsWith(">>") && line.endsWith(">>");
@@ -170,17 +218,123 @@ class AssertLinesMatch {
 	}
 
 	static boolean matches(String expectedLine, String actualLine) {
-		notNull(expectedLine, "expected line must not be null");
-		notNull(actualLine, "actual line must not be null");
-		if (expectedLine.equals(actualLine)) {
-			return true;
+		return new ExpectedLine(expectedLine).matches(actualLine);
+	}
+
+	@FunctionalInterface
+	private interface MismatchHandler {
+
+		void fail(int expectedIndex, String format, Object... args);
+
+	}
+
+	/**
+	 * Expected line that is compiled to a {@link Pattern} at most once.
+	 */
+	private static class ExpectedLine {
+
+		private final String line;
+		private boolean compiled;
+		private Pattern pattern;
+
+		ExpectedLine(String line) {
+			this.line = line;
 		}
-		try {
-			return actualLine.matches(expectedLine);
+
+		boolean matches(String actualLine) {
+			notNull(line, "expected line must not be null");
+			notNull(actualLine, "actual line must not be null");
+			if (line.equals(actualLine)) {
+				return true;
+			}
+			Pattern pattern = getPattern();
+			return pattern != null && pattern.matcher(actualLine).matches();
 		}
-		catch (PatternSyntaxException ignore) {
-			return false;
+
+		private Pattern getPattern() {
+			if (!compiled) {
+				compiled = true;
+				try {
+					pattern = Pattern.compile(line);
+				}
+				catch (PatternSyntaxException ignore) {
+					pattern = null;
+				}
+			}
+			return pattern;
+		}
+
+	}
+
+	/**
+	 * Actual lines that are read lazily from an {@link Iterator}.
+	 *
+	 * <p>Only up to {@value #CONTEXT_LINES} lines before the current line are
+	 * retained. Lines after it are only read ahead in order to report a
+	 * mismatch.
+	 */
+	private static class ActualLines {
+
+		private final Iterator<String> iterator;
+		private final Deque<String> previousLines = new ArrayDeque<>();
+		private final Deque<String> nextLines = new ArrayDeque<>();
+		private long lineNumber = 1;
+
+		ActualLines(Iterator<String> iterator) {
+			this.iterator = iterator;
+		}
+
+		boolean hasNext() {
+			return !nextLines.isEmpty() || iterator.hasNext();
 		}
+
+		String peek() {
+			readAhead(1);
+			return nextLines.getFirst();
+		}
+
+		void pop() {
+			readAhead(1);
+			previousLines.addLast(nextLines.removeFirst());
+			if (previousLines.size() > CONTEXT_LINES) {
+				previousLines.removeFirst();
+			}
+			lineNumber++;
+		}
+
+		void skip(int count) {
+			for (int i = 0; i < count && hasNext(); i++) {
+				pop();
+			}
+		}
+
+		long countRemaining() {
+			readAhead(CONTEXT_LINES + 1);
+			long count = nextLines.size();
+			while (iterator.hasNext()) {
+				iterator.next();
+				count++;
+			}
+			return count;
+		}
+
+		long getLineNumber() {
+			return lineNumber;
+		}
+
+		List<String> getContext() {
+			readAhead(CONTEXT_LINES + 1);
+			List<String> context = new ArrayList<>(previousLines);
+			context.addAll(nextLines);
+			return context;
+		}
+
+		private void readAhead(int count) {
+			while (nextLines.size() < count && iterator.hasNext()) {
+				nextLines.addLast(notNull(iterator.next(), "actual line must not be null"));
+			}
+		}
+
 	}
 
 }
@@ -12,8 +12,16 @@ package org.junit.jupiter.api;
 
 import static java.util.stream.Collectors.joining;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.junit.platform.commons.util.BlacklistedExceptions;
 import org.junit.platform.commons.util.StringUtils;
@@ -27,6 +35,21 @@ import org.opentest4j.AssertionFailedError;
  */
 class AssertionUtils {
 
+	/**
+	 * Name of the JVM system property used to configure the maximum number of
+	 * characters of the string representation of an expected or actual value
+	 * in a failure message: {@value}
+	 *
+	 * <p>Longer representations are truncated and followed by a summary of
+	 * the value.
+	 */
+	static final String MAX_VALUE_LENGTH_PROPERTY_NAME = "junit.jupiter.assertions.value.max-length";
+
+	static final int DEFAULT_MAX_VALUE_LENGTH = 10_000;
+
+	private static final int maxValueLength = parseMaxValueLength(
+		System.getProperty(MAX_VALUE_LENGTH_PROPERTY_NAME));
+
 	private AssertionUtils() {
 		/* no-op */
 	}
@@ -52,6 +75,10 @@ class AssertionUtils {
 	}
 
 	static void fail(String message, Object expected, Object actual) {
+		if (exceedsMaxValueLength(expected, maxValueLength) || exceedsMaxValueLength(actual, maxValueLength)) {
+			// do not compute the full string representations of large values unless they are requested
+			throw new LazyValuesAssertionFailedError(message, expected, actual);
+		}
 		throw new AssertionFailedError(message, expected, actual);
 	}
 
@@ -99,13 +126,27 @@ class AssertionUtils {
 	}
 
 	static String formatValues(Object expected, Object actual) {
-		String expectedString = toString(expected);
-		String actualString = toString(actual);
+		return formatValues(expected, actual, maxValueLength);
+	}
+
+	static String formatValues(Object expected, Object actual, int maxLength) {
+		String expectedString = toString(expected, maxLength);
+		String actualString = toString(actual, maxLength);
+		String result;
 		if (expectedString.equals(actualString)) {
-			return String.format("expected: %s but was: %s", formatClassAndValue(expected, expectedString),
+			result = String.format("expected: %s but was: %s", formatClassAndValue(expected, expectedString),
 				formatClassAndValue(actual, actualString));
 		}
-		return String.format("expected: <%s> but was: <%s>", expectedString, actualString);
+		else {
+			result = String.format("expected: <%s> but was: <%s>", expectedString, actualString);
+		}
+		if (expectedString.length() > maxLength || actualString.length() > maxLength) {
+			long mismatchIndex = firstMismatchIndex(expected, actual);
+			if (mismatchIndex >= 0) {
+				result += " (first mismatch at index " + mismatchIndex + ")";
+			}
+		}
+		return result;
 	}
 
 	private static String formatClassAndValue(Object value, String valueString) {
@@ -114,11 +155,132 @@ class AssertionUtils {
 		return (value instanceof Class ? "<" + classAndHash + ">" : classAndHash + "<" + valueString + ">");
 	}
 
-	private static String toString(Object obj) {
+	private static String toString(Object obj, int maxLength) {
 		if (obj instanceof Class) {
 			return getCanonicalName((Class<?>) obj);
 		}
-		return StringUtils.nullSafeToString(obj);
+		boolean renderElements = hasElements(obj) && exceedsMaxValueLength(obj, maxLength);
+		String string = (renderElements ? toStringOfElements(obj, maxLength) : StringUtils.nullSafeToString(obj));
+		if (string.length() <= maxLength) {
+			return string;
+		}
+		String length = (renderElements ? size(obj) + " elements" : string.length() + " characters");
+		return truncate(string, maxLength) + "... (" + length + ", hash: " + Integer.toHexString(hashCode(obj))
+				+ ")";
+	}
+
+	/**
+	 * Truncate the supplied string to at most {@code maxLength} characters
+	 * without splitting a surrogate pair.
+	 */
+	private static String truncate(String string, int maxLength) {
+		int endIndex = maxLength;
+		if (Character.isHighSurrogate(string.charAt(endIndex - 1))
+				&& Character.isLowSurrogate(string.charAt(endIndex))) {
+			endIndex--;
+		}
+		return string.substring(0, endIndex);
+	}
+
+	/**
+	 * Render only as many elements as fit into {@code maxLength} characters
+	 * instead of the entire array, collection, or map.
+	 */
+	private static String toStringOfElements(Object obj, int maxLength) {
+		boolean isMap = obj instanceof Map;
+		StringBuilder builder = new StringBuilder(isMap ? "{" : "[");
+		Iterator<?> elements = elements(obj);
+		while (elements.hasNext() && builder.length() <= maxLength) {
+			if (builder.length() > 1) {
+				builder.append(", ");
+			}
+			builder.append(StringUtils.nullSafeToString(elements.next()));
+		}
+		return (elements.hasNext() ? builder : builder.append(isMap ? '}' : ']')).toString();
+	}
+
+	/**
+	 * Determine if the string representation of the supplied value is known
+	 * to be longer than {@code maxLength} without computing it.
+	 *
+	 * <p>Other iterables than collections are never inspected since iterating
+	 * them may have side effects or may not terminate.
+	 */
+	static boolean exceedsMaxValueLength(Object obj, int maxLength) {
+		if (obj instanceof CharSequence) {
+			return ((CharSequence) obj).length() > maxLength;
+		}
+		if (!hasElements(obj)) {
+			return false;
+		}
+		// each element takes at least one character plus two for the separator or brackets
+		return size(obj) > maxLength / 3;
+	}
+
+	private static long firstMismatchIndex(Object expected, Object actual) {
+		if (!isArrayOrList(expected) || !isArrayOrList(actual)) {
+			return -1;
+		}
+		Iterator<?> expectedElements = elements(expected);
+		Iterator<?> actualElements = elements(actual);
+		long index = 0;
+		while (expectedElements.hasNext() && actualElements.hasNext()) {
+			if (!Objects.deepEquals(expectedElements.next(), actualElements.next())) {
+				return index;
+			}
+			index++;
+		}
+		return (expectedElements.hasNext() || actualElements.hasNext() ? index : -1);
+	}
+
+	private static boolean hasElements(Object obj) {
+		return obj instanceof Collection || obj instanceof Map || (obj != null && obj.getClass().isArray());
+	}
+
+	private static boolean isArrayOrList(Object obj) {
+		return obj instanceof List || (obj != null && obj.getClass().isArray());
+	}
+
+	private static int size(Object obj) {
+		if (obj instanceof Collection) {
+			return ((Collection<?>) obj).size();
+		}
+		return (obj instanceof Map ? ((Map<?, ?>) obj).size() : Array.getLength(obj));
+	}
+
+	private static Iterator<?> elements(Object obj) {
+		if (obj instanceof Collection) {
+			return ((Collection<?>) obj).iterator();
+		}
+		if (obj instanceof Map) {
+			return ((Map<?, ?>) obj).entrySet().iterator();
+		}
+		return IntStream.range(0, Array.getLength(obj)).mapToObj(i -> Array.get(obj, i)).iterator();
+	}
+
+	private static int hashCode(Object obj) {
+		try {
+			return Arrays.deepHashCode(new Object[] { obj });
+		}
+		catch (Throwable t) {
+			BlacklistedExceptions.rethrowIfBlacklisted(t);
+			return System.identityHashCode(obj);
+		}
+	}
+
+	static int parseMaxValueLength(String value) {
+		if (StringUtils.isNotBlank(value)) {
+			try {
+				int maxLength = Integer.parseInt(value.trim());
+				if (maxLength > 0) {
+					return maxLength;
+				}
+			}
+			catch (NumberFormatException ignore) {
+				// fall back to default
+			}
+		}
+		return DEFAULT_MAX_VALUE_LENGTH;
 	}
 
 	private static String toHash(Object obj) {
@@ -10,11 +10,17 @@
 
 package org.junit.jupiter.api;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BooleanSupplier;
@@ -33,6 +39,14 @@ import org.opentest4j.MultipleFailuresError;
  * <p>Unless otherwise noted, a <em>failed</em> assertion will throw an
  * {@link org.opentest4j.AssertionFailedError} or a subclass thereof.
  *
+ * <h3>Failure Messages</h3>
+ *
+ * <p>The string representations of expected and actual values in failure
+ * messages are truncated to at most 10,000 characters, followed by a summary
+ * consisting of the total number of elements or characters and a hash code of
+ * the value. The limit can be changed via the
+ * {@code junit.jupiter.assertions.value.max-length} JVM system property.
+ *
  * <h3>Kotlin Support</h3>
  *
  * <p>Additional <a href="https://kotlinlang.org/">Kotlin</a> assertions can be
@@ -1581,6 +1595,256 @@ public class Assertions {
 		AssertLinesMatch.assertLinesMatch(expectedLines, actualLines);
 	}
 
+	/**
+	 * <em>Assert</em> that {@code expected} list of {@linkplain String}s matches the
+	 * lines of the {@code actual} stream.
+	 *
+	 * <p>This method applies the same algorithm as {@link #assertLinesMatch(List, List)}
+	 * but consumes the {@code actual} lines lazily, so that they do not have to fit into
+	 * memory. The regular expression of each expected line is compiled at most once.
+	 *
+	 * <p>If the lines do not match, the failure message only contains the lines around
+	 * the mismatch. The stream is not closed by this method.
+	 *
+	 * @since 5.4
+	 * @see #assertLinesMatch(List, List)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertLinesMatchLazily(List<String> expectedLines, Stream<String> actualLines) {
+		AssertLinesMatch.assertLinesMatchLazily(expectedLines, actualLines);
+	}
+
+	/**
+	 * <em>Assert</em> that {@code expected} list of {@linkplain String}s matches the
+	 * lines returned by the {@code actual} iterator.
+	 *
+	 * <p>This method applies the same algorithm as {@link #assertLinesMatch(List, List)}
+	 * but consumes the {@code actual} lines lazily, so that they do not have to fit into
+	 * memory. The regular expression of each expected line is compiled at most once.
+	 *
+	 * <p>If the lines do not match, the failure message only contains the lines around
+	 * the mismatch.
+	 *
+	 * @since 5.4
+	 * @see #assertLinesMatch(List, List)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertLinesMatchLazily(List<String> expectedLines, Iterator<String> actualLines) {
+		AssertLinesMatch.assertLinesMatchLazily(expectedLines, actualLines);
+	}
+
+	// --- assertContentEquals -----------------------------------------------
+
+	/**
+	 * <em>Assert</em> that the files denoted by {@code expected} and {@code actual}
+	 * paths are equal byte by byte.
+	 *
+	 * <p>The files are read in chunks and do not need to fit into memory.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(Path expected, Path actual) {
+		AssertContentEquals.assertContentEquals(expected, actual);
+	}
+
+	/**
+	 * <em>Assert</em> that the files denoted by {@code expected} and {@code actual}
+	 * paths are equal byte by byte.
+	 *
+	 * <p>The files are read in chunks and do not need to fit into memory.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(Path expected, Path actual, String message) {
+		AssertContentEquals.assertContentEquals(expected, actual, message);
+	}
+
+	/**
+	 * <em>Assert</em> that the files denoted by {@code expected} and {@code actual}
+	 * paths are equal byte by byte.
+	 *
+	 * <p>The files are read in chunks and do not need to fit into memory.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 * <p>If necessary, the failure message will be retrieved lazily from the supplied {@code messageSupplier}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(Path expected, Path actual, Supplier<String> messageSupplier) {
+		AssertContentEquals.assertContentEquals(expected, actual, messageSupplier);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining contents of the {@code expected} and {@code actual}
+	 * input streams are equal byte by byte.
+	 *
+	 * <p>The streams are read in chunks until the first mismatch or their end;
+	 * they are not closed.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(InputStream expected, InputStream actual) {
+		AssertContentEquals.assertContentEquals(expected, actual);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining contents of the {@code expected} and {@code actual}
+	 * input streams are equal byte by byte.
+	 *
+	 * <p>The streams are read in chunks until the first mismatch or their end;
+	 * they are not closed.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(InputStream expected, InputStream actual, String message) {
+		AssertContentEquals.assertContentEquals(expected, actual, message);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining contents of the {@code expected} and {@code actual}
+	 * input streams are equal byte by byte.
+	 *
+	 * <p>The streams are read in chunks until the first mismatch or their end;
+	 * they are not closed.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 * <p>If necessary, the failure message will be retrieved lazily from the supplied {@code messageSupplier}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(InputStream expected, InputStream actual, Supplier<String> messageSupplier) {
+		AssertContentEquals.assertContentEquals(expected, actual, messageSupplier);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining contents of the {@code expected} and {@code actual}
+	 * channels are equal byte by byte.
+	 *
+	 * <p>The channels are read in chunks until the first mismatch or their end;
+	 * they are not closed.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(ReadableByteChannel expected, ReadableByteChannel actual) {
+		AssertContentEquals.assertContentEquals(expected, actual);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining contents of the {@code expected} and {@code actual}
+	 * channels are equal byte by byte.
+	 *
+	 * <p>The channels are read in chunks until the first mismatch or their end;
+	 * they are not closed.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(ReadableByteChannel expected, ReadableByteChannel actual, String message) {
+		AssertContentEquals.assertContentEquals(expected, actual, message);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining contents of the {@code expected} and {@code actual}
+	 * channels are equal byte by byte.
+	 *
+	 * <p>The channels are read in chunks until the first mismatch or their end;
+	 * they are not closed.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 * <p>If necessary, the failure message will be retrieved lazily from the supplied {@code messageSupplier}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(ReadableByteChannel expected, ReadableByteChannel actual,
+			Supplier<String> messageSupplier) {
+		AssertContentEquals.assertContentEquals(expected, actual, messageSupplier);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining contents of the {@code expected} and {@code actual}
+	 * buffers are equal byte by byte.
+	 *
+	 * <p>The contents between the current position and the limit of each buffer
+	 * are compared; the positions of the buffers are not changed.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(ByteBuffer expected, ByteBuffer actual) {
+		AssertContentEquals.assertContentEquals(expected, actual);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining contents of the {@code expected} and {@code actual}
+	 * buffers are equal byte by byte.
+	 *
+	 * <p>The contents between the current position and the limit of each buffer
+	 * are compared; the positions of the buffers are not changed.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(ByteBuffer expected, ByteBuffer actual, String message) {
+		AssertContentEquals.assertContentEquals(expected, actual, message);
+	}
+
+	/**
+	 * <em>Assert</em> that the remaining contents of the {@code expected} and {@code actual}
+	 * buffers are equal byte by byte.
+	 *
+	 * <p>The contents between the current position and the limit of each buffer
+	 * are compared; the positions of the buffers are not changed.
+	 *
+	 * <p>If the contents differ, the failure message contains the offset of the
+	 * first mismatching byte and the bytes around it.
+	 * <p>If necessary, the failure message will be retrieved lazily from the supplied {@code messageSupplier}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertContentEquals(ByteBuffer expected, ByteBuffer actual, Supplier<String> messageSupplier) {
+		AssertContentEquals.assertContentEquals(expected, actual, messageSupplier);
+	}
+
 	// --- assertNotEquals -----------------------------------------------------
 
 	/**
@@ -2902,6 +3166,148 @@ public class Assertions {
 		AssertAll.assertAll(heading, executables);
 	}
 
+	// --- assertAllConcurrently -----------------------------------------------
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions while executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, int, Stream)} for an
+	 * explanation of this method's exception handling semantics. The number of
+	 * executables executed at the same time is limited to the number of
+	 * {@linkplain Runtime#availableProcessors() available processors}.
+	 *
+	 * @since 5.4
+	 * @see #assertAllConcurrently(String, int, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertAllConcurrently(Executable... executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions while executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, int, Stream)} for an
+	 * explanation of this method's exception handling semantics. The number of
+	 * executables executed at the same time is limited to the number of
+	 * {@linkplain Runtime#availableProcessors() available processors}.
+	 *
+	 * @since 5.4
+	 * @see #assertAllConcurrently(String, int, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertAllConcurrently(String heading, Executable... executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions while executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, int, Stream)} for an
+	 * explanation of this method's exception handling semantics. The number of
+	 * executables executed at the same time is limited to the number of
+	 * {@linkplain Runtime#availableProcessors() available processors}.
+	 *
+	 * @since 5.4
+	 * @see #assertAllConcurrently(String, int, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertAllConcurrently(Collection<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions while executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, int, Stream)} for an
+	 * explanation of this method's exception handling semantics. The number of
+	 * executables executed at the same time is limited to the number of
+	 * {@linkplain Runtime#availableProcessors() available processors}.
+	 *
+	 * @since 5.4
+	 * @see #assertAllConcurrently(String, int, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertAllConcurrently(String heading, Collection<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions while executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, int, Stream)} for an
+	 * explanation of this method's exception handling semantics. The number of
+	 * executables executed at the same time is limited to the number of
+	 * {@linkplain Runtime#availableProcessors() available processors}.
+	 *
+	 * @since 5.4
+	 * @see #assertAllConcurrently(String, int, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertAllConcurrently(Stream<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions while executing them concurrently.
+	 *
+	 * <p>See Javadoc for {@link #assertAllConcurrently(String, int, Stream)} for an
+	 * explanation of this method's exception handling semantics. The number of
+	 * executables executed at the same time is limited to the number of
+	 * {@linkplain Runtime#availableProcessors() available processors}.
+	 *
+	 * @since 5.4
+	 * @see #assertAllConcurrently(String, int, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertAllConcurrently(String heading, Stream<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, executables);
+	}
+
+	/**
+	 * <em>Assert</em> that <em>all</em> supplied {@code executables} do not throw
+	 * exceptions while executing them concurrently.
+	 *
+	 * <p>Executables are executed on up to {@code parallelism} threads that are
+	 * created for each invocation of this method. Executables should therefore
+	 * be independent of each other and of state bound to the calling thread, for
+	 * example in {@link ThreadLocal ThreadLocals}. This method returns once all
+	 * of them have completed.
+	 *
+	 * <p>If any supplied {@link Executable} throws an exception (i.e., a {@link Throwable}
+	 * or any subclass thereof), all remaining {@code executables} will still be executed,
+	 * and all exceptions will be aggregated and reported in a {@link MultipleFailuresError}
+	 * in the order of the supplied {@code executables}, regardless of the order in which
+	 * they completed. In addition, all aggregated exceptions will be added as {@linkplain
+	 * Throwable#addSuppressed(Throwable) suppressed exceptions} to the
+	 * {@code MultipleFailuresError}. However, if an {@code executable} throws a
+	 * <em>blacklisted</em> exception &mdash; for example, an {@link OutOfMemoryError}
+	 * &mdash; executables that are still running will be interrupted, executables that
+	 * have not been started will be skipped, and the blacklisted exception will be
+	 * rethrown <em>as is</em> but <em>masked</em> as an unchecked exception.
+	 *
+	 * <p>The supplied {@code heading} will be included in the message string for the
+	 * {@code MultipleFailuresError}.
+	 *
+	 * @param heading the heading of the failure message; may be {@code null}
+	 * @param parallelism the maximum number of executables to execute at the same
+	 * time; must be greater than zero
+	 * @param executables the executables to execute; never {@code null}
+	 * @since 5.4
+	 * @see #assertAll(String, Stream)
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static void assertAllConcurrently(String heading, int parallelism, Stream<Executable> executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllConcurrently(heading, parallelism, executables);
+	}
+
 	// --- assert exceptions ---------------------------------------------------
 
 	// --- executable ---
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.ValueWrapper;
+
+/**
+ * {@link AssertionFailedError} that only wraps its expected and actual values
+ * in {@link ValueWrapper ValueWrappers} once they are requested.
+ *
+ * <p>Creating a {@code ValueWrapper} computes the string representation of the
+ * wrapped value, which is expensive for large values such as collections with
+ * millions of elements. Reporters that are interested in the values can still
+ * retrieve them via {@link #getExpected()} and {@link #getActual()}.
+ *
+ * <p>When serialized, instances are replaced by a regular
+ * {@code AssertionFailedError} with the same message, values, cause, stack
+ * trace, and suppressed exceptions.
+ *
+ * @since 5.4
+ */
+class LazyValuesAssertionFailedError extends AssertionFailedError {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient Object expectedValue;
+	private final transient Object actualValue;
+
+	private transient ValueWrapper expected;
+	private transient ValueWrapper actual;
+
+	LazyValuesAssertionFailedError(String message, Object expectedValue, Object actualValue) {
+		super(message);
+		this.expectedValue = expectedValue;
+		this.actualValue = actualValue;
+	}
+
+	@Override
+	public boolean isExpectedDefined() {
+		return true;
+	}
+
+	@Override
+	public boolean isActualDefined() {
+		return true;
+	}
+
+	@Override
+	public ValueWrapper getExpected() {
+		if (expected == null) {
+			expected = ValueWrapper.create(expectedValue);
+		}
+		return expected;
+	}
+
+	@Override
+	public ValueWrapper getActual() {
+		if (actual == null) {
+			actual = ValueWrapper.create(actualValue);
+		}
+		return actual;
+	}
+
+	private Object writeReplace() {
+		AssertionFailedError replacement = new AssertionFailedError(getMessage(), expectedValue, actualValue,
+			getCause());
+		replacement.setStackTrace(getStackTrace());
+		for (Throwable suppressed : getSuppressed()) {
+			replacement.addSuppressed(suppressed);
+		}
+		return replacement;
+	}
+
+}
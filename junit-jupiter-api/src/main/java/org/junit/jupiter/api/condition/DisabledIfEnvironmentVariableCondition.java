@@ -63,6 +63,11 @@ class DisabledIfEnvironmentVariableCondition implements ExecutionCondition {
 			actual, regex));
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 	/**
 	 * Get the value of the named environment variable.
 	 *
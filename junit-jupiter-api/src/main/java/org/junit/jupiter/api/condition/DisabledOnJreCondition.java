@@ -45,4 +45,9 @@ class DisabledOnJreCondition implements ExecutionCondition {
 		return ENABLED_BY_DEFAULT;
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 }
@@ -175,4 +175,22 @@ public @interface EnabledIf {
 	 */
 	String engine() default "Nashorn";
 
+	/**
+	 * Whether the result of the script may be evaluated only once and reused
+	 * for all test classes and test methods annotated with the same script
+	 * during the current test run.
+	 *
+	 * <p>Only set this attribute to {@code true} for scripts that solely
+	 * depend on the {@code systemProperty} and {@code systemEnvironment}
+	 * accessors, since the {@code junit*} bindings differ between test
+	 * classes and test methods.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @return whether the result of the script may be cached
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	boolean cacheResult() default false;
+
 }
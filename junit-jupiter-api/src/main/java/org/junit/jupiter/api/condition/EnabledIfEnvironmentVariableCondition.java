@@ -61,6 +61,11 @@ class EnabledIfEnvironmentVariableCondition implements ExecutionCondition {
 			actual, regex));
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 	/**
 	 * Get the value of the named environment variable.
 	 *
@@ -50,4 +50,9 @@ class EnabledOnJreCondition implements ExecutionCondition {
 		return ENABLED_BY_DEFAULT;
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 }
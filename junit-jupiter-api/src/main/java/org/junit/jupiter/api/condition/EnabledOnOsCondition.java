@@ -50,4 +50,9 @@ class EnabledOnOsCondition implements ExecutionCondition {
 		return ENABLED_BY_DEFAULT;
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 }
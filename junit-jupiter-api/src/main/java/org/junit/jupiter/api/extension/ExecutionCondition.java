@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.extension;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
@@ -64,4 +65,27 @@ public interface ExecutionCondition extends Extension {
 	 */
 	ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context);
 
+	/**
+	 * Determine if the result of this condition may be cached.
+	 *
+	 * <p>A condition may declare itself <em>cacheable</em> if its result
+	 * solely depends on the {@linkplain ExtensionContext#getElement() element}
+	 * of the supplied {@link ExtensionContext} and on state of the JVM that
+	 * does not change during test execution &mdash; for example, on
+	 * annotations, the current operating system, or environment variables.
+	 * The result of a cacheable condition may be computed only once per
+	 * element and condition instance for the entire test run and reused for
+	 * all extension contexts associated with the same element, such as the
+	 * invocations of a test template method.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @return {@code true} if the result of this condition may be cached
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	default boolean isCacheable() {
+		return false;
+	}
+
 }
@@ -29,16 +29,32 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.ProviderMismatchException;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -51,9 +67,12 @@ import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.commons.util.StringUtils;
 
 /**
  * {@code TempDirectory} is a JUnit Jupiter extension that creates and cleans
@@ -95,6 +114,11 @@ import org.junit.platform.commons.util.ReflectionUtils;
  * with any third-party {@code FileSystem} implementation &mdash; for example,
  * <a href="https://github.com/google/jimfs">Jimfs</a>.
  *
+ * <p>How temporary directories are deleted can be configured via the
+ * {@value #CLEANUP_MODE_PROPERTY_NAME} configuration parameter. Moreover, a
+ * temporary directory can be populated with the contents of a
+ * {@linkplain TempDir#template() template directory} before it is injected.
+ *
  * @since 5.4
  * @see TempDir
  * @see ParentDirProvider
@@ -115,6 +139,38 @@ public final class TempDirectory implements BeforeAllCallback, BeforeEachCallbac
 	@Retention(RetentionPolicy.RUNTIME)
 	@Documented
 	public @interface TempDir {
+
+		/**
+		 * Path of a directory on the default file system whose contents should
+		 * be copied into the temporary directory before it is injected.
+		 *
+		 * <p>Relative paths are resolved against the current working directory.
+		 * Since all {@code @TempDir} declarations within the same scope share a
+		 * single temporary directory, only the template of the declaration
+		 * that causes the temporary directory to be created is applied.
+		 *
+		 * <p>Defaults to an empty string, meaning that the temporary directory
+		 * is initially empty.
+		 *
+		 * @see #linkTemplateFiles()
+		 */
+		String template() default "";
+
+		/**
+		 * Whether the files of the {@linkplain #template() template directory}
+		 * should be {@linkplain Files#createLink hard-linked} into the
+		 * temporary directory instead of being copied.
+		 *
+		 * <p>Linking is considerably faster than copying for large templates;
+		 * however, since a hard link shares its contents with the template
+		 * file, tests must not modify linked files in place. Files are copied
+		 * if the file system does not support hard links between the template
+		 * and the temporary directory.
+		 *
+		 * <p>Defaults to {@code false}.
+		 */
+		boolean linkTemplateFiles() default false;
+
 	}
 
 	/**
@@ -269,8 +325,33 @@ public final class TempDirectory implements BeforeAllCallback, BeforeEachCallbac
 		CloseablePath get(TempDirContext tempDirContext, ExtensionContext extensionContext, String dirPrefix);
 	}
 
+	/**
+	 * Property name used to configure how temporary directories are deleted:
+	 * {@value}
+	 *
+	 * <h3>Supported Values</h3>
+	 * <ul>
+	 * <li>{@code sequential}: files and directories are deleted one after
+	 * another by the thread that finished the scope of the temporary
+	 * directory</li>
+	 * <li>{@code parallel}: subdirectories are deleted concurrently using the
+	 * {@linkplain ForkJoinPool#commonPool() common pool}</li>
+	 * <li>{@code deferred}: temporary directories are deleted by a background
+	 * thread; the test run waits for pending deletions to complete before it
+	 * finishes and reports failures to delete a temporary directory at that
+	 * point instead of failing the test or test class that used it</li>
+	 * </ul>
+	 *
+	 * <p>If not specified or set to an unsupported value, temporary directories
+	 * are deleted {@code sequential}ly.
+	 */
+	public static final String CLEANUP_MODE_PROPERTY_NAME = "junit.jupiter.tempdir.cleanup.mode";
+
+	private static final Logger logger = LoggerFactory.getLogger(TempDirectory.class);
+
 	private static final Namespace NAMESPACE = Namespace.create(TempDirectory.class);
 	private static final String KEY = "temp.dir";
+	private static final String DEFERRED_CLEANUP_KEY = "deferred.cleanup";
 	private static final String TEMP_DIR_PREFIX = "junit";
 
 	private final TempDirProvider tempDirProvider;
@@ -422,8 +503,7 @@ public final class TempDirectory implements BeforeAllCallback, BeforeEachCallbac
 
 	private Object getPathOrFile(Class<?> type, TempDirContext tempDirContext, ExtensionContext extensionContext) {
 		Path path = extensionContext.getStore(NAMESPACE) //
-				.getOrComputeIfAbsent(KEY,
-					key -> tempDirProvider.get(tempDirContext, extensionContext, TEMP_DIR_PREFIX), //
+				.getOrComputeIfAbsent(KEY, key -> createTempDir(tempDirContext, extensionContext), //
 					CloseablePath.class) //
 				.get();
 
@@ -441,6 +521,51 @@ public final class TempDirectory implements BeforeAllCallback, BeforeEachCallbac
 		}
 	}
 
+	private CloseablePath createTempDir(TempDirContext tempDirContext, ExtensionContext extensionContext) {
+		CloseablePath tempDir = tempDirProvider.get(tempDirContext, extensionContext, TEMP_DIR_PREFIX);
+		tempDir.setCleanup(getCleanupMode(extensionContext), extensionContext);
+		Optional<TempDir> annotation = tempDirContext.findAnnotation(TempDir.class);
+		if (annotation.isPresent() && StringUtils.isNotBlank(annotation.get().template())) {
+			populateFromTemplate(tempDir, annotation.get());
+		}
+		return tempDir;
+	}
+
+	private static CleanupMode getCleanupMode(ExtensionContext extensionContext) {
+		return extensionContext.getConfigurationParameter(CLEANUP_MODE_PROPERTY_NAME).map(value -> {
+			try {
+				return CleanupMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+			}
+			catch (Exception ex) {
+				logger.warn(() -> String.format(
+					"Invalid temp dir cleanup mode '%s' set via the '%s' configuration parameter. "
+							+ "Falling back to %s cleanup.",
+					value, CLEANUP_MODE_PROPERTY_NAME, CleanupMode.SEQUENTIAL.name().toLowerCase(Locale.ROOT)));
+				return CleanupMode.SEQUENTIAL;
+			}
+		}).orElse(CleanupMode.SEQUENTIAL);
+	}
+
+	private static void populateFromTemplate(CloseablePath tempDir, TempDir annotation) {
+		Path template = Paths.get(annotation.template());
+		try {
+			if (!Files.isDirectory(template)) {
+				throw new IOException("Template is not a directory: " + template.toAbsolutePath());
+			}
+			Files.walkFileTree(template, new TemplateCopier(template, tempDir.get(), annotation.linkTemplateFiles()));
+		}
+		catch (Exception ex) {
+			try {
+				tempDir.close();
+			}
+			catch (Exception suppressed) {
+				ex.addSuppressed(suppressed);
+			}
+			throw new ExtensionConfigurationException(
+				"Failed to populate temp directory from template " + template.toAbsolutePath(), ex);
+		}
+	}
+
 	private static CloseablePath createDefaultTempDir(String dirPrefix) {
 		try {
 			return new CloseablePath(Files.createTempDirectory(dirPrefix));
@@ -469,10 +594,24 @@ public final class TempDirectory implements BeforeAllCallback, BeforeEachCallbac
 		}
 	}
 
+	private enum CleanupMode {
+
+		SEQUENTIAL,
+
+		PARALLEL,
+
+		DEFERRED
+
+	}
+
 	private static class CloseablePath implements CloseableResource {
 
 		private final Path dir;
 
+		private CleanupMode cleanupMode = CleanupMode.SEQUENTIAL;
+
+		private ExtensionContext extensionContext;
+
 		CloseablePath(Path dir) {
 			this.dir = dir;
 		}
@@ -481,14 +620,38 @@ public final class TempDirectory implements BeforeAllCallback, BeforeEachCallbac
 			return dir;
 		}
 
+		void setCleanup(CleanupMode cleanupMode, ExtensionContext extensionContext) {
+			this.cleanupMode = cleanupMode;
+			this.extensionContext = extensionContext;
+		}
+
 		@Override
 		public void close() throws IOException {
-			SortedMap<Path, IOException> failures = deleteAllFilesAndDirectories();
+			if (cleanupMode == CleanupMode.DEFERRED) {
+				DeferredCleanup.get(extensionContext).submit(this::delete);
+			}
+			else {
+				delete();
+			}
+		}
+
+		private void delete() throws IOException {
+			// @formatter:off
+			SortedMap<Path, IOException> failures = cleanupMode == CleanupMode.PARALLEL
+					? deleteAllFilesAndDirectoriesInParallel()
+					: deleteAllFilesAndDirectories();
+			// @formatter:on
 			if (!failures.isEmpty()) {
 				throw createIOExceptionWithAttachedFailures(failures);
 			}
 		}
 
+		private SortedMap<Path, IOException> deleteAllFilesAndDirectoriesInParallel() {
+			SortedMap<Path, IOException> failures = new ConcurrentSkipListMap<>();
+			ForkJoinPool.commonPool().invoke(new DeleteRecursively(dir, failures));
+			return failures;
+		}
+
 		private SortedMap<Path, IOException> deleteAllFilesAndDirectories() throws IOException {
 			SortedMap<Path, IOException> failures = new TreeMap<>();
 			Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
@@ -549,4 +712,167 @@ public final class TempDirectory implements BeforeAllCallback, BeforeEachCallbac
 		}
 	}
 
+	/**
+	 * Deletes a directory by deleting the files it contains directly and
+	 * forking a subtask for each of its subdirectories. Symbolic links are
+	 * deleted rather than followed.
+	 */
+	@SuppressWarnings("serial")
+	private static class DeleteRecursively extends RecursiveAction {
+
+		private final Path dir;
+		private final SortedMap<Path, IOException> failures;
+
+		DeleteRecursively(Path dir, SortedMap<Path, IOException> failures) {
+			this.dir = dir;
+			this.failures = failures;
+		}
+
+		@Override
+		protected void compute() {
+			List<DeleteRecursively> subtasks = new ArrayList<>();
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+				for (Path entry : entries) {
+					if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+						subtasks.add(new DeleteRecursively(entry, failures));
+					}
+					else {
+						delete(entry);
+					}
+				}
+			}
+			catch (IOException ex) {
+				failures.put(dir, ex);
+			}
+			catch (DirectoryIteratorException ex) {
+				failures.put(dir, ex.getCause());
+			}
+			invokeAll(subtasks);
+			if (!failures.containsKey(dir)) {
+				delete(dir);
+			}
+		}
+
+		private void delete(Path path) {
+			try {
+				Files.delete(path);
+			}
+			catch (IOException ex) {
+				failures.put(path, ex);
+			}
+		}
+	}
+
+	/**
+	 * Deletes temporary directories on a background thread. Since it is stored
+	 * in the root {@link ExtensionContext.Store Store}, closing it at the end of
+	 * the test run waits for all pending deletions and reports their failures.
+	 */
+	private static class DeferredCleanup implements CloseableResource {
+
+		static DeferredCleanup get(ExtensionContext extensionContext) {
+			return extensionContext.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(DEFERRED_CLEANUP_KEY,
+				key -> new DeferredCleanup(), DeferredCleanup.class);
+		}
+
+		private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "junit-jupiter-tempdir-cleanup");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		private final Queue<Future<Void>> pendingDeletions = new ConcurrentLinkedQueue<>();
+
+		void submit(Deletion deletion) {
+			pendingDeletions.add(executor.submit(() -> {
+				deletion.delete();
+				return null;
+			}));
+		}
+
+		@Override
+		public void close() throws Exception {
+			executor.shutdown();
+			Exception failure = null;
+			for (Future<Void> future : pendingDeletions) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException ex) {
+					Exception cause = ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+					if (failure == null) {
+						failure = cause;
+					}
+					else {
+						failure.addSuppressed(cause);
+					}
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		}
+
+		@FunctionalInterface
+		interface Deletion {
+
+			void delete() throws IOException;
+		}
+	}
+
+	/**
+	 * Recreates the directory structure of a template directory in a temporary
+	 * directory and links or copies its files.
+	 */
+	private static class TemplateCopier extends SimpleFileVisitor<Path> {
+
+		private final Path template;
+		private final Path target;
+		private boolean linkFiles;
+
+		TemplateCopier(Path template, Path target, boolean linkFiles) {
+			this.template = template;
+			this.target = target;
+			this.linkFiles = linkFiles;
+		}
+
+		@Override
+		public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException {
+			if (!dir.equals(template)) {
+				Files.createDirectory(resolveTarget(dir));
+			}
+			return CONTINUE;
+		}
+
+		@Override
+		public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+			Path targetFile = resolveTarget(file);
+			if (!linkFiles || !tryToLink(targetFile, file)) {
+				Files.copy(file, targetFile);
+			}
+			return CONTINUE;
+		}
+
+		private boolean tryToLink(Path link, Path existing) {
+			try {
+				Files.createLink(link, existing);
+				return true;
+			}
+			catch (UnsupportedOperationException | ProviderMismatchException | IOException ex) {
+				// e.g. different file systems or devices; copy this and all remaining files
+				linkFiles = false;
+				return false;
+			}
+		}
+
+		private Path resolveTarget(Path path) {
+			// resolve name by name since the target may reside on a different file system
+			Path result = target;
+			for (Path name : template.relativize(path)) {
+				result = result.resolve(name.toString());
+			}
+			return result;
+		}
+	}
+
 }
@@ -12,6 +12,8 @@ package org.junit.jupiter.engine;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_MAX_FACTOR_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
@@ -123,14 +125,68 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "5.4")
 	public static final String DEFAULT_PARALLEL_EXECUTION_MODE = JupiterConfiguration.DEFAULT_EXECUTION_MODE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to limit the number of invocations of a
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} method that may
+	 * be in progress at the same time: {@value}
+	 *
+	 * <p>Once the limit is reached, no further invocation contexts are requested
+	 * from {@link org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider
+	 * TestTemplateInvocationContextProviders} until the oldest invocation in
+	 * progress has finished. This keeps memory consumption constant for test
+	 * templates with a large number of invocations.
+	 *
+	 * <p>Value must be a positive integer; defaults to no limit.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME = JupiterConfiguration.TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable streaming execution of the dynamic nodes
+	 * returned by {@link org.junit.jupiter.api.TestFactory @TestFactory} methods
+	 * and {@link org.junit.jupiter.api.DynamicContainer DynamicContainers} by
+	 * limiting the number of them that may be in progress at the same time:
+	 * {@value}
+	 *
+	 * <p>If set, no further dynamic nodes are requested from the factory or
+	 * container once the limit is reached until the oldest dynamic node in
+	 * progress has finished. In addition, dynamic nodes are detached from the
+	 * test tree once they have finished. This keeps memory consumption of
+	 * the engine constant for factories generating a large number of dynamic
+	 * tests.
+	 *
+	 * <p>Value must be a positive integer; defaults to no limit.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME = JupiterConfiguration.TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable measuring the durations of the phases of
+	 * executing each container and test and to specify the file they are
+	 * written to in the <em>Trace Event Format</em>: {@value}
+	 *
+	 * <p>The file can be viewed as a flame chart by Chrome's
+	 * {@code chrome://tracing} page and other trace viewers. By default, no
+	 * durations are measured.
+	 *
+	 * @since 5.4
+	 * @see org.junit.platform.engine.support.hierarchical.ChromeTraceTimingListener
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String EXECUTION_TIMING_TRACE_FILE_PROPERTY_NAME = "junit.jupiter.execution.timing.trace.file";
+
 	static final String PARALLEL_CONFIG_PREFIX = "junit.jupiter.execution.parallel.config.";
 
 	/**
 	 * Property name used to select the
 	 * {@link ParallelExecutionConfigurationStrategy}: {@value}
 	 *
-	 * <p>Potential values: {@code dynamic} (default), {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Potential values: {@code dynamic} (default), {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 *
 	 * @since 5.3
 	 */
@@ -163,6 +219,32 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the factor to be multiplied with the number of
+	 * available processors/cores to determine the initial and minimum
+	 * parallelism for the {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a decimal number; defaults to {@code 1}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the factor to be multiplied with the number of
+	 * available processors/cores to determine the maximum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a decimal number; defaults to {@code 4}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_MAX_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_MAX_FACTOR_PROPERTY_NAME;
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used for the
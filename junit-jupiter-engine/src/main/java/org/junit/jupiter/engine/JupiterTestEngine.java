@@ -12,6 +12,8 @@ package org.junit.jupiter.engine;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Optional;
 
 import org.apiguardian.api.API;
@@ -22,14 +24,18 @@ import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.jupiter.engine.discovery.DiscoverySelectorResolver;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ChromeTraceTimingListener;
 import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.NodeExecutionTimingListener;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
@@ -40,6 +46,8 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 @API(status = INTERNAL, since = "5.0")
 public final class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngineExecutionContext> {
 
+	private static final Logger logger = LoggerFactory.getLogger(JupiterTestEngine.class);
+
 	@Override
 	public String getId() {
 		return JupiterEngineDescriptor.ENGINE_ID;
@@ -94,6 +102,28 @@ public final class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngin
 		return JupiterThrowableCollectorFactory::createThrowableCollector;
 	}
 
+	/**
+	 * @since 5.4
+	 * @see Constants#EXECUTION_TIMING_TRACE_FILE_PROPERTY_NAME
+	 */
+	@Override
+	protected Optional<NodeExecutionTimingListener> createNodeExecutionTimingListener(ExecutionRequest request) {
+		Optional<String> traceFile = getJupiterConfiguration(request).getRawConfigurationParameter(
+			Constants.EXECUTION_TIMING_TRACE_FILE_PROPERTY_NAME);
+		return traceFile.map(file -> {
+			try {
+				return new ChromeTraceTimingListener(Paths.get(file));
+			}
+			catch (IOException | RuntimeException ex) {
+				logger.warn(ex, () -> String.format(
+					"Failed to create trace file '%s' set via the '%s' configuration parameter. "
+							+ "Execution timings will not be measured.",
+					file, Constants.EXECUTION_TIMING_TRACE_FILE_PROPERTY_NAME));
+				return null;
+			}
+		});
+	}
+
 	private JupiterConfiguration getJupiterConfiguration(ExecutionRequest request) {
 		JupiterEngineDescriptor engineDescriptor = (JupiterEngineDescriptor) request.getRootTestDescriptor();
 		return engineDescriptor.getConfiguration();
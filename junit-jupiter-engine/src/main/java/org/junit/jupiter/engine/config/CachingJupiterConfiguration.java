@@ -72,4 +72,16 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			key -> delegate.getExecutionConditionFilter());
 	}
 
+	@Override
+	public int getTestTemplateMaxInFlightInvocations() {
+		return (int) cache.computeIfAbsent(TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME,
+			key -> delegate.getTestTemplateMaxInFlightInvocations());
+	}
+
+	@Override
+	public int getTestFactoryMaxInFlightDynamicNodes() {
+		return (int) cache.computeIfAbsent(TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME,
+			key -> delegate.getTestFactoryMaxInFlightDynamicNodes());
+	}
+
 }
@@ -10,6 +10,8 @@
 
 package org.junit.jupiter.engine.config;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -44,7 +46,10 @@ class ClassNamePatternParameterConverter {
 
 	private Predicate<?> matchesRegex(String patternString) {
 		Pattern pattern = Pattern.compile(convertToRegEx(patternString));
-		return object -> !pattern.matcher(object.getClass().getName()).matches();
+		// match each class only once since the predicate is applied for every test
+		Map<Class<?>, Boolean> activatedClasses = new ConcurrentHashMap<>();
+		return object -> activatedClasses.computeIfAbsent(object.getClass(),
+			type -> !pattern.matcher(type.getName()).matches());
 	}
 
 	/**
@@ -19,6 +19,8 @@ import org.apiguardian.api.API;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 
@@ -36,6 +38,8 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 	private static final EnumConfigurationParameterConverter<Lifecycle> lifecycleConverter = //
 		new EnumConfigurationParameterConverter<>(Lifecycle.class, "test instance lifecycle mode");
 
+	private static final Logger logger = LoggerFactory.getLogger(DefaultJupiterConfiguration.class);
+
 	private final ConfigurationParameters configurationParameters;
 
 	public DefaultJupiterConfiguration(ConfigurationParameters configurationParameters) {
@@ -77,4 +81,34 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 			DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME);
 	}
 
+	@Override
+	public int getTestTemplateMaxInFlightInvocations() {
+		return getMaxInFlight(TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME, "test template invocations");
+	}
+
+	@Override
+	public int getTestFactoryMaxInFlightDynamicNodes() {
+		return getMaxInFlight(TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME, "dynamic nodes");
+	}
+
+	private int getMaxInFlight(String key, String displayName) {
+		Optional<String> value = configurationParameters.get(key);
+		if (value.isPresent()) {
+			try {
+				int maxInFlight = Integer.parseInt(value.get().trim());
+				if (maxInFlight > 0) {
+					return maxInFlight;
+				}
+			}
+			catch (NumberFormatException ignored) {
+				// fall through to warning below
+			}
+			logger.warn(() -> String.format(
+				"Invalid maximum number of in-flight %s '%s' set via the '%s' configuration parameter. "
+						+ "Falling back to no limit.",
+				displayName, value.get(), key));
+		}
+		return Integer.MAX_VALUE;
+	}
+
 }
@@ -31,6 +31,8 @@ public interface JupiterConfiguration {
 	String DEFAULT_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.default";
 	String EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.autodetection.enabled";
 	String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = "junit.jupiter.testinstance.lifecycle.default";
+	String TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME = "junit.jupiter.execution.testtemplate.max-in-flight-invocations";
+	String TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME = "junit.jupiter.execution.testfactory.max-in-flight-dynamic-nodes";
 	String DEACTIVATE_ALL_CONDITIONS_PATTERN = ClassNamePatternParameterConverter.DEACTIVATE_ALL_PATTERN;
 
 	Optional<String> getRawConfigurationParameter(String key);
@@ -45,4 +47,8 @@ public interface JupiterConfiguration {
 
 	Predicate<ExecutionCondition> getExecutionConditionFilter();
 
+	int getTestTemplateMaxInFlightInvocations();
+
+	int getTestFactoryMaxInFlightDynamicNodes();
+
 }
@@ -20,6 +20,10 @@ import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findAfter
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeAllMethods;
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeEachMethods;
 import static org.junit.jupiter.engine.descriptor.TestInstanceLifecycleUtils.getTestInstanceLifecycle;
+import static org.junit.jupiter.engine.execution.TimeoutConfiguration.MethodType.AFTER_ALL;
+import static org.junit.jupiter.engine.execution.TimeoutConfiguration.MethodType.AFTER_EACH;
+import static org.junit.jupiter.engine.execution.TimeoutConfiguration.MethodType.BEFORE_ALL;
+import static org.junit.jupiter.engine.execution.TimeoutConfiguration.MethodType.BEFORE_EACH;
 import static org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory.createThrowableCollector;
 
 import java.lang.reflect.Constructor;
@@ -51,6 +55,7 @@ import org.junit.jupiter.engine.execution.DefaultTestInstances;
 import org.junit.jupiter.engine.execution.ExecutableInvoker;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.execution.TestInstancesProvider;
+import org.junit.jupiter.engine.execution.TimeoutConfiguration.MethodType;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.BlacklistedExceptions;
@@ -373,7 +378,7 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 
 		for (Method method : this.beforeAllMethods) {
 			throwableCollector.execute(
-				() -> executableInvoker.invoke(method, testInstance, extensionContext, registry));
+				() -> executableInvoker.invoke(method, testInstance, extensionContext, registry, BEFORE_ALL));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -387,7 +392,7 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		Object testInstance = extensionContext.getTestInstance().orElse(null);
 
 		this.afterAllMethods.forEach(method -> throwableCollector.execute(
-			() -> executableInvoker.invoke(method, testInstance, extensionContext, registry)));
+			() -> executableInvoker.invoke(method, testInstance, extensionContext, registry, AFTER_ALL)));
 	}
 
 	private void invokeAfterAllCallbacks(JupiterEngineExecutionContext context) {
@@ -424,19 +429,23 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	}
 
 	private BeforeEachMethodAdapter synthesizeBeforeEachMethodAdapter(Method method) {
-		return (extensionContext, registry) -> invokeMethodInExtensionContext(method, extensionContext, registry);
+		return (extensionContext, registry) -> invokeMethodInExtensionContext(method, extensionContext, registry,
+			BEFORE_EACH);
 	}
 
 	private AfterEachMethodAdapter synthesizeAfterEachMethodAdapter(Method method) {
-		return (extensionContext, registry) -> invokeMethodInExtensionContext(method, extensionContext, registry);
+		return (extensionContext, registry) -> invokeMethodInExtensionContext(method, extensionContext, registry,
+			AFTER_EACH);
 	}
 
-	private void invokeMethodInExtensionContext(Method method, ExtensionContext context, ExtensionRegistry registry) {
+	private void invokeMethodInExtensionContext(Method method, ExtensionContext context, ExtensionRegistry registry,
+			MethodType methodType) {
+
 		TestInstances testInstances = context.getRequiredTestInstances();
 		Object target = testInstances.findInstance(method.getDeclaringClass()).orElseThrow(
 			() -> new JUnitException("Failed to find instance for method: " + method.toGenericString()));
 
-		executableInvoker.invoke(method, target, context, registry);
+		executableInvoker.invoke(method, target, context, registry, methodType);
 	}
 
 }
@@ -56,15 +56,18 @@ class DynamicContainerTestDescriptor extends DynamicNodeTestDescriptor {
 			DynamicTestExecutor dynamicTestExecutor) throws Exception {
 
 		AtomicInteger index = new AtomicInteger(1);
+		DynamicTestExecutor executor = StreamingDynamicTestExecutor.wrapIfNecessary(this, dynamicTestExecutor,
+			configuration.getTestFactoryMaxInFlightDynamicNodes());
 		try (Stream<? extends DynamicNode> children = dynamicContainer.getChildren()) {
 			// @formatter:off
 			children.peek(child -> Preconditions.notNull(child, "individual dynamic node must not be null"))
 					.map(child -> toDynamicDescriptor(index.getAndIncrement(), child))
 					.filter(Optional::isPresent)
 					.map(Optional::get)
-					.forEachOrdered(dynamicTestExecutor::execute);
+					.forEachOrdered(executor::execute);
 			// @formatter:on
 		}
+		executor.awaitFinished();
 		return context;
 	}
 
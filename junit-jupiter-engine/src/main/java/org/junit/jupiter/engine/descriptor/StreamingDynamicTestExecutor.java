@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
+
+/**
+ * {@link DynamicTestExecutor} that limits the number of dynamic descendants of
+ * a {@code @TestFactory} method, {@code DynamicContainer}, or
+ * {@code @TestTemplate} method that are in progress at the same time and
+ * detaches finished ones from their parent.
+ *
+ * <p>Since dynamic nodes and invocation contexts are requested lazily from
+ * their stream, blocking in {@link #execute(TestDescriptor)} keeps the factory
+ * or provider from producing more of them than can be executed. Detaching
+ * finished descendants allows them to be garbage collected while further
+ * ones are still being produced. Descendants are only detached once their
+ * {@link Future} is done, i.e. after their execution has been reported, and
+ * the remaining ones are detached by {@link #awaitFinished()}.
+ *
+ * @since 5.4
+ * @see JupiterConfiguration#TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME
+ * @see JupiterConfiguration#TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME
+ */
+class StreamingDynamicTestExecutor implements DynamicTestExecutor {
+
+	/**
+	 * Wrap the supplied {@link DynamicTestExecutor} if the supplied maximum
+	 * number of in-flight descendants is limited.
+	 */
+	static DynamicTestExecutor wrapIfNecessary(TestDescriptor parent, DynamicTestExecutor delegate,
+			int maxInFlight) {
+
+		if (maxInFlight < Integer.MAX_VALUE) {
+			return new StreamingDynamicTestExecutor(parent, delegate, maxInFlight);
+		}
+		return delegate;
+	}
+
+	private final TestDescriptor parent;
+	private final DynamicTestExecutor delegate;
+	private final int maxInFlight;
+
+	// in order of submission; only accessed by the thread executing the parent
+	private final Map<TestDescriptor, Future<?>> submittedDescriptors = new LinkedHashMap<>();
+
+	private StreamingDynamicTestExecutor(TestDescriptor parent, DynamicTestExecutor delegate, int maxInFlight) {
+		this.parent = parent;
+		this.delegate = delegate;
+		this.maxInFlight = maxInFlight;
+	}
+
+	@Override
+	public void execute(TestDescriptor testDescriptor) {
+		submit(testDescriptor);
+	}
+
+	@Override
+	public Future<?> submit(TestDescriptor testDescriptor) {
+		Future<?> future = this.delegate.submit(testDescriptor);
+		this.submittedDescriptors.put(testDescriptor, future);
+		try {
+			awaitInFlightAtMost(this.maxInFlight - 1);
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+		return future;
+	}
+
+	@Override
+	public void awaitFinished() throws InterruptedException {
+		this.delegate.awaitFinished();
+		detachFinishedDescriptors();
+	}
+
+	@Override
+	public void awaitInFlightAtMost(int maxInFlight) throws InterruptedException {
+		detachFinishedDescriptors();
+		while (this.submittedDescriptors.size() > maxInFlight) {
+			awaitQuietly(this.submittedDescriptors.values().iterator().next());
+			detachFinishedDescriptors();
+		}
+	}
+
+	private void awaitQuietly(Future<?> future) throws InterruptedException {
+		try {
+			future.get();
+		}
+		catch (ExecutionException | CancellationException ex) {
+			// reported by the delegate's awaitFinished() method
+		}
+	}
+
+	/**
+	 * Detach all submitted descriptors whose execution has finished from the
+	 * parent, regardless of the order in which they finished.
+	 */
+	private void detachFinishedDescriptors() {
+		Iterator<Map.Entry<TestDescriptor, Future<?>>> iterator = this.submittedDescriptors.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<TestDescriptor, Future<?>> entry = iterator.next();
+			if (entry.getValue().isDone()) {
+				this.parent.removeChild(entry.getKey());
+				iterator.remove();
+			}
+		}
+	}
+
+}
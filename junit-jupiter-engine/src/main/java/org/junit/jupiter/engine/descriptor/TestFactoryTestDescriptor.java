@@ -28,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.execution.ExecutableInvoker;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.jupiter.engine.execution.TimeoutConfiguration.MethodType;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.CollectionUtils;
 import org.junit.platform.commons.util.PreconditionViolationException;
@@ -82,13 +83,15 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 	// --- Node ----------------------------------------------------------------
 
 	@Override
-	protected void invokeTestMethod(JupiterEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
+	protected void invokeTestMethod(JupiterEngineExecutionContext context, DynamicTestExecutor executor) {
 		ExtensionContext extensionContext = context.getExtensionContext();
+		DynamicTestExecutor dynamicTestExecutor = StreamingDynamicTestExecutor.wrapIfNecessary(this, executor,
+			configuration.getTestFactoryMaxInFlightDynamicNodes());
 
 		context.getThrowableCollector().execute(() -> {
 			Object instance = extensionContext.getRequiredTestInstance();
 			Object testFactoryMethodResult = executableInvoker.invoke(getTestMethod(), instance, extensionContext,
-				context.getExtensionRegistry());
+				context.getExtensionRegistry(), MethodType.TEST_FACTORY);
 			TestSource defaultTestSource = getSource().orElseThrow(
 				() -> new JUnitException("Illegal state: TestSource must be present"));
 			try (Stream<DynamicNode> dynamicNodeStream = toDynamicNodeStream(testFactoryMethodResult)) {
@@ -35,6 +35,7 @@ import org.junit.jupiter.engine.execution.AfterEachMethodAdapter;
 import org.junit.jupiter.engine.execution.BeforeEachMethodAdapter;
 import org.junit.jupiter.engine.execution.ExecutableInvoker;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.jupiter.engine.execution.TimeoutConfiguration.MethodType;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -181,7 +182,8 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 			try {
 				Method testMethod = getTestMethod();
 				Object instance = extensionContext.getRequiredTestInstance();
-				executableInvoker.invoke(testMethod, instance, extensionContext, context.getExtensionRegistry());
+				executableInvoker.invoke(testMethod, instance, extensionContext, context.getExtensionRegistry(),
+					getTimeoutMethodType());
 			}
 			catch (Throwable throwable) {
 				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
@@ -190,6 +192,16 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 		});
 	}
 
+	/**
+	 * Get the type of method used to determine the default timeout for the
+	 * invocation of the test method.
+	 *
+	 * @since 5.4
+	 */
+	protected MethodType getTimeoutMethodType() {
+		return MethodType.TEST;
+	}
+
 	private void invokeTestExecutionExceptionHandlers(ExtensionRegistry registry, ExtensionContext context,
 			Throwable ex) {
 
@@ -20,6 +20,7 @@ import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.jupiter.engine.execution.TimeoutConfiguration.MethodType;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
@@ -65,6 +66,11 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 		return registry;
 	}
 
+	@Override
+	protected MethodType getTimeoutMethodType() {
+		return MethodType.TEST_TEMPLATE;
+	}
+
 	@Override
 	public void after(JupiterEngineExecutionContext context) {
 		// forget invocationContext so it can be garbage collected
@@ -95,15 +95,21 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 		List<TestTemplateInvocationContextProvider> providers = validateProviders(extensionContext,
 			context.getExtensionRegistry());
 		AtomicInteger invocationIndex = new AtomicInteger();
+		DynamicTestExecutor executor = StreamingDynamicTestExecutor.wrapIfNecessary(this, dynamicTestExecutor,
+			configuration.getTestTemplateMaxInFlightInvocations());
 		// @formatter:off
 		providers.stream()
 				.flatMap(provider -> provider.provideTestTemplateInvocationContexts(extensionContext))
 				.map(invocationContext -> createInvocationTestDescriptor(invocationContext, invocationIndex.incrementAndGet()))
 				.filter(Optional::isPresent)
 				.map(Optional::get)
-				.forEach(invocationTestDescriptor -> execute(dynamicTestExecutor, invocationTestDescriptor));
+				.forEach(invocationTestDescriptor -> execute(executor, invocationTestDescriptor));
 		// @formatter:on
 		validateWasAtLeastInvokedOnce(invocationIndex.get());
+		if (executor != dynamicTestExecutor) {
+			// detach the remaining invocations once they have finished
+			executor.awaitFinished();
+		}
 		return context;
 	}
 
@@ -13,10 +13,16 @@ package org.junit.jupiter.engine.execution;
 import static java.lang.String.format;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.reflect.AnnotatedElement;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
@@ -37,10 +43,17 @@ public class ConditionEvaluator {
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"No 'disabled' conditions encountered");
 
+	private static final Namespace NAMESPACE = Namespace.create(ConditionEvaluator.class);
+
 	/**
 	 * Evaluate all {@link ExecutionCondition} extensions registered for the
 	 * supplied {@link ExtensionContext}.
 	 *
+	 * <p>Results of {@linkplain ExecutionCondition#isCacheable() cacheable}
+	 * conditions are cached per condition and element in the root
+	 * {@link ExtensionContext.Store Store} and thus reused until the end of
+	 * the test run.
+	 *
 	 * @param context the current {@code ExtensionContext}
 	 * @return the first <em>disabled</em> {@code ConditionEvaluationResult},
 	 * or a default <em>enabled</em> {@code ConditionEvaluationResult} if no
@@ -60,6 +73,21 @@ public class ConditionEvaluator {
 	}
 
 	private ConditionEvaluationResult evaluate(ExecutionCondition condition, ExtensionContext context) {
+		Optional<AnnotatedElement> element = context.getElement();
+		if (condition.isCacheable() && element.isPresent()) {
+			return getCachedResults(context).computeIfAbsent(new CacheKey(condition, element.get()),
+				key -> evaluateUncached(condition, context));
+		}
+		return evaluateUncached(condition, context);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<CacheKey, ConditionEvaluationResult> getCachedResults(ExtensionContext context) {
+		return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(CacheKey.class,
+			key -> new ConcurrentHashMap<CacheKey, ConditionEvaluationResult>(), Map.class);
+	}
+
+	private ConditionEvaluationResult evaluateUncached(ExecutionCondition condition, ExtensionContext context) {
 		try {
 			ConditionEvaluationResult result = condition.evaluateExecutionCondition(context);
 			logResult(condition.getClass(), result);
@@ -80,4 +108,38 @@ public class ConditionEvaluator {
 			format("Failed to evaluate condition [%s]%s", conditionType.getName(), cause), ex);
 	}
 
+	/**
+	 * Key for cached results that compares conditions by identity since
+	 * differently configured instances of the same condition class may be
+	 * registered for different test classes.
+	 */
+	private static class CacheKey {
+
+		private final ExecutionCondition condition;
+		private final AnnotatedElement element;
+
+		CacheKey(ExecutionCondition condition, AnnotatedElement element) {
+			this.condition = condition;
+			this.element = element;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			CacheKey that = (CacheKey) obj;
+			return this.condition == that.condition && this.element.equals(that.element);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(this.condition) + this.element.hashCode();
+		}
+
+	}
+
 }
@@ -21,16 +21,20 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.engine.execution.TimeoutConfiguration.MethodType;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ClassUtils;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.commons.util.StringUtils;
@@ -118,6 +122,71 @@ public class ExecutableInvoker {
 			resolveParameters(method, optionalTarget, extensionContext, extensionRegistry));
 	}
 
+	/**
+	 * Invoke the supplied method on the supplied target object with dynamic parameter
+	 * resolution while enforcing the {@link org.junit.jupiter.api.Timeout timeout}
+	 * that applies to the supplied type of method, if any.
+	 *
+	 * <p>Parameters are resolved before the timeout starts to elapse. If the
+	 * invocation does not complete within the timeout, the invoking thread is
+	 * interrupted and a {@link TimeoutException} is thrown once the method
+	 * returns.
+	 *
+	 * @param method the method to invoke and resolve parameters for
+	 * @param target the object on which the method will be invoked; should be
+	 * {@code null} for static methods
+	 * @param extensionContext the current {@code ExtensionContext}
+	 * @param extensionRegistry the {@code ExtensionRegistry} to retrieve
+	 * {@code ParameterResolvers} from
+	 * @param methodType the type of the method used to determine the default
+	 * timeout
+	 * @since 5.4
+	 */
+	public Object invoke(Method method, Object target, ExtensionContext extensionContext,
+			ExtensionRegistry extensionRegistry, MethodType methodType) {
+
+		@SuppressWarnings("unchecked")
+		Optional<Object> optionalTarget = (target instanceof Optional ? (Optional<Object>) target
+				: Optional.ofNullable(target));
+		Object[] arguments = resolveParameters(method, optionalTarget, extensionContext, extensionRegistry);
+
+		Class<?> testClass = extensionContext.getTestClass().orElse(method.getDeclaringClass());
+		Optional<TimeoutDuration> timeout = TimeoutConfiguration.get(extensionContext).getTimeout(method, testClass,
+			methodType);
+		if (!timeout.isPresent()) {
+			return ReflectionUtils.invokeMethod(method, target, arguments);
+		}
+
+		TimeoutWatchdog.Registration registration = TimeoutWatchdog.get(extensionContext).watch(timeout.get());
+		Object result;
+		try {
+			result = ReflectionUtils.invokeMethod(method, target, arguments);
+		}
+		catch (Throwable throwable) {
+			if (registration.complete()) {
+				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+				throw createTimeoutException(method, timeout.get(), throwable);
+			}
+			throw throwable;
+		}
+		if (registration.complete()) {
+			throw createTimeoutException(method, timeout.get(), null);
+		}
+		return result;
+	}
+
+	private static RuntimeException createTimeoutException(Method method, TimeoutDuration timeout,
+			Throwable suppressed) {
+
+		String methodSignature = String.format("%s(%s)", method.getName(),
+			ClassUtils.nullSafeToString(Class::getSimpleName, method.getParameterTypes()));
+		TimeoutException exception = new TimeoutException(methodSignature + " timed out after " + timeout);
+		if (suppressed != null) {
+			exception.addSuppressed(suppressed);
+		}
+		return ExceptionUtils.throwAsUncheckedException(exception);
+	}
+
 	/**
 	 * Resolve the array of parameters for the supplied executable and target.
 	 *
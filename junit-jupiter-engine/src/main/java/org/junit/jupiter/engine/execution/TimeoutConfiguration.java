@@ -0,0 +1,155 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.jupiter.api.Timeout.DEFAULT_AFTER_ALL_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_AFTER_EACH_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_BEFORE_ALL_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_BEFORE_EACH_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_LIFECYCLE_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_TESTABLE_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_TEST_FACTORY_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_TEST_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_TEST_TEMPLATE_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_TIMEOUT_PROPERTY_NAME;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * {@code TimeoutConfiguration} determines the {@link Timeout} that applies to
+ * the invocation of a testable or lifecycle method.
+ *
+ * <p>A {@code @Timeout} declared on the method itself takes precedence over a
+ * {@code @Timeout} declared on the test class or one of its enclosing classes
+ * (testable methods only), which in turn takes precedence over the default
+ * timeouts configured via configuration parameters.
+ *
+ * @since 5.4
+ * @see Timeout
+ */
+@API(status = INTERNAL, since = "5.4")
+public class TimeoutConfiguration {
+
+	/**
+	 * The types of methods a timeout can be applied to.
+	 */
+	public enum MethodType {
+
+		TEST(true, DEFAULT_TEST_METHOD_TIMEOUT_PROPERTY_NAME),
+
+		TEST_TEMPLATE(true, DEFAULT_TEST_TEMPLATE_METHOD_TIMEOUT_PROPERTY_NAME),
+
+		TEST_FACTORY(true, DEFAULT_TEST_FACTORY_METHOD_TIMEOUT_PROPERTY_NAME),
+
+		BEFORE_ALL(false, DEFAULT_BEFORE_ALL_METHOD_TIMEOUT_PROPERTY_NAME),
+
+		BEFORE_EACH(false, DEFAULT_BEFORE_EACH_METHOD_TIMEOUT_PROPERTY_NAME),
+
+		AFTER_EACH(false, DEFAULT_AFTER_EACH_METHOD_TIMEOUT_PROPERTY_NAME),
+
+		AFTER_ALL(false, DEFAULT_AFTER_ALL_METHOD_TIMEOUT_PROPERTY_NAME);
+
+		private final boolean testable;
+		private final String propertyName;
+
+		MethodType(boolean testable, String propertyName) {
+			this.testable = testable;
+			this.propertyName = propertyName;
+		}
+
+	}
+
+	private static final Logger logger = LoggerFactory.getLogger(TimeoutConfiguration.class);
+
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(
+		TimeoutConfiguration.class);
+
+	/**
+	 * Get the {@code TimeoutConfiguration} for the test run the supplied
+	 * {@link ExtensionContext} belongs to.
+	 */
+	static TimeoutConfiguration get(ExtensionContext context) {
+		ExtensionContext root = context.getRoot();
+		return root.getStore(NAMESPACE).getOrComputeIfAbsent(TimeoutConfiguration.class,
+			key -> new TimeoutConfiguration(root), TimeoutConfiguration.class);
+	}
+
+	private final TimeoutDurationParser parser = new TimeoutDurationParser();
+	private final Map<String, Optional<TimeoutDuration>> cache = new ConcurrentHashMap<>();
+	private final ExtensionContext extensionContext;
+
+	private TimeoutConfiguration(ExtensionContext extensionContext) {
+		this.extensionContext = extensionContext;
+	}
+
+	Optional<TimeoutDuration> getTimeout(Method method, Class<?> testClass, MethodType methodType) {
+		Optional<Timeout> annotation = AnnotationUtils.findAnnotation(method, Timeout.class);
+		if (!annotation.isPresent() && methodType.testable) {
+			annotation = findAnnotationOnClassOrEnclosingClasses(testClass);
+		}
+		if (annotation.isPresent()) {
+			return annotation.map(TimeoutDuration::from);
+		}
+		return getDefaultTimeout(methodType);
+	}
+
+	private Optional<Timeout> findAnnotationOnClassOrEnclosingClasses(Class<?> testClass) {
+		Class<?> candidate = testClass;
+		while (candidate != null) {
+			Optional<Timeout> annotation = AnnotationUtils.findAnnotation(candidate, Timeout.class);
+			if (annotation.isPresent()) {
+				return annotation;
+			}
+			candidate = (ReflectionUtils.isInnerClass(candidate) ? candidate.getEnclosingClass() : null);
+		}
+		return Optional.empty();
+	}
+
+	private Optional<TimeoutDuration> getDefaultTimeout(MethodType methodType) {
+		Optional<TimeoutDuration> timeout = parseTimeoutDuration(methodType.propertyName);
+		if (!timeout.isPresent()) {
+			timeout = parseTimeoutDuration(methodType.testable ? DEFAULT_TESTABLE_METHOD_TIMEOUT_PROPERTY_NAME
+					: DEFAULT_LIFECYCLE_METHOD_TIMEOUT_PROPERTY_NAME);
+		}
+		if (!timeout.isPresent()) {
+			timeout = parseTimeoutDuration(DEFAULT_TIMEOUT_PROPERTY_NAME);
+		}
+		return timeout;
+	}
+
+	private Optional<TimeoutDuration> parseTimeoutDuration(String propertyName) {
+		return this.cache.computeIfAbsent(propertyName,
+			key -> this.extensionContext.getConfigurationParameter(key).flatMap(value -> {
+				try {
+					return Optional.of(this.parser.parse(value));
+				}
+				catch (Exception ex) {
+					logger.warn(ex,
+						() -> String.format("Ignored invalid timeout '%s' set via the '%s' configuration parameter.",
+							value, key));
+					return Optional.empty();
+				}
+			}));
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Timeout;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Value object for a timeout consisting of a positive value and a
+ * {@link TimeUnit}.
+ *
+ * @since 5.4
+ * @see Timeout
+ */
+final class TimeoutDuration {
+
+	static TimeoutDuration from(Timeout timeout) {
+		return new TimeoutDuration(timeout.value(), timeout.unit());
+	}
+
+	private final long value;
+	private final TimeUnit unit;
+
+	TimeoutDuration(long value, TimeUnit unit) {
+		Preconditions.condition(value > 0, () -> "timeout duration must be a positive number: " + value);
+		this.value = value;
+		this.unit = Preconditions.notNull(unit, "timeout unit must not be null");
+	}
+
+	long getValue() {
+		return this.value;
+	}
+
+	TimeUnit getUnit() {
+		return this.unit;
+	}
+
+	long toNanos() {
+		return this.unit.toNanos(this.value);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		TimeoutDuration that = (TimeoutDuration) obj;
+		return this.value == that.value && this.unit == that.unit;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.value, this.unit);
+	}
+
+	@Override
+	public String toString() {
+		String label = this.unit.name().toLowerCase();
+		if (this.value == 1 && label.endsWith("s")) {
+			label = label.substring(0, label.length() - 1);
+		}
+		return this.value + " " + label;
+	}
+
+}
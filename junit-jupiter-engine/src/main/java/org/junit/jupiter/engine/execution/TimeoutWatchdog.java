@@ -0,0 +1,138 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+/**
+ * {@code TimeoutWatchdog} enforces timeouts for all threads of a test run
+ * using a single daemon thread.
+ *
+ * <p>Instead of executing each timed invocation in a separate thread, the
+ * watchdog schedules a task that {@linkplain Thread#interrupt() interrupts}
+ * the invoking thread once its timeout has elapsed. Completed invocations
+ * remove their tasks from the underlying queue eagerly so that the queue
+ * only ever contains invocations that are still in progress.
+ *
+ * <p>Since it implements {@link CloseableResource}, the watchdog is shut down
+ * when the {@link org.junit.jupiter.api.extension.ExtensionContext.Store Store}
+ * it is stored in is closed.
+ *
+ * @since 5.4
+ */
+class TimeoutWatchdog implements CloseableResource {
+
+	private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(
+		TimeoutWatchdog.class);
+
+	/**
+	 * Get the {@code TimeoutWatchdog} for the test run the supplied
+	 * {@link ExtensionContext} belongs to.
+	 */
+	static TimeoutWatchdog get(ExtensionContext context) {
+		return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(TimeoutWatchdog.class,
+			key -> new TimeoutWatchdog(), TimeoutWatchdog.class);
+	}
+
+	private final ScheduledThreadPoolExecutor executor;
+
+	TimeoutWatchdog() {
+		this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "junit-jupiter-timeout-watchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * Start watching the current thread.
+	 *
+	 * <p>The returned {@link Registration} must be
+	 * {@linkplain Registration#complete() completed} once the timed invocation
+	 * has finished, regardless of its outcome.
+	 */
+	Registration watch(TimeoutDuration timeout) {
+		InterruptTask task = new InterruptTask(Thread.currentThread());
+		ScheduledFuture<?> future = this.executor.schedule(task, timeout.toNanos(), TimeUnit.NANOSECONDS);
+		return new Registration(task, future);
+	}
+
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+	static class Registration {
+
+		private final InterruptTask task;
+		private final ScheduledFuture<?> future;
+
+		private Registration(InterruptTask task, ScheduledFuture<?> future) {
+			this.task = task;
+			this.future = future;
+		}
+
+		/**
+		 * Stop watching the thread that created this registration.
+		 *
+		 * <p>If the timeout elapsed before this method was called, the
+		 * interrupted status of the current thread is cleared so that it does
+		 * not leak into subsequent invocations.
+		 *
+		 * @return {@code true} if the timeout elapsed
+		 */
+		boolean complete() {
+			this.future.cancel(false);
+			boolean timedOut = this.task.complete();
+			if (timedOut) {
+				Thread.interrupted();
+			}
+			return timedOut;
+		}
+
+	}
+
+	private static class InterruptTask implements Runnable {
+
+		private final Thread thread;
+
+		// guarded by this
+		private boolean completed;
+
+		// guarded by this
+		private boolean executed;
+
+		InterruptTask(Thread thread) {
+			this.thread = thread;
+		}
+
+		@Override
+		public synchronized void run() {
+			if (!this.completed) {
+				this.executed = true;
+				this.thread.interrupt();
+			}
+		}
+
+		synchronized boolean complete() {
+			this.completed = true;
+			return this.executed;
+		}
+
+	}
+
+}
@@ -50,4 +50,9 @@ class DisabledCondition implements ExecutionCondition {
 		return ENABLED;
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 }
@@ -93,7 +93,7 @@ class ScriptExecutionCondition implements ExecutionCondition {
 		}
 		DisabledIf annotation = disabled.get();
 		String source = createSource(annotation.value());
-		return new Script(annotation, annotation.engine(), source, annotation.reason());
+		return new Script(annotation, annotation.engine(), source, annotation.reason(), annotation.cacheResult());
 	}
 
 	private Script createEnabledIfScriptOrNull(AnnotatedElement annotatedElement) {
@@ -103,7 +103,7 @@ class ScriptExecutionCondition implements ExecutionCondition {
 		}
 		EnabledIf annotation = enabled.get();
 		String source = createSource(annotation.value());
-		return new Script(annotation, annotation.engine(), source, annotation.reason());
+		return new Script(annotation, annotation.engine(), source, annotation.reason(), annotation.cacheResult());
 	}
 
 	private String createSource(String[] lines) {
@@ -14,6 +14,8 @@ import static org.junit.jupiter.api.extension.ConditionEvaluationResult.disabled
 import static org.junit.jupiter.api.extension.ConditionEvaluationResult.enabled;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.script.Bindings;
 import javax.script.ScriptException;
@@ -41,11 +43,25 @@ class ScriptExecutionEvaluator implements ScriptExecutionCondition.Evaluator {
 
 	private final ScriptExecutionManager scriptExecutionManager = new ScriptExecutionManager();
 
+	// results of scripts declared to only depend on system properties and environment variables
+	private final Map<Script, Object> cachedResults = new ConcurrentHashMap<>();
+
 	@Override
 	public ConditionEvaluationResult evaluate(ExtensionContext context, List<Script> scripts) {
-		Bindings bindings = createBindings(context);
+		Bindings bindings = null;
 		for (Script script : scripts) {
-			ConditionEvaluationResult result = evaluate(scriptExecutionManager, script, bindings);
+			Object cachedResult = script.isResultCacheable() ? cachedResults.get(script) : null;
+			ConditionEvaluationResult result;
+			if (cachedResult != null) {
+				result = computeConditionEvaluationResult(script, cachedResult);
+			}
+			else {
+				// Create bindings lazily since they are not needed for cached results.
+				if (bindings == null) {
+					bindings = createBindings(context);
+				}
+				result = evaluate(scriptExecutionManager, script, bindings);
+			}
 			// Report the first result that is disabled, preventing evaluation of remaining scripts.
 			if (result.isDisabled()) {
 				return result;
@@ -71,7 +87,11 @@ class ScriptExecutionEvaluator implements ScriptExecutionCondition.Evaluator {
 		}
 		try {
 			Object result = manager.evaluate(script, bindings);
-			return computeConditionEvaluationResult(script, result);
+			ConditionEvaluationResult conditionEvaluationResult = computeConditionEvaluationResult(script, result);
+			if (script.isResultCacheable()) {
+				cachedResults.putIfAbsent(script, result);
+			}
+			return conditionEvaluationResult;
 		}
 		catch (ScriptException e) {
 			throw new ScriptEvaluationException("Script evaluation failed for: " + script.getAnnotationAsString(), e);
@@ -115,15 +115,31 @@ public final class Script {
 	private final String engine;
 	private final String source;
 	private final String reason;
+	private final boolean resultCacheable;
 	private final int hashCode;
 
 	public Script(Annotation annotation, String engine, String source, String reason) {
+		this(annotation, engine, source, reason, false);
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	public Script(Annotation annotation, String engine, String source, String reason, boolean resultCacheable) {
 		this(Preconditions.notNull(annotation, "annotation must not be null").annotationType(), annotation.toString(),
-			engine, source, reason);
+			engine, source, reason, resultCacheable);
 	}
 
 	public Script(Class<? extends Annotation> annotationType, String annotationAsString, String engine, String source,
 			String reason) {
+		this(annotationType, annotationAsString, engine, source, reason, false);
+	}
+
+	/**
+	 * @since 5.4
+	 */
+	public Script(Class<? extends Annotation> annotationType, String annotationAsString, String engine, String source,
+			String reason, boolean resultCacheable) {
 
 		Preconditions.notNull(annotationType, "annotationType must not be null");
 		Preconditions.notNull(annotationAsString, "annotationAsString must not be null");
@@ -136,13 +152,14 @@ public final class Script {
 		this.engine = engine;
 		this.source = source;
 		this.reason = reason;
+		this.resultCacheable = resultCacheable;
 		this.hashCode = computeHashCode();
 	}
 
 	/**
-	 * Properties {@link #annotationType} and {@link #reason} are <b>not</b>
-	 * included on purpose. This allows more cache hits when using instances
-	 * of this class as keys in a hash map.
+	 * Properties {@link #annotationAsString}, {@link #reason}, and
+	 * {@link #resultCacheable} are <b>not</b> included on purpose. This allows
+	 * more cache hits when using instances of this class as keys in a hash map.
 	 */
 	private int computeHashCode() {
 		return Objects.hash(annotationType.getTypeName(), engine, source);
@@ -157,7 +174,10 @@ public final class Script {
 			return false;
 		}
 		Script otherScript = (Script) other;
-		return this.hashCode == otherScript.hashCode;
+		return this.hashCode == otherScript.hashCode //
+				&& this.annotationType.equals(otherScript.annotationType) //
+				&& this.engine.equals(otherScript.engine) //
+				&& this.source.equals(otherScript.source);
 	}
 
 	@Override
@@ -185,6 +205,15 @@ public final class Script {
 		return source;
 	}
 
+	/**
+	 * @return whether the result of this script may be reused for all
+	 * evaluations of equal scripts
+	 * @since 5.4
+	 */
+	public boolean isResultCacheable() {
+		return resultCacheable;
+	}
+
 	/**
 	 * @return the string returned by {@link #getReason()} with all placeholders
 	 * replaced with their current values stored here.
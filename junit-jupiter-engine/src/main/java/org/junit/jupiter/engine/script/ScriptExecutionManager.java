@@ -12,7 +12,11 @@ package org.junit.jupiter.engine.script;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 
 import javax.script.Bindings;
@@ -29,14 +33,19 @@ import org.junit.platform.commons.util.Preconditions;
 /**
  * Entry point for script execution support.
  *
+ * <p>Since most script engines are not thread-safe, this class maintains a
+ * pool of script engines per engine name. Each script engine is used by a
+ * single thread at a time, and additional script engines are only created if
+ * all pooled ones are in use, so the size of each pool is bounded by the
+ * number of threads evaluating scripts concurrently.
+ *
  * @since 5.1
  */
 @API(status = INTERNAL, since = "5.1")
 public class ScriptExecutionManager {
 
 	private final ScriptEngineManager scriptEngineManager = new ScriptEngineManager();
-	private final ConcurrentMap<String, ScriptEngine> scriptEngines = new ConcurrentHashMap<>();
-	private final ConcurrentMap<Script, CompiledScript> compiledScripts = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Queue<PooledScriptEngine>> scriptEnginePools = new ConcurrentHashMap<>();
 
 	private final ScriptAccessor systemPropertyAccessor = new ScriptAccessor.SystemPropertyAccessor();
 	private final ScriptAccessor environmentVariableAccessor = new ScriptAccessor.EnvironmentVariableAccessor();
@@ -53,23 +62,18 @@ public class ScriptExecutionManager {
 	 * @throws ScriptException if an error occurs in script.
 	 */
 	public Object evaluate(Script script, Bindings bindings) throws ScriptException {
-		// Always look for a compiled script in our cache.
-		CompiledScript compiledScript = compiledScripts.get(script);
-
-		// No compiled script found?
-		if (compiledScript == null) {
-			String source = script.getSource();
-			ScriptEngine scriptEngine = scriptEngines.computeIfAbsent(script.getEngine(), this::createScriptEngine);
-			if (!(scriptEngine instanceof Compilable) || forceScriptEvaluation) {
-				return scriptEngine.eval(source, bindings);
-			}
-			// Compile and store it in our cache. Fall-through for execution
-			compiledScript = ((Compilable) scriptEngine).compile(source);
-			compiledScripts.putIfAbsent(script, compiledScript);
+		Queue<PooledScriptEngine> pool = scriptEnginePools.computeIfAbsent(script.getEngine(),
+			engine -> new ConcurrentLinkedQueue<>());
+		PooledScriptEngine pooledScriptEngine = pool.poll();
+		if (pooledScriptEngine == null) {
+			pooledScriptEngine = new PooledScriptEngine(createScriptEngine(script.getEngine()));
+		}
+		try {
+			return pooledScriptEngine.evaluate(script, bindings);
+		}
+		finally {
+			pool.offer(pooledScriptEngine);
 		}
-
-		// Let the cached compiled script do its work.
-		return compiledScript.eval(bindings);
 	}
 
 	ScriptEngine createScriptEngine(String engine) {
@@ -89,6 +93,44 @@ public class ScriptExecutionManager {
 	}
 
 	boolean isCompiledScriptsEmpty() {
-		return compiledScripts.isEmpty();
+		return scriptEnginePools.values().stream().flatMap(Queue::stream).allMatch(
+			pooledScriptEngine -> pooledScriptEngine.compiledScripts.isEmpty());
+	}
+
+	int getPooledScriptEngineCount(String engine) {
+		Queue<PooledScriptEngine> pool = scriptEnginePools.get(engine);
+		return pool == null ? 0 : pool.size();
+	}
+
+	/**
+	 * A {@link ScriptEngine} along with the scripts compiled by it; only used
+	 * by one thread at a time.
+	 */
+	private class PooledScriptEngine {
+
+		private final ScriptEngine scriptEngine;
+		private final Map<Script, CompiledScript> compiledScripts = new HashMap<>();
+
+		PooledScriptEngine(ScriptEngine scriptEngine) {
+			this.scriptEngine = scriptEngine;
+		}
+
+		Object evaluate(Script script, Bindings bindings) throws ScriptException {
+			// Always look for a compiled script in our cache.
+			CompiledScript compiledScript = compiledScripts.get(script);
+
+			// No compiled script found?
+			if (compiledScript == null) {
+				if (!(scriptEngine instanceof Compilable) || forceScriptEvaluation) {
+					return scriptEngine.eval(script.getSource(), bindings);
+				}
+				// Compile and store it in our cache. Fall-through for execution
+				compiledScript = ((Compilable) scriptEngine).compile(script.getSource());
+				compiledScripts.put(script, compiledScript);
+			}
+
+			// Let the cached compiled script do its work.
+			return compiledScript.eval(bindings);
+		}
 	}
 }
@@ -11,9 +11,11 @@
 package org.junit.jupiter.api;
 
 import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertAllConcurrently;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -23,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.function.Executable;
@@ -193,6 +196,74 @@ class AssertAllAssertionsTests {
 		assertThat(multipleFailuresError.getFailures()).hasSize(100).doesNotContainNull();
 	}
 
+	@Test
+	void assertAllConcurrentlyWithInvalidArguments() {
+		assertPrecondition("executables stream must not be null",
+			() -> assertAllConcurrently((Stream<Executable>) null));
+		assertPrecondition("individual executables must not be null",
+			() -> assertAllConcurrently(asList((Executable) null)));
+		assertPrecondition("parallelism must be greater than zero",
+			() -> assertAllConcurrently("heading", 0, Stream.of(() -> assertTrue(true))));
+	}
+
+	@Test
+	void assertAllConcurrentlyExecutesExecutablesAtTheSameTime() {
+		CountDownLatch latch = new CountDownLatch(3);
+		Executable executable = () -> {
+			latch.countDown();
+			assertTrue(latch.await(10, SECONDS), "executables were not executed concurrently");
+		};
+
+		assertAllConcurrently("heading", 3, Stream.of(executable, executable, executable));
+	}
+
+	@Test
+	void assertAllConcurrentlyReportsFailuresInOrderOfExecutables() {
+		CountDownLatch lastFailed = new CountDownLatch(1);
+		// @formatter:off
+		MultipleFailuresError multipleFailuresError = assertThrows(MultipleFailuresError.class, () ->
+			assertAllConcurrently("heading", 3, Stream.of(
+				() -> {
+					assertTrue(lastFailed.await(10, SECONDS));
+					throw new IllegalStateException();
+				},
+				() -> assertTrue(true),
+				() -> {
+					try {
+						throw new IOException();
+					}
+					finally {
+						lastFailed.countDown();
+					}
+				}
+			))
+		);
+		// @formatter:on
+
+		assertExpectedExceptionTypes(multipleFailuresError, IllegalStateException.class, IOException.class);
+		assertThat(multipleFailuresError).hasMessageStartingWith("heading (2 failures)");
+	}
+
+	@Test
+	void assertAllConcurrentlyWithExecutableThatThrowsBlacklistedException() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		Executable blockingExecutable = () -> {
+			try {
+				Thread.sleep(SECONDS.toMillis(60));
+			}
+			catch (InterruptedException e) {
+				interrupted.countDown();
+				throw e;
+			}
+		};
+
+		OutOfMemoryError outOfMemoryError = assertThrows(OutOfMemoryError.class,
+			() -> assertAllConcurrently(null, 2, Stream.of(blockingExecutable, AssertionTestUtils::runOutOfMemory)));
+
+		assertEquals("boom", outOfMemoryError.getMessage());
+		assertTrue(interrupted.await(10, SECONDS), "remaining executables were not interrupted");
+	}
+
 	private void assertPrecondition(String msg, Executable executable) {
 		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class, executable);
 		assertMessageEquals(exception, msg);
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.AssertContentEquals.CHUNK_SIZE;
+import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
+import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
+import static org.junit.jupiter.api.Assertions.assertContentEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Unit tests for JUnit Jupiter {@link Assertions}.
+ *
+ * @since 5.4
+ */
+@ExtendWith(TempDirectory.class)
+class AssertContentEqualsAssertionsTests {
+
+	@Test
+	void assertContentEqualsEmptyBuffers() {
+		assertContentEquals(ByteBuffer.allocate(0), ByteBuffer.allocateDirect(0));
+	}
+
+	@Test
+	void assertContentEqualsSpanningMultipleChunks() {
+		byte[] expected = bytes(3 * CHUNK_SIZE + 5);
+		assertContentEquals(new ByteArrayInputStream(expected), new ByteArrayInputStream(expected.clone()));
+	}
+
+	@Test
+	void assertContentEqualsExactlyOneChunk() {
+		byte[] expected = bytes(CHUNK_SIZE);
+		assertContentEquals(Channels.newChannel(new ByteArrayInputStream(expected)),
+			Channels.newChannel(new ByteArrayInputStream(expected.clone())));
+	}
+
+	@Test
+	void assertContentEqualsComparesRemainingBytesWithoutChangingPositions() {
+		ByteBuffer expected = ByteBuffer.wrap(bytes(100));
+		expected.position(10);
+		ByteBuffer actual = ByteBuffer.allocateDirect(90);
+		actual.put(bytes(100), 10, 90).flip();
+
+		assertContentEquals(expected, actual);
+
+		assertEquals(10, expected.position());
+		assertEquals(0, actual.position());
+	}
+
+	@Test
+	void assertContentEqualsWithMismatchInSecondChunk() {
+		byte[] expected = bytes(2 * CHUNK_SIZE);
+		byte[] actual = expected.clone();
+		actual[CHUNK_SIZE + 3] = '#';
+
+		AssertionFailedError error = assertThrows(AssertionFailedError.class,
+			() -> assertContentEquals(ByteBuffer.wrap(expected), ByteBuffer.wrap(actual), "golden file"));
+
+		assertMessageEquals(error, "golden file ==> contents differ at offset 65539 " //
+				+ "(showing bytes from offset 65523), " //
+				+ "expected: <64 65 66 67 68 69 6a 6b 6c 6d 6e 6f 70 71 72 73 " //
+				+ "74 75 76 77 78 79 7a 61 62 63 64 65 66 67 68 69 |defghijklmnopqrstuvwxyzabcdefghi|> " //
+				+ "but was: <64 65 66 67 68 69 6a 6b 6c 6d 6e 6f 70 71 72 73 " //
+				+ "23 75 76 77 78 79 7a 61 62 63 64 65 66 67 68 69 |defghijklmnopqrs#uvwxyzabcdefghi|>");
+	}
+
+	@Test
+	void assertContentEqualsWithShorterActualContent() {
+		AssertionFailedError error = assertThrows(AssertionFailedError.class,
+			() -> assertContentEquals(ByteBuffer.wrap(bytes(5)), ByteBuffer.wrap(bytes(3)), () -> "output"));
+
+		assertMessageEquals(error, "output ==> contents differ at offset 3, actual content ends "
+				+ "(showing bytes from offset 0), expected: <61 62 63 64 65 |abcde|> but was: <61 62 63 |abc|>");
+	}
+
+	@Test
+	void assertContentEqualsWithShorterExpectedContent() {
+		AssertionFailedError error = assertThrows(AssertionFailedError.class,
+			() -> assertContentEquals(new ByteArrayInputStream(new byte[0]), new ByteArrayInputStream(new byte[1])));
+
+		assertMessageEquals(error, "contents differ at offset 0, expected content ends " //
+				+ "(showing bytes from offset 0), expected: <||> but was: <00 |.|>");
+	}
+
+	@Test
+	void assertContentEqualsForFiles(@TempDir Path tempDir) throws IOException {
+		byte[] content = bytes(CHUNK_SIZE + 1);
+		Path expected = Files.write(tempDir.resolve("expected.bin"), content);
+		Path actual = Files.write(tempDir.resolve("actual.bin"), content);
+
+		assertContentEquals(expected, actual);
+
+		content[CHUNK_SIZE] = 0;
+		Files.write(actual, content);
+		AssertionFailedError error = assertThrows(AssertionFailedError.class,
+			() -> assertContentEquals(expected, actual));
+		assertMessageStartsWith(error, "contents differ at offset 65536 (showing bytes from offset 65520)");
+	}
+
+	@Test
+	void assertContentEqualsForMissingFile(@TempDir Path tempDir) throws IOException {
+		Path expected = Files.write(tempDir.resolve("expected.bin"), bytes(1));
+
+		assertThrows(IOException.class, () -> assertContentEquals(expected, tempDir.resolve("missing.bin")));
+	}
+
+	@Test
+	void assertContentEqualsWithNullArguments() {
+		assertThrows(PreconditionViolationException.class,
+			() -> assertContentEquals(null, ByteBuffer.allocate(0)));
+		assertThrows(PreconditionViolationException.class,
+			() -> assertContentEquals(new ByteArrayInputStream(new byte[0]), null));
+	}
+
+	private static byte[] bytes(int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = (byte) ('a' + i % 26);
+		}
+		return bytes;
+	}
+
+}
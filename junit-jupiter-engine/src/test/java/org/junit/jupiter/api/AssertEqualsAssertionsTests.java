@@ -10,13 +10,24 @@
 
 package org.junit.jupiter.api;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.AssertionTestUtils.assertExpectedAndActualValues;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEndsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.function.Executable;
 import org.opentest4j.AssertionFailedError;
@@ -593,6 +604,85 @@ class AssertEqualsAssertionsTests {
 		}
 	}
 
+	@Test
+	void assertEqualsWithLargeUnequalListsTruncatesValuesInMessage() {
+		List<Integer> expected = IntStream.range(0, 100_000).boxed().collect(toList());
+		List<Integer> actual = new ArrayList<>(expected);
+		actual.set(99_999, -1);
+		try {
+			assertEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageStartsWith(ex, "expected: <[0, 1, 2, 3, ");
+			assertMessageEndsWith(ex, "(first mismatch at index 99999)");
+			assertTrue(ex.getMessage().contains("... (100000 elements, hash: "));
+			assertTrue(ex.getMessage().length() < 2 * AssertionUtils.DEFAULT_MAX_VALUE_LENGTH + 200);
+			assertExpectedAndActualValues(ex, expected, actual);
+		}
+	}
+
+	@Test
+	void formatValuesTruncatesValuesExceedingMaxLength() {
+		assertEquals("expected: <abcde... (12 characters, hash: 123e8ce5)> " //
+				+ "but was: <abcde... (12 characters, hash: 123e8cd1)>",
+			AssertionUtils.formatValues("abcdefghijkl", "abcdefghijkX", 5));
+		assertEquals("expected: <[1, 2, 3, ... (5 elements, hash: 1c3e4c1)> " //
+				+ "but was: <[1, 2, 3, ... (5 elements, hash: 1c3e4c2)> (first mismatch at index 4)",
+			AssertionUtils.formatValues(new int[] { 1, 2, 3, 4, 5 }, new int[] { 1, 2, 3, 4, 6 }, 10));
+		assertEquals("expected: <[1, 2, 3]> but was: <[1, 2, 4]>",
+			AssertionUtils.formatValues(Arrays.asList(1, 2, 3), Arrays.asList(1, 2, 4), 10));
+	}
+
+	@Test
+	void formatValuesTruncatesMapsExceedingMaxLength() {
+		Map<Integer, Integer> expected = new LinkedHashMap<>();
+		Map<Integer, Integer> actual = new LinkedHashMap<>();
+		for (int i = 1; i <= 5; i++) {
+			expected.put(i, i);
+			actual.put(i, i == 5 ? 6 : i);
+		}
+		assertEquals("expected: <{1=1, 2=2,... (5 elements, hash: 1f)> " //
+				+ "but was: <{1=1, 2=2,... (5 elements, hash: 22)>",
+			AssertionUtils.formatValues(expected, actual, 10));
+	}
+
+	@Test
+	void formatValuesDoesNotIterateIterablesThatAreNotCollections() {
+		Iterable<Integer> iterable = new Iterable<Integer>() {
+
+			@Override
+			public Iterator<Integer> iterator() {
+				throw new AssertionError("must not be iterated");
+			}
+
+			@Override
+			public String toString() {
+				return "abcdefghijkl";
+			}
+		};
+
+		assertFalse(AssertionUtils.exceedsMaxValueLength(iterable, 5));
+		assertTrue(AssertionUtils.formatValues(iterable, "abc", 5).startsWith(
+			"expected: <abcde... (12 characters, hash: "));
+	}
+
+	@Test
+	void formatValuesDoesNotSplitSurrogatePairsWhenTruncating() {
+		assertEquals("expected: <abcd... (9 characters, hash: 5deb24a1)> " //
+				+ "but was: <abcd... (9 characters, hash: 5deb2491)>",
+			AssertionUtils.formatValues("abcd\uD83D\uDE00fgh", "abcd\uD83D\uDE00fgX", 5));
+	}
+
+	@Test
+	void parseMaxValueLength() {
+		assertEquals(42, AssertionUtils.parseMaxValueLength("42"));
+		assertEquals(AssertionUtils.DEFAULT_MAX_VALUE_LENGTH, AssertionUtils.parseMaxValueLength(null));
+		assertEquals(AssertionUtils.DEFAULT_MAX_VALUE_LENGTH, AssertionUtils.parseMaxValueLength(" "));
+		assertEquals(AssertionUtils.DEFAULT_MAX_VALUE_LENGTH, AssertionUtils.parseMaxValueLength("0"));
+		assertEquals(AssertionUtils.DEFAULT_MAX_VALUE_LENGTH, AssertionUtils.parseMaxValueLength("many"));
+	}
+
 	// -------------------------------------------------------------------------
 
 	@Nested
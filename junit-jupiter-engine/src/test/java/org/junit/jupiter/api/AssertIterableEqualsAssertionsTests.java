@@ -10,16 +10,22 @@
 
 package org.junit.jupiter.api;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEndsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.IterableFactory.listOf;
 import static org.junit.jupiter.api.IterableFactory.setOf;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.opentest4j.AssertionFailedError;
 
@@ -439,4 +445,20 @@ class AssertIterableEqualsAssertionsTests {
 		}
 	}
 
+	@Test
+	void assertIterableEqualsWithLargeUnequalMapsTruncatesValuesInMessage() {
+		Map<Integer, Integer> expected = IntStream.range(0, 100_000).boxed().collect(toMap(identity(), identity()));
+		Map<Integer, Integer> actual = new HashMap<>(expected);
+		actual.put(5, -1);
+		try {
+			assertIterableEquals(listOf(expected), listOf(actual));
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageStartsWith(ex, "iterable contents differ at index [0], expected: <{0=0, 1=1, 2=2, ");
+			assertTrue(ex.getMessage().contains("... (100000 elements, hash: "));
+			assertTrue(ex.getMessage().length() < 2 * AssertionUtils.DEFAULT_MAX_VALUE_LENGTH + 200);
+		}
+	}
+
 }
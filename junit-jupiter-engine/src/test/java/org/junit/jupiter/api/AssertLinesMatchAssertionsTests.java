@@ -10,22 +10,28 @@
 
 package org.junit.jupiter.api;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.AssertLinesMatch.isFastForwardLine;
 import static org.junit.jupiter.api.AssertLinesMatch.parseFastForwardLimit;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
+import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertLinesMatch;
+import static org.junit.jupiter.api.Assertions.assertLinesMatchLazily;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.opentest4j.AssertionFailedError;
@@ -206,6 +212,64 @@ class AssertLinesMatchAssertionsTests {
 		assertLinesMatch(expectedErrorMessageLines, Arrays.asList(error.getMessage().split("\\R")));
 	}
 
+	@Test
+	void assertLinesMatchStreamUsingRegexPatternsAndFastForwardMarkers() {
+		List<String> expected = Arrays.asList("first line", ">> 2 >>", "line \\d+", ">> skip >>", "last line");
+		Stream<String> actual = Stream.of("first line", "I", "II", "line 3", "IV", "V", "last line");
+		assertLinesMatchLazily(expected, actual);
+	}
+
+	@Test
+	void assertLinesMatchIteratorWithManyLines() {
+		List<String> expected = Arrays.asList("line \\d", ">> many lines >>", "line 9{6}");
+		Iterator<String> actual = IntStream.range(0, 1_000_000).mapToObj(i -> "line " + i).iterator();
+		assertLinesMatchLazily(expected, actual);
+	}
+
+	@Test
+	void assertLinesMatchStreamWithNullFails() {
+		assertThrows(PreconditionViolationException.class,
+			() -> assertLinesMatchLazily(null, Stream.of("first line")));
+		assertThrows(PreconditionViolationException.class,
+			() -> assertLinesMatchLazily(Collections.emptyList(), (Stream<String>) null));
+		Throwable error = assertThrows(PreconditionViolationException.class,
+			() -> assertLinesMatchLazily(Arrays.asList("1", "2"), Arrays.asList("1", null).iterator()));
+		assertMessageEquals(error, "actual line must not be null");
+	}
+
+	@Test
+	void assertLinesMatchStreamShowsOnlyLinesAroundMismatch() {
+		List<String> expected = IntStream.range(1, 100).mapToObj(i -> "line " + i).collect(toList());
+		Stream<String> actual = IntStream.range(1, 100).mapToObj(i -> i == 50 ? "other line" : "line " + i);
+		Error error = assertThrows(AssertionFailedError.class, () -> assertLinesMatchLazily(expected, actual));
+		List<String> errorMessageLines = Arrays.asList(error.getMessage().split("\\R"));
+		assertLinesMatch(Arrays.asList( //
+			"expected line #50:`line 50` doesn't match (actual line #50) ==> expected: <line 40", //
+			">> 19 >>", //
+			"line 60> but was: <line 40", //
+			">> 9 >>", //
+			"other line", //
+			">> 9 >>", //
+			"line 60>"), errorMessageLines);
+	}
+
+	@Test
+	void assertLinesMatchStreamMoreActualLinesThanExpectedFails() {
+		List<String> expected = Arrays.asList("first line", "second line");
+		Stream<String> actual = IntStream.range(0, 1000).mapToObj(i -> i == 0 ? "first line" : "line " + i);
+		Error error = assertThrows(AssertionFailedError.class,
+			() -> assertLinesMatchLazily(expected, Stream.concat(Stream.of("first line", "second line"), actual)));
+		assertMessageStartsWith(error, "more actual lines than expected: 1000 (actual line #3) ==> ");
+	}
+
+	@Test
+	void assertLinesMatchUsingFastForwardMarkerWithLimitExceedingActualLinesFails() {
+		List<String> expected = Arrays.asList("first line", ">> 5 >>", "last line");
+		List<String> actual = Arrays.asList("first line", "skipped", "last line");
+		Error error = assertThrows(AssertionFailedError.class, () -> assertLinesMatch(expected, actual));
+		assertMessageStartsWith(error, "expected line #3:`last line` not found - actual lines depleted");
+	}
+
 	@Test
 	void assertLinesMatchIsFastForwardLine() {
 		assertAll("valid fast-forward lines", //
@@ -12,12 +12,16 @@ package org.junit.jupiter.api.support.io;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+import static org.junit.jupiter.api.support.io.TempDirectory.CLEANUP_MODE_PROPERTY_NAME;
+import static org.junit.platform.testkit.engine.EventConditions.engine;
+import static org.junit.platform.testkit.engine.EventConditions.event;
 import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.cause;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
@@ -32,10 +36,13 @@ import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.spi.FileSystemProvider;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Supplier;
 
 import com.google.common.jimfs.Jimfs;
@@ -73,6 +80,8 @@ import org.junit.platform.testkit.engine.EngineExecutionResults;
 @DisplayName("TempDirectory extension")
 class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 
+	private static final String TEMPLATE = "src/test/resources/tempdir-template";
+
 	@BeforeEach
 	@AfterEach
 	void resetStaticVariables() {
@@ -80,6 +89,7 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 		BaseSharedTempDirParameterInjectionTestCase.tempDir = null;
 		BaseSeparateTempDirsFieldInjectionTestCase.tempDirs.clear();
 		BaseSeparateTempDirsParameterInjectionTestCase.tempDirs.clear();
+		DirectoryTreeTestCase.tempDirs.clear();
 	}
 
 	@Test
@@ -236,6 +246,86 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	@Nested
+	@DisplayName("deletes temp dir")
+	class Cleanup {
+
+		@Test
+		@DisplayName("sequentially by default")
+		void deletesTempDirSequentiallyByDefault() {
+			var results = executeTestsForClass(DirectoryTreeTestCase.class);
+
+			assertTempDirsDeleted(results);
+		}
+
+		@Test
+		@DisplayName("in parallel")
+		void deletesTempDirInParallel() {
+			assertTempDirsDeleted(executeTests(CLEANUP_MODE_PROPERTY_NAME, "parallel", DirectoryTreeTestCase.class));
+		}
+
+		@Test
+		@DisplayName("deferred until the end of the test run")
+		void deletesTempDirDeferred() {
+			assertTempDirsDeleted(executeTests(CLEANUP_MODE_PROPERTY_NAME, "deferred", DirectoryTreeTestCase.class));
+		}
+
+		@Test
+		@DisplayName("sequentially for unsupported cleanup mode")
+		void deletesTempDirSequentiallyForUnsupportedCleanupMode() {
+			assertTempDirsDeleted(executeTests(CLEANUP_MODE_PROPERTY_NAME, "bogus", DirectoryTreeTestCase.class));
+		}
+
+		@Test
+		@DisplayName("and reports deferred failures at the end of the test run")
+		void reportsFailedDeferredDeletionAttemptAtEndOfTestRun() {
+			var results = executeTests(CLEANUP_MODE_PROPERTY_NAME, "deferred", FailedDeletionAttemptTestCase.class);
+
+			results.tests().assertStatistics(stats -> stats.started(1).succeeded(1));
+			results.containers().assertThatEvents() //
+					.haveExactly(1, event(engine(), finishedWithFailure(instanceOf(IOException.class),
+						message(actual -> actual.contains("Failed to delete temp directory")))));
+		}
+
+		private void assertTempDirsDeleted(EngineExecutionResults results) {
+			results.tests().assertStatistics(stats -> stats.started(2).succeeded(2));
+			assertThat(DirectoryTreeTestCase.tempDirs).hasSize(2).noneMatch(Files::exists);
+		}
+	}
+
+	@Nested
+	@DisplayName("populates temp dir from template")
+	class Template {
+
+		@Test
+		@DisplayName("by copying files")
+		void copiesTemplateFiles() {
+			executeTestsForClass(TemplateTestCase.class).tests().assertStatistics(
+				stats -> stats.started(1).succeeded(1));
+		}
+
+		@Test
+		@DisplayName("by linking files")
+		void linksTemplateFiles() {
+			executeTestsForClass(LinkedTemplateTestCase.class).tests().assertStatistics(
+				stats -> stats.started(1).succeeded(1));
+		}
+
+		@Test
+		@DisplayName("and reports missing template")
+		void missingTemplateMakesTestFail() {
+			var results = executeTestsForClass(MissingTemplateTestCase.class);
+
+			// @formatter:off
+			assertSingleFailedTest(results,
+				instanceOf(ParameterResolutionException.class),
+					cause(instanceOf(ExtensionConfigurationException.class)),
+					cause(message(m -> m.startsWith("Failed to populate temp directory from template"))),
+						cause(cause(instanceOf(IOException.class))));
+			// @formatter:on
+		}
+	}
+
 	@Nested
 	@DisplayName("reports failure")
 	@TestMethodOrder(OrderAnnotation.class)
@@ -961,6 +1051,70 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	@ExtendWith(TempDirectory.class)
+	static class DirectoryTreeTestCase {
+
+		static final Deque<Path> tempDirs = new ConcurrentLinkedDeque<>();
+
+		@Test
+		void test1(@TempDir Path tempDir) throws Exception {
+			createDirectoryTree(tempDir);
+		}
+
+		@Test
+		void test2(@TempDir Path tempDir) throws Exception {
+			createDirectoryTree(tempDir);
+		}
+
+		private static void createDirectoryTree(Path tempDir) throws IOException {
+			tempDirs.add(tempDir);
+			for (int i = 0; i < 5; i++) {
+				Path dir = Files.createDirectories(tempDir.resolve("dir" + i).resolve("subdir"));
+				for (int j = 0; j < 5; j++) {
+					Files.write(dir.resolve("file" + j + ".txt"), new byte[] { 42 });
+				}
+			}
+		}
+	}
+
+	@ExtendWith(TempDirectory.class)
+	static class TemplateTestCase {
+
+		@Test
+		void test(@TempDir(template = TEMPLATE) Path tempDir) throws Exception {
+			assertTemplateContents(tempDir);
+			assertFalse(Files.isSameFile(tempDir.resolve("readme.txt"), Paths.get(TEMPLATE, "readme.txt")));
+		}
+	}
+
+	@ExtendWith(TempDirectory.class)
+	static class LinkedTemplateTestCase {
+
+		@Test
+		void test(@TempDir(template = TEMPLATE, linkTemplateFiles = true) Path tempDir) throws Exception {
+			assertTemplateContents(tempDir);
+			// hard links cannot span file stores, in which case files are copied instead
+			Path templateFile = Paths.get(TEMPLATE, "readme.txt");
+			if (Files.getFileStore(tempDir).equals(Files.getFileStore(templateFile))) {
+				assertTrue(Files.isSameFile(tempDir.resolve("readme.txt"), templateFile));
+			}
+		}
+	}
+
+	@ExtendWith(TempDirectory.class)
+	static class MissingTemplateTestCase {
+
+		@Test
+		void test(@SuppressWarnings("unused") @TempDir(template = "does/not/exist") Path tempDir) {
+			fail("this should never be called");
+		}
+	}
+
+	private static void assertTemplateContents(Path tempDir) throws IOException {
+		assertEquals(List.of("template"), Files.readAllLines(tempDir.resolve("readme.txt")));
+		assertEquals(List.of("nested template"), Files.readAllLines(tempDir.resolve("nested").resolve("data.txt")));
+	}
+
 	private static void writeFile(Path tempDir, TestInfo testInfo) throws IOException {
 		Path file = tempDir.resolve(testInfo.getTestMethod().orElseThrow().getName() + ".txt");
 		Files.write(file, testInfo.getDisplayName().getBytes());
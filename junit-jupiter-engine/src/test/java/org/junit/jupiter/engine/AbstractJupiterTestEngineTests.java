@@ -45,6 +45,14 @@ public abstract class AbstractJupiterTestEngineTests {
 		return EngineTestKit.execute(this.engine, request);
 	}
 
+	protected EngineExecutionResults executeTests(String configurationParameterName, String value,
+			Class<?> testClass) {
+		return executeTests(request() //
+				.selectors(selectClass(testClass)) //
+				.configurationParameter(configurationParameterName, value) //
+				.build());
+	}
+
 	protected TestDescriptor discoverTests(DiscoverySelector... selectors) {
 		return discoverTests(request().selectors(selectors).build());
 	}
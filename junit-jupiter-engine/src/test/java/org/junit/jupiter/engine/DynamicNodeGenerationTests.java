@@ -18,6 +18,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.DEFAULT_PARALLEL_EXECUTION_MODE;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_CONTAINER_SEGMENT_TYPE;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_TEST_SEGMENT_TYPE;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
@@ -41,9 +46,11 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.DynamicContainer;
 import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
@@ -404,6 +411,50 @@ class DynamicNodeGenerationTests extends AbstractJupiterTestEngineTests {
 			event(engine(), finishedSuccessfully()));
 	}
 
+	@Test
+	void dynamicTestsAreStreamedWhenMaxInFlightDynamicNodesIsConfigured() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(StreamingDynamicTestCase.class, "streamingFactory")) //
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent") //
+				.configurationParameter(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed") //
+				.configurationParameter(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4") //
+				.configurationParameter(TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME, "2") //
+				.build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		executionResults.tests().assertStatistics(stats -> stats.started(10).succeeded(10));
+		assertThat(StreamingDynamicTestCase.maxInFlightBeforeProducingNextTest.get()).isLessThan(2);
+
+		TestDescriptor factoryDescriptor = executionResults.containers().started() //
+				.filter(event -> event.getTestDescriptor().getUniqueId().toString().contains("streamingFactory")) //
+				.map(Event::getTestDescriptor) //
+				.findFirst().get();
+		assertThat(factoryDescriptor.getChildren()).as("children of finished factory").isEmpty();
+	}
+
+	@Test
+	void finishedDynamicTestsOfDynamicContainersAreDetachedWhenMaxInFlightDynamicNodesIsConfigured() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(StreamingDynamicTestCase.class, "streamingContainer")) //
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent") //
+				.configurationParameter(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed") //
+				.configurationParameter(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4") //
+				.configurationParameter(TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME, "2") //
+				.build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		executionResults.tests().assertStatistics(stats -> stats.started(10).succeeded(10));
+		TestDescriptor containerDescriptor = executionResults.containers().started() //
+				.map(Event::getTestDescriptor) //
+				.filter(descriptor -> descriptor.getUniqueId().toString().contains(DYNAMIC_CONTAINER_SEGMENT_TYPE)) //
+				.findFirst().get();
+		assertThat(containerDescriptor.getChildren()).as("children of finished container").isEmpty();
+	}
+
 	static class MyDynamicTestCase {
 
 		private static final List<DynamicTest> list = Arrays.asList(
@@ -477,4 +528,30 @@ class DynamicNodeGenerationTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	static class StreamingDynamicTestCase {
+
+		private static final AtomicInteger finished = new AtomicInteger();
+		private static final AtomicInteger maxInFlightBeforeProducingNextTest = new AtomicInteger();
+
+		@TestFactory
+		Stream<DynamicTest> streamingFactory() {
+			finished.set(0);
+			maxInFlightBeforeProducingNextTest.set(0);
+			return IntStream.range(0, 10).mapToObj(produced -> {
+				maxInFlightBeforeProducingNextTest.accumulateAndGet(produced - finished.get(), Math::max);
+				return dynamicTest("test" + produced, () -> {
+					Thread.sleep(10);
+					finished.incrementAndGet();
+				});
+			});
+		}
+
+		@TestFactory
+		DynamicContainer streamingContainer() {
+			return dynamicContainer("container",
+				IntStream.range(0, 10).mapToObj(index -> dynamicTest("test" + index, () -> Thread.sleep(10))));
+		}
+
+	}
+
 }
@@ -16,6 +16,11 @@ import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.engine.Constants.DEFAULT_PARALLEL_EXECUTION_MODE;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
@@ -38,7 +43,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.Condition;
@@ -377,6 +384,42 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 				event(container("templateWithCloseableStream"), finishedSuccessfully())));
 	}
 
+	@Test
+	void templateWithLimitedNumberOfInFlightInvocations() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyTestTemplateTestCase.class, "templateWithManySlowInvocations")) //
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent") //
+				.configurationParameter(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed") //
+				.configurationParameter(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4") //
+				.configurationParameter(TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME, "2") //
+				.build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		executionResults.tests().assertStatistics(stats -> stats.started(10).succeeded(10));
+		assertThat(ManySlowInvocationsContextProvider.maxConcurrentInvocations.get()).isEqualTo(2);
+	}
+
+	@Test
+	void finishedInvocationsAreDetachedIfNumberOfInFlightInvocationsIsLimited() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyTestTemplateTestCase.class, "templateWithManySlowInvocations")) //
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent") //
+				.configurationParameter(PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "fixed") //
+				.configurationParameter(PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME, "4") //
+				.configurationParameter(TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME, "2") //
+				.build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		executionResults.tests().assertStatistics(stats -> stats.started(10).succeeded(10));
+		TestDescriptor templateMethodDescriptor = findTestDescriptor(executionResults,
+			container("templateWithManySlowInvocations"));
+		assertThat(templateMethodDescriptor.getChildren()).isEmpty();
+	}
+
 	private TestDescriptor findTestDescriptor(EngineExecutionResults executionResults, Condition<Event> condition) {
 		// @formatter:off
 		return executionResults.all()
@@ -474,6 +517,15 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 		@TestTemplate
 		void templateWithCloseableStream() {
 		}
+
+		@ExtendWith(ManySlowInvocationsContextProvider.class)
+		@TestTemplate
+		void templateWithManySlowInvocations() throws Exception {
+			int running = ManySlowInvocationsContextProvider.runningInvocations.incrementAndGet();
+			ManySlowInvocationsContextProvider.maxConcurrentInvocations.accumulateAndGet(running, Math::max);
+			Thread.sleep(50);
+			ManySlowInvocationsContextProvider.runningInvocations.decrementAndGet();
+		}
 	}
 
 	@ExtendWith(StringParameterResolvingInvocationContextProvider.class)
@@ -784,6 +836,24 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	private static class ManySlowInvocationsContextProvider implements TestTemplateInvocationContextProvider {
+
+		private static final AtomicInteger runningInvocations = new AtomicInteger();
+		private static final AtomicInteger maxConcurrentInvocations = new AtomicInteger();
+
+		@Override
+		public boolean supportsTestTemplate(ExtensionContext context) {
+			return true;
+		}
+
+		@Override
+		public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+			runningInvocations.set(0);
+			maxConcurrentInvocations.set(0);
+			return IntStream.range(0, 10).mapToObj(i -> emptyTestTemplateInvocationContext());
+		}
+	}
+
 	private static TestTemplateInvocationContext emptyTestTemplateInvocationContext() {
 		return new TestTemplateInvocationContext() {
 		};
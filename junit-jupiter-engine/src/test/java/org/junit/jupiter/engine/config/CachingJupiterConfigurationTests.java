@@ -98,4 +98,26 @@ class CachingJupiterConfigurationTests {
 		verifyNoMoreInteractions(delegate);
 	}
 
+	@Test
+	void cachesTestTemplateMaxInFlightInvocations() {
+		when(delegate.getTestTemplateMaxInFlightInvocations()).thenReturn(42);
+
+		assertThat(cache.getTestTemplateMaxInFlightInvocations()).isEqualTo(42);
+		assertThat(cache.getTestTemplateMaxInFlightInvocations()).isEqualTo(42);
+
+		verify(delegate, times(1)).getTestTemplateMaxInFlightInvocations();
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	void cachesTestFactoryMaxInFlightDynamicNodes() {
+		when(delegate.getTestFactoryMaxInFlightDynamicNodes()).thenReturn(42);
+
+		assertThat(cache.getTestFactoryMaxInFlightDynamicNodes()).isEqualTo(42);
+		assertThat(cache.getTestFactoryMaxInFlightDynamicNodes()).isEqualTo(42);
+
+		verify(delegate, times(1)).getTestFactoryMaxInFlightDynamicNodes();
+		verifyNoMoreInteractions(delegate);
+	}
+
 }
@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_METHOD;
 import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -59,6 +61,46 @@ class DefaultJupiterConfigurationTests {
 		);
 	}
 
+	@Test
+	void getTestTemplateMaxInFlightInvocationsWithConfigParamSet() {
+		assertAll(//
+			() -> assertMaxInFlightInvocations(null, Integer.MAX_VALUE), //
+			() -> assertMaxInFlightInvocations("", Integer.MAX_VALUE), //
+			() -> assertMaxInFlightInvocations("bogus", Integer.MAX_VALUE), //
+			() -> assertMaxInFlightInvocations("0", Integer.MAX_VALUE), //
+			() -> assertMaxInFlightInvocations("-1", Integer.MAX_VALUE), //
+			() -> assertMaxInFlightInvocations("1", 1), //
+			() -> assertMaxInFlightInvocations("  42  ", 42) //
+		);
+	}
+
+	@Test
+	void getTestFactoryMaxInFlightDynamicNodesWithConfigParamSet() {
+		assertAll(//
+			() -> assertMaxInFlightDynamicNodes(null, Integer.MAX_VALUE), //
+			() -> assertMaxInFlightDynamicNodes("bogus", Integer.MAX_VALUE), //
+			() -> assertMaxInFlightDynamicNodes("0", Integer.MAX_VALUE), //
+			() -> assertMaxInFlightDynamicNodes("1", 1), //
+			() -> assertMaxInFlightDynamicNodes(" 23 ", 23) //
+		);
+	}
+
+	private void assertMaxInFlightDynamicNodes(String configValue, int expected) {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(TEST_FACTORY_MAX_IN_FLIGHT_DYNAMIC_NODES_PROPERTY_NAME)).thenReturn(
+			Optional.ofNullable(configValue));
+		int maxInFlight = new DefaultJupiterConfiguration(configParams).getTestFactoryMaxInFlightDynamicNodes();
+		assertThat(maxInFlight).isEqualTo(expected);
+	}
+
+	private void assertMaxInFlightInvocations(String configValue, int expected) {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(TEST_TEMPLATE_MAX_IN_FLIGHT_INVOCATIONS_PROPERTY_NAME)).thenReturn(
+			Optional.ofNullable(configValue));
+		int maxInFlight = new DefaultJupiterConfiguration(configParams).getTestTemplateMaxInFlightInvocations();
+		assertThat(maxInFlight).isEqualTo(expected);
+	}
+
 	private void assertDefaultConfigParam(String configValue, Lifecycle expected) {
 		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
 		when(configParams.get(KEY)).thenReturn(Optional.ofNullable(configValue));
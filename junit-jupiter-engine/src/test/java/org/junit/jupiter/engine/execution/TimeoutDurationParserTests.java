@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.format.DateTimeParseException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimeoutDurationParser}.
+ *
+ * @since 5.4
+ */
+class TimeoutDurationParserTests {
+
+	private final TimeoutDurationParser parser = new TimeoutDurationParser();
+
+	@Test
+	void parsesNumberWithoutUnitIntoSeconds() {
+		assertThat(parser.parse("42")).isEqualTo(new TimeoutDuration(42, SECONDS));
+	}
+
+	@Test
+	void parsesNumbersWithUnits() {
+		assertThat(parser.parse("1 ns")).isEqualTo(new TimeoutDuration(1, NANOSECONDS));
+		assertThat(parser.parse("2 μs")).isEqualTo(new TimeoutDuration(2, MICROSECONDS));
+		assertThat(parser.parse("3 ms")).isEqualTo(new TimeoutDuration(3, MILLISECONDS));
+		assertThat(parser.parse("4 s")).isEqualTo(new TimeoutDuration(4, SECONDS));
+		assertThat(parser.parse("5 m")).isEqualTo(new TimeoutDuration(5, MINUTES));
+		assertThat(parser.parse("6 h")).isEqualTo(new TimeoutDuration(6, HOURS));
+		assertThat(parser.parse("7 d")).isEqualTo(new TimeoutDuration(7, DAYS));
+	}
+
+	@Test
+	void ignoresCaseAndOptionalSpace() {
+		assertThat(parser.parse("42MS")).isEqualTo(new TimeoutDuration(42, MILLISECONDS));
+		assertThat(parser.parse(" 42 H ")).isEqualTo(new TimeoutDuration(42, HOURS));
+	}
+
+	@Test
+	void rejectsInvalidValues() {
+		Stream.of("", "0", "-1", "1.5", "1 y", "1  s", "ms").forEach(
+			text -> assertThrows(DateTimeParseException.class, () -> parser.parse(text), text));
+	}
+
+	@Test
+	void rendersHumanReadableString() {
+		assertThat(new TimeoutDuration(1, SECONDS)).hasToString("1 second");
+		assertThat(new TimeoutDuration(10, MILLISECONDS)).hasToString("10 milliseconds");
+	}
+
+}
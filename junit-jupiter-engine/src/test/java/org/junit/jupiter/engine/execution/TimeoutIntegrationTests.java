@@ -0,0 +1,273 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Timeout.DEFAULT_BEFORE_ALL_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_TEST_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.api.Timeout.DEFAULT_TIMEOUT_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.testkit.engine.EventConditions.container;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessfully;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.suppressed;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+
+/**
+ * Integration tests for {@link Timeout @Timeout} and the default timeouts that
+ * can be configured via configuration parameters.
+ *
+ * @since 5.4
+ */
+class TimeoutIntegrationTests extends AbstractJupiterTestEngineTests {
+
+	@Test
+	void testMethodExceedingAnnotatedTimeoutIsInterruptedAndFails() {
+		executeTestsForClass(TimeoutExceedingTestCase.class).tests().assertThatEvents() //
+				.haveExactly(1, event(test("testMethod"), //
+					finishedWithFailure(instanceOf(TimeoutException.class),
+						message("testMethod() timed out after 10 milliseconds"),
+						suppressed(0, instanceOf(InterruptedException.class)))));
+	}
+
+	@Test
+	void testMethodNotReactingToInterruptsFailsOnceCompleted() {
+		executeTestsForClass(NonInterruptibleTimeoutExceedingTestCase.class).tests().assertThatEvents() //
+				.haveExactly(1, event(test("testMethod"), //
+					finishedWithFailure(instanceOf(TimeoutException.class),
+						message("testMethod() timed out after 10 milliseconds"))));
+	}
+
+	@Test
+	void testMethodCompletingWithinTimeoutSucceeds() {
+		executeTestsForClass(TimeoutNotExceedingTestCase.class).tests().assertStatistics(
+			stats -> stats.started(1).succeeded(1));
+	}
+
+	@Test
+	void interruptedStatusDoesNotLeakIntoSubsequentMethods() {
+		executeTestsForClass(TimeoutExceedingWithAfterEachTestCase.class).tests().assertStatistics(
+			stats -> stats.started(1).failed(1));
+		assertThat(TimeoutExceedingWithAfterEachTestCase.interruptedInAfterEach).isFalse();
+	}
+
+	@Test
+	void classLevelAnnotationAppliesToTestMethodsOfNestedClasses() {
+		executeTestsForClass(TimeoutOnClassTestCase.class).tests().assertThatEvents() //
+				.haveExactly(1, event(test("testMethod"), //
+					finishedWithFailure(instanceOf(TimeoutException.class),
+						message("testMethod() timed out after 10 milliseconds")))) //
+				.haveExactly(1, event(test("nestedTestMethod"), //
+					finishedWithFailure(instanceOf(TimeoutException.class),
+						message("nestedTestMethod() timed out after 10 milliseconds"))));
+	}
+
+	@Test
+	void classLevelAnnotationDoesNotApplyToLifecycleMethods() {
+		executeTestsForClass(TimeoutOnClassWithSlowBeforeEachTestCase.class).tests().assertStatistics(
+			stats -> stats.started(1).succeeded(1));
+	}
+
+	@Test
+	void methodLevelAnnotationOverridesClassLevelAnnotation() {
+		executeTestsForClass(TimeoutOnClassOverriddenByMethodTestCase.class).tests().assertStatistics(
+			stats -> stats.started(1).succeeded(1));
+	}
+
+	@Test
+	void appliesDefaultTimeoutForTestMethods() {
+		EngineExecutionResults results = executeTests(DEFAULT_TEST_METHOD_TIMEOUT_PROPERTY_NAME, "10ms",
+			SlowTestCase.class);
+
+		results.tests().assertThatEvents() //
+				.haveExactly(1, event(test("testMethod"), //
+					finishedWithFailure(instanceOf(TimeoutException.class),
+						message("testMethod() timed out after 10 milliseconds")))) //
+				.haveExactly(1, event(test("repeatedTestMethod"), finishedSuccessfully()));
+	}
+
+	@Test
+	void appliesDefaultTimeoutForLifecycleMethods() {
+		EngineExecutionResults results = executeTests(DEFAULT_BEFORE_ALL_METHOD_TIMEOUT_PROPERTY_NAME, "10 ms",
+			SlowTestCase.class);
+
+		results.containers().assertThatEvents() //
+				.haveExactly(1, event(container(SlowTestCase.class), //
+					finishedWithFailure(instanceOf(TimeoutException.class),
+						message("beforeAll() timed out after 10 milliseconds"))));
+	}
+
+	@Test
+	void moreSpecificDefaultTimeoutOverridesGeneralDefaultTimeout() {
+		EngineExecutionResults results = executeTests(request() //
+				.selectors(selectClass(SlowTestCase.class)) //
+				.configurationParameter(DEFAULT_TIMEOUT_PROPERTY_NAME, "10 ms") //
+				.configurationParameter(DEFAULT_BEFORE_ALL_METHOD_TIMEOUT_PROPERTY_NAME, "1 d") //
+				.configurationParameter(DEFAULT_TEST_METHOD_TIMEOUT_PROPERTY_NAME, "1 d") //
+				.build());
+
+		results.containers().assertStatistics(stats -> stats.failed(0));
+		results.tests().assertThatEvents() //
+				.haveExactly(1, event(test("repeatedTestMethod"), //
+					finishedWithFailure(instanceOf(TimeoutException.class),
+						message("repeatedTestMethod() timed out after 10 milliseconds"))));
+	}
+
+	@Test
+	void ignoresInvalidDefaultTimeout() {
+		EngineExecutionResults results = executeTests(DEFAULT_TIMEOUT_PROPERTY_NAME, "ten seconds",
+			SlowTestCase.class);
+
+		results.containers().assertStatistics(stats -> stats.failed(0));
+		results.tests().assertStatistics(stats -> stats.started(2).succeeded(2));
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ignored) {
+			// swallow to simulate a method that doesn't react to interrupts
+		}
+	}
+
+	static class TimeoutExceedingTestCase {
+
+		@Test
+		@Timeout(value = 10, unit = MILLISECONDS)
+		void testMethod() throws Exception {
+			new CountDownLatch(1).await();
+		}
+
+	}
+
+	static class NonInterruptibleTimeoutExceedingTestCase {
+
+		@Test
+		@Timeout(value = 10, unit = MILLISECONDS)
+		void testMethod() {
+			long end = System.nanoTime() + MILLISECONDS.toNanos(100);
+			while (System.nanoTime() < end) {
+				// busy wait
+			}
+		}
+
+	}
+
+	static class TimeoutNotExceedingTestCase {
+
+		@Test
+		@Timeout(1)
+		void testMethod() {
+		}
+
+	}
+
+	static class TimeoutExceedingWithAfterEachTestCase {
+
+		static boolean interruptedInAfterEach;
+
+		@Test
+		@Timeout(value = 10, unit = MILLISECONDS)
+		void testMethod() throws Exception {
+			new CountDownLatch(1).await();
+		}
+
+		@AfterEach
+		void afterEach() {
+			interruptedInAfterEach = Thread.currentThread().isInterrupted();
+		}
+
+	}
+
+	@Timeout(value = 10, unit = MILLISECONDS)
+	static class TimeoutOnClassTestCase {
+
+		@Test
+		void testMethod() throws Exception {
+			new CountDownLatch(1).await();
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			@Test
+			void nestedTestMethod() throws Exception {
+				new CountDownLatch(1).await();
+			}
+
+		}
+
+	}
+
+	@Timeout(value = 10, unit = MILLISECONDS)
+	static class TimeoutOnClassWithSlowBeforeEachTestCase {
+
+		@BeforeEach
+		void beforeEach() {
+			sleep(50);
+		}
+
+		@Test
+		void testMethod() {
+		}
+
+	}
+
+	@Timeout(value = 10, unit = MILLISECONDS)
+	static class TimeoutOnClassOverriddenByMethodTestCase {
+
+		@Test
+		@Timeout(1)
+		void testMethod() {
+			sleep(50);
+		}
+
+	}
+
+	static class SlowTestCase {
+
+		@BeforeAll
+		static void beforeAll() {
+			sleep(50);
+		}
+
+		@Test
+		void testMethod() {
+			sleep(50);
+		}
+
+		@RepeatedTest(1)
+		void repeatedTestMethod() {
+			sleep(50);
+		}
+
+	}
+
+}
@@ -10,16 +10,25 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.engine.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.JupiterTestEngine;
 import org.junit.jupiter.engine.extension.sub.SystemPropertyCondition;
@@ -104,6 +113,17 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 		assertExecutionConditionOverride(deactivatePattern, 4, 2, 2);
 	}
 
+	@Test
+	void resultsOfCacheableConditionsAreReusedForSameElement() {
+		CountingCondition.evaluatedElements.clear();
+
+		executeTestsForClass(TestCaseWithCountingConditions.class).tests().assertStatistics(
+			stats -> stats.started(3).succeeded(3));
+
+		// class, repeated test method, and one evaluation per repetition
+		assertThat(CountingCondition.evaluatedElements).containsOnly(entry("cacheable", 2), entry("uncacheable", 5));
+	}
+
 	private void assertExecutionConditionOverride(String deactivatePattern, int testStartedCount, int testFailedCount) {
 		// @formatter:off
 		LauncherDiscoveryRequest request = request()
@@ -180,4 +200,35 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@ExtendWith({ CacheableCountingCondition.class, UncacheableCountingCondition.class })
+	static class TestCaseWithCountingConditions {
+
+		@RepeatedTest(3)
+		void repeatedTest() {
+		}
+
+	}
+
+	static abstract class CountingCondition implements ExecutionCondition {
+
+		static final Map<String, Integer> evaluatedElements = new ConcurrentHashMap<>();
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			evaluatedElements.merge(isCacheable() ? "cacheable" : "uncacheable", 1, Integer::sum);
+			return ConditionEvaluationResult.enabled("counted");
+		}
+	}
+
+	static class CacheableCountingCondition extends CountingCondition {
+
+		@Override
+		public boolean isCacheable() {
+			return true;
+		}
+	}
+
+	static class UncacheableCountingCondition extends CountingCondition {
+	}
+
 }
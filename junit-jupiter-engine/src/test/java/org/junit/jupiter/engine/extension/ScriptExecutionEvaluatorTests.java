@@ -17,9 +17,14 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 import java.lang.annotation.Annotation;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
 
 import javax.script.Bindings;
@@ -31,6 +36,7 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.condition.DisabledIf;
 import org.junit.jupiter.api.condition.EnabledIf;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ScriptEvaluationException;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.script.Script;
@@ -100,6 +106,31 @@ class ScriptExecutionEvaluatorTests extends AbstractJupiterTestEngineTests {
 				.contains("Script `junitConfigurationParameter.get('XXX') == null` evaluated to: true");
 	}
 
+	@Test
+	void cachedResultIsReusedWithoutCreatingBindings() {
+		Script script = new Script(EnabledIf.class, "Mock for " + EnabledIf.class, Script.DEFAULT_SCRIPT_ENGINE_NAME,
+			"true", Script.DEFAULT_SCRIPT_REASON_PATTERN, true);
+		assertFalse(evaluate(script).isDisabled());
+
+		ExtensionContext context = mock(ExtensionContext.class);
+		ConditionEvaluationResult result = evaluator.evaluate(context, List.of(script));
+
+		assertFalse(result.isDisabled());
+		verifyZeroInteractions(context);
+	}
+
+	@Test
+	void resultIsNotCachedUnlessScriptIsDeclaredCacheable() {
+		Script script = script(EnabledIf.class, "true");
+		assertFalse(evaluate(script).isDisabled());
+
+		ExtensionContext context = mock(ExtensionContext.class);
+		when(context.getTags()).thenReturn(Collections.emptySet());
+		evaluator.evaluate(context, List.of(script));
+
+		verify(context).getTags();
+	}
+
 	private ConditionEvaluationResult evaluate(Script script) {
 		return evaluator.evaluate(manager, script, bindings);
 	}
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.script;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -20,6 +21,10 @@ import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 
 import java.lang.annotation.Annotation;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import javax.script.Bindings;
@@ -91,6 +96,35 @@ class ScriptExecutionManagerTests {
 		assertTrue(manager.isCompiledScriptsEmpty());
 	}
 
+	@Test
+	void scriptEngineIsReusedBySubsequentEvaluations() throws ScriptException {
+		assertEquals(true, manager.evaluate(script("true"), bindings));
+		assertEquals(false, manager.evaluate(script("false"), bindings));
+
+		assertEquals(1, manager.getPooledScriptEngineCount(Script.DEFAULT_SCRIPT_ENGINE_NAME));
+	}
+
+	@Test
+	void concurrentEvaluationsUseSeparateScriptEngines() throws Exception {
+		CountDownLatch latch = new CountDownLatch(2);
+		Bindings latchBindings = createDefaultContextBindings();
+		latchBindings.put("latch", latch);
+		Script script = script("latch.countDown()", "latch.await()", "true");
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Object> first = executor.submit(() -> manager.evaluate(script, latchBindings));
+			Future<Object> second = executor.submit(() -> manager.evaluate(script, latchBindings));
+			assertEquals(true, first.get(10, SECONDS));
+			assertEquals(true, second.get(10, SECONDS));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(2, manager.getPooledScriptEngineCount(Script.DEFAULT_SCRIPT_ENGINE_NAME));
+	}
+
 	@TestFactory
 	Stream<DynamicTest> evaluateScriptsEvaluatingToTrue() {
 		return Stream.of("true", "java.lang.Boolean.TRUE", "'TrUe'", "0 == 0", "/pi/.test('jupiter')") //
@@ -11,9 +11,11 @@
 package org.junit.jupiter.engine.script;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 
 import java.lang.annotation.Annotation;
@@ -101,6 +103,16 @@ class ScriptTests {
 		assertNotEquals(v, w);
 	}
 
+	@Test
+	void resultCacheableFlagIsIgnoredByEqualsAndHashCode() {
+		Script s = new Script(Deprecated.class, "annotation", "engine", "source", "reason");
+		Script t = new Script(Deprecated.class, "annotation", "engine", "source", "reason", true);
+		assertFalse(s.isResultCacheable());
+		assertTrue(t.isResultCacheable());
+		assertEquals(s, t);
+		assertEquals(s.hashCode(), t.hashCode());
+	}
+
 	@Test
 	void customReasonPattern() {
 		String reasonPattern = "result={result} source={source} annotation={annotation}";
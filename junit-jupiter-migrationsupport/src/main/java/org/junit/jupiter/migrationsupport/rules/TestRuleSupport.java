@@ -11,26 +11,28 @@
 package org.junit.jupiter.migrationsupport.rules;
 
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.AnnotationUtils.findPublicAnnotatedFields;
 import static org.junit.platform.commons.util.AnnotationUtils.isAnnotated;
 import static org.junit.platform.commons.util.ReflectionUtils.findMethods;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import org.junit.Rule;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.jupiter.migrationsupport.rules.adapter.AbstractTestRuleAdapter;
 import org.junit.jupiter.migrationsupport.rules.adapter.GenericBeforeAndAfterAdvice;
@@ -45,7 +47,9 @@ import org.junit.rules.TestRule;
  */
 class TestRuleSupport implements BeforeEachCallback, TestExecutionExceptionHandler, AfterEachCallback {
 
-	private static final Consumer<List<TestRuleAnnotatedMember>> NO_OP = members -> {
+	private static final Namespace NAMESPACE = Namespace.create(TestRuleSupport.class);
+
+	private static final Consumer<List<AbstractTestRuleAdapter>> NO_OP = adapters -> {
 	};
 
 	private final Class<? extends TestRule> ruleType;
@@ -59,37 +63,54 @@ class TestRuleSupport implements BeforeEachCallback, TestExecutionExceptionHandl
 	}
 
 	/**
-	 * @see org.junit.runners.BlockJUnit4ClassRunner#withRules
-	 * @see org.junit.rules.RunRules
+	 * Find the rule-annotated methods and fields of the supplied test class,
+	 * methods first.
+	 *
+	 * <p>The result is cached per test class in the store of the root
+	 * {@link ExtensionContext}, since it is independent of the test instance
+	 * and the type of rule.
 	 */
-	private List<TestRuleAnnotatedMember> findRuleAnnotatedMembers(Object testInstance) {
-		List<TestRuleAnnotatedMember> result = new ArrayList<>();
-		// @formatter:off
-		// Instantiate rules from methods by calling them
-		findAnnotatedMethods(testInstance).stream()
-				.map(method -> new TestRuleAnnotatedMethod(testInstance, method))
-				.forEach(result::add);
-		// Fields are already instantiated because we have a test instance
-		findAnnotatedFields(testInstance).stream()
-				.map(field -> new TestRuleAnnotatedField(testInstance, field))
-				.forEach(result::add);
-		// @formatter:on
-		// Due to how rules are applied (see RunRules), the last rule gets called first.
-		// Rules from fields get called before those from methods.
-		// Thus, we first add methods and then fields and reverse the list in the end.
-		Collections.reverse(result);
+	private static List<Member> findRuleAnnotatedMembers(Class<?> testClass) {
+		List<Member> result = new ArrayList<>();
+		result.addAll(findAnnotatedMethods(testClass));
+		result.addAll(findAnnotatedFields(testClass));
 		return unmodifiableList(result);
 	}
 
-	private List<Method> findAnnotatedMethods(Object testInstance) {
+	private static List<Method> findAnnotatedMethods(Class<?> testClass) {
 		Predicate<Method> isRuleMethod = method -> isAnnotated(method, Rule.class);
 		Predicate<Method> hasCorrectReturnType = method -> TestRule.class.isAssignableFrom(method.getReturnType());
 
-		return findMethods(testInstance.getClass(), isRuleMethod.and(hasCorrectReturnType));
+		return findMethods(testClass, isRuleMethod.and(hasCorrectReturnType));
 	}
 
-	private List<Field> findAnnotatedFields(Object testInstance) {
-		return findPublicAnnotatedFields(testInstance.getClass(), TestRule.class, Rule.class);
+	private static List<Field> findAnnotatedFields(Class<?> testClass) {
+		return findPublicAnnotatedFields(testClass, TestRule.class, Rule.class);
+	}
+
+	/**
+	 * @see org.junit.runners.BlockJUnit4ClassRunner#withRules
+	 * @see org.junit.rules.RunRules
+	 */
+	private static List<TestRuleAnnotatedMember> createRuleAnnotatedMembers(List<Member> members,
+			Object testInstance) {
+
+		List<TestRuleAnnotatedMember> result = new ArrayList<>(members.size());
+		for (Member member : members) {
+			if (member instanceof Method) {
+				// Instantiate rules from methods by calling them
+				result.add(new TestRuleAnnotatedMethod(testInstance, (Method) member));
+			}
+			else {
+				// Fields are already instantiated because we have a test instance
+				result.add(new TestRuleAnnotatedField(testInstance, (Field) member));
+			}
+		}
+		// Due to how rules are applied (see RunRules), the last rule gets called first.
+		// Rules from fields get called before those from methods.
+		// Thus, we first add methods and then fields and reverse the list in the end.
+		Collections.reverse(result);
+		return unmodifiableList(result);
 	}
 
 	@Override
@@ -127,27 +148,42 @@ class TestRuleSupport implements BeforeEachCallback, TestExecutionExceptionHandl
 	 * @return the number of appropriate rule-annotated members that were discovered
 	 */
 	private long invokeAppropriateMethodOnRuleAnnotatedMembers(ExtensionContext context,
-			Consumer<List<TestRuleAnnotatedMember>> ordering, Consumer<GenericBeforeAndAfterAdvice> methodCaller) {
+			Consumer<List<AbstractTestRuleAdapter>> ordering, Consumer<GenericBeforeAndAfterAdvice> methodCaller) {
+
+		List<AbstractTestRuleAdapter> adapters = new ArrayList<>(getRuleAdapters(context));
+		ordering.accept(adapters);
+		adapters.forEach(methodCaller);
+		return adapters.size();
+	}
+
+	/**
+	 * Get the adapters for the rule-annotated members of the current test
+	 * instance whose rules are of the supported type.
+	 *
+	 * <p>The adapters are created once per test and shared by all callbacks.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<AbstractTestRuleAdapter> getRuleAdapters(ExtensionContext context) {
+		List<TestRuleAnnotatedMember> ruleAnnotatedMembers = getRuleAnnotatedMembers(context);
 		// @formatter:off
-		return Stream.of(getRuleAnnotatedMembers(context))
-				.map(ArrayList::new)
-				.peek(ordering::accept)
-				.flatMap(Collection::stream)
+		return getStore(context).getOrComputeIfAbsent(this.ruleType, key -> ruleAnnotatedMembers.stream()
 				.filter(annotatedMember -> this.ruleType.isInstance(annotatedMember.getTestRule()))
 				.map(this.adapterGenerator)
-				.peek(methodCaller::accept)
-				.count();
+				.collect(collectingAndThen(toList(), Collections::unmodifiableList)), List.class);
 		// @formatter:on
 	}
 
 	@SuppressWarnings("unchecked")
 	private List<TestRuleAnnotatedMember> getRuleAnnotatedMembers(ExtensionContext context) {
 		Object testInstance = context.getRequiredTestInstance();
-		Namespace namespace = Namespace.create(TestRuleSupport.class, context.getRequiredTestClass());
-		// @formatter:off
-		return context.getStore(namespace)
-				.getOrComputeIfAbsent("rule-annotated-members", key -> findRuleAnnotatedMembers(testInstance), List.class);
-		// @formatter:on
+		List<Member> members = context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(testInstance.getClass(),
+			TestRuleSupport::findRuleAnnotatedMembers, List.class);
+		return getStore(context).getOrComputeIfAbsent("rule-annotated-members",
+			key -> createRuleAnnotatedMembers(members, testInstance), List.class);
+	}
+
+	private Store getStore(ExtensionContext context) {
+		return context.getStore(Namespace.create(TestRuleSupport.class, context.getRequiredTestClass()));
 	}
 
 }
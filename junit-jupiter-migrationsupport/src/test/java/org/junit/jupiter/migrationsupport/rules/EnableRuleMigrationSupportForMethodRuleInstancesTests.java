@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.migrationsupport.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.migrationsupport.rules.FailAfterAllHelper.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.rules.ExternalResource;
+
+/**
+ * Rules from methods must be instantiated once per test, even though
+ * {@link EnableRuleMigrationSupport} registers several extensions with
+ * multiple callbacks each.
+ */
+@EnableRuleMigrationSupport
+public class EnableRuleMigrationSupportForMethodRuleInstancesTests {
+
+	private static final List<CountingResource> resources = new ArrayList<>();
+
+	@Rule
+	public ExternalResource getResource() {
+		CountingResource resource = new CountingResource();
+		resources.add(resource);
+		return resource;
+	}
+
+	@Test
+	void first() {
+		assertEquals(1, resources.get(resources.size() - 1).beforeCount);
+	}
+
+	@Test
+	void second() {
+		assertEquals(1, resources.get(resources.size() - 1).beforeCount);
+	}
+
+	@AfterAll
+	static void ruleMethodWasInvokedOncePerTest() {
+		if (resources.size() != 2)
+			fail();
+		for (CountingResource resource : resources) {
+			if (resource.beforeCount != 1 || resource.afterCount != 1)
+				fail();
+		}
+	}
+
+	private static class CountingResource extends ExternalResource {
+
+		int beforeCount;
+		int afterCount;
+
+		@Override
+		protected void before() {
+			beforeCount++;
+		}
+
+		@Override
+		protected void after() {
+			afterCount++;
+		}
+
+	}
+
+}
@@ -38,6 +38,9 @@ import org.junit.platform.commons.util.StringUtils;
  * Encapsulates access to the parameters of a parameterized test method and
  * caches the converters and aggregators used to resolve them.
  *
+ * <p>The converter or aggregator for each parameter is determined once for
+ * the test method and reused for all of its invocations.
+ *
  * @since 5.3
  */
 class ParameterizedTestMethodContext {
@@ -162,7 +165,7 @@ class ParameterizedTestMethodContext {
 							.map(clazz -> (ArgumentConverter) ReflectionUtils.newInstance(clazz))
 							.map(converter -> AnnotationConsumerInitializer.initialize(parameterContext.getParameter(), converter))
 							.map(Converter::new)
-							.orElse(Converter.DEFAULT);
+							.orElseGet(() -> Converter.defaultConverter(parameterContext.getParameter().getType()));
 				} // @formatter:on
 				catch (Exception ex) {
 					throw parameterResolutionException("Error creating ArgumentConverter", ex, parameterContext);
@@ -198,10 +201,17 @@ class ParameterizedTestMethodContext {
 
 	static class Converter implements Resolver {
 
-		private static final Converter DEFAULT = new Converter(DefaultArgumentConverter.INSTANCE);
-
 		private final ArgumentConverter argumentConverter;
 
+		/**
+		 * Create a {@code Converter} that uses the {@link DefaultArgumentConverter}
+		 * to convert arguments into the supplied target type, which only needs
+		 * to be determined once per parameter.
+		 */
+		static Converter defaultConverter(Class<?> targetType) {
+			return new Converter((source, context) -> DefaultArgumentConverter.INSTANCE.convert(source, targetType));
+		}
+
 		Converter(ArgumentConverter argumentConverter) {
 			this.argumentConverter = argumentConverter;
 		}
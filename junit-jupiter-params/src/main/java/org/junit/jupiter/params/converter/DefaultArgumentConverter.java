@@ -42,6 +42,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
@@ -78,6 +79,17 @@ public class DefaultArgumentConverter extends SimpleArgumentConverter {
 		new FallbackStringToObjectConverter() //
 	));
 
+	/**
+	 * Cache for the {@link StringToObjectConverter} to use for a given target
+	 * type, so that the list of converters only needs to be searched once per
+	 * target type.
+	 *
+	 * <p>Target types that cannot be converted to are tracked by the presence
+	 * of an empty {@link Optional} stored in the map.
+	 */
+	private static final ConcurrentHashMap<Class<?>, Optional<StringToObjectConverter>> stringToObjectConverterCache //
+		= new ConcurrentHashMap<>(64);
+
 	private DefaultArgumentConverter() {
 		// nothing to initialize
 	}
@@ -101,8 +113,7 @@ public class DefaultArgumentConverter extends SimpleArgumentConverter {
 
 	private Object convertToTargetType(Object source, Class<?> targetType) {
 		if (source instanceof String) {
-			Optional<StringToObjectConverter> converter = stringToObjectConverters.stream().filter(
-				candidate -> candidate.canConvert(targetType)).findFirst();
+			Optional<StringToObjectConverter> converter = findStringToObjectConverter(targetType);
 			if (converter.isPresent()) {
 				try {
 					return converter.get().convert((String) source, targetType);
@@ -122,6 +133,14 @@ public class DefaultArgumentConverter extends SimpleArgumentConverter {
 				+ source.getClass().getName() + " to type " + targetType.getName());
 	}
 
+	private static Optional<StringToObjectConverter> findStringToObjectConverter(Class<?> targetType) {
+		// @formatter:off
+		return stringToObjectConverterCache.computeIfAbsent(targetType, type -> stringToObjectConverters.stream()
+				.filter(candidate -> candidate.canConvert(type))
+				.findFirst());
+		// @formatter:on
+	}
+
 	private static Class<?> toWrapperType(Class<?> targetType) {
 		Class<?> wrapperType = getWrapperType(targetType);
 		return wrapperType != null ? wrapperType : targetType;
@@ -15,8 +15,12 @@ import static java.util.stream.StreamSupport.stream;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.junit.jupiter.params.provider.CsvArgumentsProvider.handleCsvException;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Spliterator;
@@ -28,6 +32,7 @@ import com.univocity.parsers.csv.CsvParserSettings;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.support.AnnotationConsumer;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 
@@ -40,6 +45,7 @@ class CsvFileArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<
 
 	private CsvFileSource annotation;
 	private String[] resources;
+	private String[] files;
 	private Charset charset;
 	private CsvParserSettings settings;
 	private int numLinesToSkip;
@@ -56,6 +62,9 @@ class CsvFileArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<
 	public void accept(CsvFileSource annotation) {
 		this.annotation = annotation;
 		resources = annotation.resources();
+		files = annotation.files();
+		Preconditions.condition(this.resources.length + this.files.length > 0,
+			() -> "Test method must declare at least one resource or file: " + this.annotation);
 		try {
 			this.charset = Charset.forName(annotation.encoding());
 		}
@@ -79,20 +88,32 @@ class CsvFileArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<
 	@Override
 	public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
 		// @formatter:off
-		return Arrays.stream(resources)
-				.map(resource -> openInputStream(context, resource))
+		Stream<InputStream> inputStreams = Stream.concat(
+				Arrays.stream(resources).map(resource -> openClasspathResource(context, resource)),
+				Arrays.stream(files).map(this::openFile));
+		return inputStreams
 				.map(this::createCsvParser)
 				.flatMap(this::toStream);
 		// @formatter:on
 	}
 
-	private InputStream openInputStream(ExtensionContext context, String resource) {
+	private InputStream openClasspathResource(ExtensionContext context, String resource) {
 		Preconditions.notBlank(resource, "Classpath resource [" + resource + "] must not be null or blank");
 		Class<?> testClass = context.getRequiredTestClass();
 		return Preconditions.notNull(inputStreamProvider.apply(testClass, resource),
 			() -> "Classpath resource [" + resource + "] does not exist");
 	}
 
+	private InputStream openFile(String file) {
+		Preconditions.notBlank(file, "File [" + file + "] must not be null or blank");
+		try {
+			return Files.newInputStream(Paths.get(file));
+		}
+		catch (IOException | InvalidPathException ex) {
+			throw new JUnitException("File [" + file + "] could not be read", ex);
+		}
+	}
+
 	private CsvParser createCsvParser(InputStream inputStream) {
 		CsvParser csvParser = new CsvParser(settings);
 		try {
@@ -23,10 +23,12 @@ import org.apiguardian.api.API;
 /**
  * {@code @CsvFileSource} is an {@link ArgumentsSource} which is used to load
  * comma-separated value (CSV) files from one or more classpath {@link #resources
- * resources}.
+ * resources} or {@link #files files}.
  *
  * <p>The lines of these CSV files will be provided as arguments to the
- * annotated {@code @ParameterizedTest} method.
+ * annotated {@code @ParameterizedTest} method. Files are parsed lazily while
+ * the arguments are consumed, so large files are never loaded into memory as
+ * a whole.
  *
  * @since 5.0
  * @see CsvSource
@@ -41,10 +43,23 @@ import org.apiguardian.api.API;
 public @interface CsvFileSource {
 
 	/**
-	 * The CSV classpath resources to use as the sources of arguments; must not be
-	 * empty.
+	 * The CSV classpath resources to use as the sources of arguments.
+	 *
+	 * <p>Classpath resources are read before any {@linkplain #files files}.
+	 * At least one classpath resource or file must be declared.
+	 */
+	String[] resources() default {};
+
+	/**
+	 * The CSV files to use as the sources of arguments.
+	 *
+	 * <p>Relative paths are resolved against the current working directory.
+	 * At least one {@linkplain #resources classpath resource} or file must be
+	 * declared.
+	 *
+	 * @since 5.4
 	 */
-	String[] resources();
+	String[] files() default {};
 
 	/**
 	 * The encoding to use when reading the CSV files; must be a valid charset.
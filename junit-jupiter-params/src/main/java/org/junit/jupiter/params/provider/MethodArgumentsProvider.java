@@ -14,12 +14,23 @@ import static java.lang.String.format;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.params.support.AnnotationConsumer;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.CollectionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
@@ -30,11 +41,17 @@ import org.junit.platform.commons.util.StringUtils;
  */
 class MethodArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<MethodSource> {
 
+	private static final Logger logger = LoggerFactory.getLogger(MethodArgumentsProvider.class);
+
+	private static final Namespace NAMESPACE = Namespace.create(MethodArgumentsProvider.class);
+
 	private String[] methodNames;
+	private boolean cache;
 
 	@Override
 	public void accept(MethodSource annotation) {
 		this.methodNames = annotation.value();
+		this.cache = annotation.cache();
 	}
 
 	@Override
@@ -43,12 +60,88 @@ class MethodArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<M
 		// @formatter:off
 		return Arrays.stream(this.methodNames)
 				.map(factoryMethodName -> getMethod(context, factoryMethodName))
-				.map(method -> ReflectionUtils.invokeMethod(method, testInstance))
-				.flatMap(CollectionUtils::toStream)
-				.map(MethodArgumentsProvider::toArguments);
+				.flatMap(method -> this.cache
+						? cachedArguments(context, method, testInstance)
+						: invokeFactoryMethod(method, testInstance));
 		// @formatter:on
 	}
 
+	private static Stream<Arguments> invokeFactoryMethod(Method method, Object testInstance) {
+		Object factoryMethodResult = ReflectionUtils.invokeMethod(method, testInstance);
+		return CollectionUtils.toStream(factoryMethodResult).map(MethodArgumentsProvider::toArguments);
+	}
+
+	private Stream<Arguments> cachedArguments(ExtensionContext context, Method method, Object testInstance) {
+		Store store = getCacheStore(context, method);
+		CachedArguments cachedArguments = store.get(method, CachedArguments.class);
+		if (cachedArguments != null) {
+			return cachedArguments.isComplete() ? cachedArguments.stream() : invokeFactoryMethod(method, testInstance);
+		}
+
+		int maxSize = getCacheMaxSize(context);
+		Stream<Arguments> arguments = invokeFactoryMethod(method, testInstance);
+		Iterator<Arguments> iterator = arguments.iterator();
+		List<Arguments> collectedArguments = new ArrayList<>();
+		try {
+			while (collectedArguments.size() < maxSize && iterator.hasNext()) {
+				collectedArguments.add(iterator.next());
+			}
+		}
+		catch (RuntimeException ex) {
+			arguments.close();
+			throw ex;
+		}
+
+		if (!iterator.hasNext()) {
+			arguments.close();
+			// Another test may have cached the same arguments concurrently,
+			// in which case the arguments cached first are used.
+			return store.getOrComputeIfAbsent(method, key -> new CachedArguments(collectedArguments),
+				CachedArguments.class).stream();
+		}
+
+		logger.info(() -> format(
+			"Not caching arguments of factory method [%s] since it generated more than %d arguments; "
+					+ "the maximum can be configured via the '%s' configuration parameter.",
+			method.toGenericString(), maxSize, MethodSource.CACHE_MAX_SIZE_PROPERTY_NAME));
+		store.put(method, CachedArguments.TOO_MANY);
+		Stream<Arguments> remainingArguments = StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+		return Stream.concat(collectedArguments.stream(), remainingArguments).onClose(arguments::close);
+	}
+
+	/**
+	 * Arguments generated by {@code static} factory methods are cached for the
+	 * entire test run; arguments generated by non-static factory methods are
+	 * cached for the test class, since they depend on its test instance.
+	 */
+	private Store getCacheStore(ExtensionContext context, Method method) {
+		if (ReflectionUtils.isStatic(method)) {
+			return context.getRoot().getStore(NAMESPACE);
+		}
+		return context.getParent().orElse(context).getStore(NAMESPACE);
+	}
+
+	private int getCacheMaxSize(ExtensionContext context) {
+		Optional<String> value = context.getConfigurationParameter(MethodSource.CACHE_MAX_SIZE_PROPERTY_NAME);
+		if (value.isPresent()) {
+			try {
+				int maxSize = Integer.parseInt(value.get().trim());
+				if (maxSize > 0) {
+					return maxSize;
+				}
+			}
+			catch (NumberFormatException ignored) {
+				// fall through to warning below
+			}
+			logger.warn(() -> format(
+				"Invalid maximum cache size '%s' set via the '%s' configuration parameter. "
+						+ "Falling back to the default value of %d.",
+				value.get(), MethodSource.CACHE_MAX_SIZE_PROPERTY_NAME, MethodSource.DEFAULT_CACHE_MAX_SIZE));
+		}
+		return MethodSource.DEFAULT_CACHE_MAX_SIZE;
+	}
+
 	private Method getMethod(ExtensionContext context, String factoryMethodName) {
 		if (StringUtils.isNotBlank(factoryMethodName)) {
 			if (factoryMethodName.contains("#")) {
@@ -106,4 +199,32 @@ class MethodArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<M
 		return arguments(item);
 	}
 
+	/**
+	 * Arguments generated by a factory method that are shared by all tests
+	 * using the same factory method.
+	 */
+	private static class CachedArguments {
+
+		/**
+		 * Marker for factory methods that generated too many arguments to be
+		 * cached.
+		 */
+		static final CachedArguments TOO_MANY = new CachedArguments(null);
+
+		private final List<Arguments> arguments;
+
+		CachedArguments(List<Arguments> arguments) {
+			this.arguments = arguments;
+		}
+
+		boolean isComplete() {
+			return this.arguments != null;
+		}
+
+		Stream<Arguments> stream() {
+			return this.arguments.stream();
+		}
+
+	}
+
 }
@@ -119,4 +119,52 @@ public @interface MethodSource {
 	 */
 	String[] value() default "";
 
+	/**
+	 * Whether the arguments generated by the factory methods should be cached
+	 * and reused by all {@code @ParameterizedTest} methods referencing the same
+	 * factory method.
+	 *
+	 * <p>Defaults to {@code false}, in which case factory methods are invoked
+	 * anew for each {@code @ParameterizedTest} method.
+	 *
+	 * <p>If set to {@code true}, the arguments generated by a {@code static}
+	 * factory method are cached for the entire test run, and the arguments
+	 * generated by a non-static factory method are cached for the test class
+	 * whose test instance declares the factory method. Factory methods
+	 * generating more arguments than configured via the
+	 * {@value #CACHE_MAX_SIZE_PROPERTY_NAME} configuration parameter are not
+	 * cached.
+	 *
+	 * <p>Since the cached arguments are shared, they should be immutable or at
+	 * least not be modified by any {@code @ParameterizedTest} method.
+	 *
+	 * @since 5.4
+	 * @see #CACHE_MAX_SIZE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	boolean cache() default false;
+
+	/**
+	 * Property name used to set the maximum number of arguments generated by a
+	 * single factory method that will be {@linkplain #cache() cached}:
+	 * {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to
+	 * {@value #DEFAULT_CACHE_MAX_SIZE}.
+	 *
+	 * @since 5.4
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	String CACHE_MAX_SIZE_PROPERTY_NAME = "junit.jupiter.params.methodsource.cache.max-size";
+
+	/**
+	 * Default maximum number of arguments generated by a single factory method
+	 * that will be {@linkplain #cache() cached}: {@value}
+	 *
+	 * @since 5.4
+	 * @see #CACHE_MAX_SIZE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "5.4")
+	int DEFAULT_CACHE_MAX_SIZE = 10_000;
+
 }
@@ -562,6 +562,38 @@ class ParameterizedTestIntegrationTests {
 
 	}
 
+	/**
+	 * @since 5.4
+	 */
+	@Nested
+	class CachedMethodSourceIntegrationTests {
+
+		@BeforeEach
+		void resetInvocationCount() {
+			CachedMethodSourceTestCase.factoryMethodInvocations = 0;
+		}
+
+		@Test
+		void invokesCachedFactoryMethodOnlyOnce() {
+			var results = execute(selectClass(CachedMethodSourceTestCase.class));
+
+			results.tests().assertStatistics(stats -> stats.started(6).succeeded(6));
+			assertThat(CachedMethodSourceTestCase.factoryMethodInvocations).isEqualTo(1);
+		}
+
+		@Test
+		void doesNotCacheArgumentsExceedingConfiguredMaximumSize() {
+			var results = EngineTestKit.engine(new JupiterTestEngine()) //
+					.selectors(selectClass(CachedMethodSourceTestCase.class)) //
+					.configurationParameter(MethodSource.CACHE_MAX_SIZE_PROPERTY_NAME, "2") //
+					.execute();
+
+			results.tests().assertStatistics(stats -> stats.started(6).succeeded(6));
+			assertThat(CachedMethodSourceTestCase.factoryMethodInvocations).isEqualTo(2);
+		}
+
+	}
+
 	@Nested
 	class UnusedArgumentsIntegrationTests {
 
@@ -980,6 +1012,29 @@ class ParameterizedTestIntegrationTests {
 
 	}
 
+	static class CachedMethodSourceTestCase {
+
+		static int factoryMethodInvocations;
+
+		static Stream<String> strings() {
+			factoryMethodInvocations++;
+			return Stream.of("foo", "bar", "baz");
+		}
+
+		@ParameterizedTest
+		@MethodSource(value = "strings", cache = true)
+		void test1(String argument) {
+			assertThat(argument).hasSize(3);
+		}
+
+		@ParameterizedTest
+		@MethodSource(value = "strings", cache = true)
+		void test2(String argument) {
+			assertThat(argument).isIn("foo", "bar", "baz");
+		}
+
+	}
+
 	static class UnusedArgumentsTestCase {
 
 		@ParameterizedTest
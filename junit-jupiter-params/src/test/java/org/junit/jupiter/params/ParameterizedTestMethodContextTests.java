@@ -10,13 +10,23 @@
 
 package org.junit.jupiter.params;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.params.aggregator.AggregatorIntegrationTests.CsvToPerson;
 import org.junit.jupiter.params.aggregator.AggregatorIntegrationTests.Person;
 import org.junit.jupiter.params.aggregator.ArgumentsAccessor;
@@ -42,6 +52,25 @@ class ParameterizedTestMethodContextTests {
 		assertFalse(new ParameterizedTestMethodContext(method(name)).hasPotentiallyValidSignature());
 	}
 
+	@Test
+	void reusesConverterDeterminedForParameterForAllInvocations() {
+		Method method = method("twoPrimitives");
+		ParameterizedTestMethodContext methodContext = new ParameterizedTestMethodContext(method);
+		ParameterContext parameterContext = mock(ParameterContext.class);
+		when(parameterContext.getIndex()).thenReturn(1);
+		when(parameterContext.getParameter()).thenReturn(method.getParameters()[1]);
+
+		assertEquals(2, methodContext.resolve(parameterContext, new Object[] { "1", "2" }));
+		clearInvocations(parameterContext);
+
+		assertEquals(42, methodContext.resolve(parameterContext, new Object[] { "23", 42 }));
+		ParameterResolutionException exception = assertThrows(ParameterResolutionException.class,
+			() -> methodContext.resolve(parameterContext, new Object[] { "1", "two" }));
+		assertEquals("Error converting parameter at index 1: Failed to convert String \"two\" to type java.lang.Integer",
+			exception.getMessage());
+		verify(parameterContext, never()).getParameter();
+	}
+
 	private Method method(String name) {
 		return Arrays.stream(getClass().getDeclaredMethods()).filter(m -> m.getName().equals(name)).findFirst().get();
 	}
@@ -10,7 +10,10 @@
 
 package org.junit.jupiter.params.provider;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doCallRealMethod;
@@ -19,17 +22,24 @@ import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.PreconditionViolationException;
 
 /**
  * @since 5.0
  */
+@ExtendWith(TempDirectory.class)
 class CsvFileArgumentsProviderTests {
 
 	@Test
@@ -112,6 +122,80 @@ class CsvFileArgumentsProviderTests {
 			new Object[] { "" });
 	}
 
+	@Test
+	void readsFromFiles(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("single-column.csv"), asList("foo", "bar"), UTF_8);
+		CsvFileSource annotation = annotationWithFiles("UTF-8", 0, file.toString(), file.toString());
+
+		Stream<Object[]> arguments = provide(new CsvFileArgumentsProvider(), annotation);
+
+		assertThat(arguments).containsExactly(new Object[] { "foo" }, new Object[] { "bar" }, new Object[] { "foo" },
+			new Object[] { "bar" });
+	}
+
+	@Test
+	void readsFromFilesWithHeadersAndEncoding(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("two-column.csv"), asList("name, city", "Jürgen, Köln"), ISO_8859_1);
+		CsvFileSource annotation = annotationWithFiles("ISO-8859-1", 1, file.toString());
+
+		Stream<Object[]> arguments = provide(new CsvFileArgumentsProvider(), annotation);
+
+		assertThat(arguments).containsExactly(new Object[] { "Jürgen", "Köln" });
+	}
+
+	@Test
+	void readsFromClasspathResourcesBeforeFiles(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("single-column.csv"), singletonList("quux"), UTF_8);
+		CsvFileSource annotation = annotation("ISO-8859-1", "\n", ',', 0, "/single-column.csv");
+		when(annotation.files()).thenReturn(new String[] { file.toString() });
+
+		Stream<Object[]> arguments = provide(new CsvFileArgumentsProvider(), annotation);
+
+		assertThat(arguments).containsExactly(new Object[] { "foo" }, new Object[] { "bar" }, new Object[] { "baz" },
+			new Object[] { "qux" }, new Object[] { "" }, new Object[] { "quux" });
+	}
+
+	@Test
+	void readsFilesLazily(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("single-column.csv"), asList("foo", "bar"), UTF_8);
+		Path missingFile = tempDir.resolve("does-not-exist.csv");
+		CsvFileSource annotation = annotationWithFiles("UTF-8", 0, file.toString(), missingFile.toString());
+
+		Stream<Object[]> arguments = provide(new CsvFileArgumentsProvider(), annotation);
+
+		assertThat(arguments.limit(2)).containsExactly(new Object[] { "foo" }, new Object[] { "bar" });
+	}
+
+	@Test
+	void throwsExceptionForMissingFile() {
+		CsvFileSource annotation = annotationWithFiles("UTF-8", 0, "does-not-exist.csv");
+
+		JUnitException exception = assertThrows(JUnitException.class,
+			() -> provide(new CsvFileArgumentsProvider(), annotation).toArray());
+
+		assertThat(exception).hasMessageContaining("File [does-not-exist.csv] could not be read");
+	}
+
+	@Test
+	void throwsExceptionForBlankFile() {
+		CsvFileSource annotation = annotationWithFiles("UTF-8", 0, "    ");
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> provide(new CsvFileArgumentsProvider(), annotation).toArray());
+
+		assertThat(exception).hasMessageContaining("File [    ] must not be null or blank");
+	}
+
+	@Test
+	void throwsExceptionIfNeitherResourcesNorFilesAreDeclared() {
+		CsvFileSource annotation = annotation("UTF-8", "\n", ',');
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> provide(new CsvFileArgumentsProvider(), annotation).toArray());
+
+		assertThat(exception).hasMessageStartingWith("Test method must declare at least one resource or file");
+	}
+
 	@Test
 	void throwsExceptionForMissingClasspathResource() {
 		CsvFileSource annotation = annotation("UTF-8", "\n", ',', "/does-not-exist.csv");
@@ -165,6 +249,7 @@ class CsvFileArgumentsProviderTests {
 
 		CsvFileSource annotation = mock(CsvFileSource.class);
 		when(annotation.resources()).thenReturn(resources);
+		when(annotation.files()).thenReturn(new String[0]);
 		when(annotation.encoding()).thenReturn(charset);
 		when(annotation.lineSeparator()).thenReturn(lineSeparator);
 		when(annotation.delimiter()).thenReturn(delimiter);
@@ -172,6 +257,12 @@ class CsvFileArgumentsProviderTests {
 		return annotation;
 	}
 
+	private CsvFileSource annotationWithFiles(String charset, int numLinesToSkip, String... files) {
+		CsvFileSource annotation = annotation(charset, "\n", ',', numLinesToSkip);
+		when(annotation.files()).thenReturn(files);
+		return annotation;
+	}
+
 	private Stream<Object[]> provideArguments(String content, String lineSeparator, char delimiter) {
 		return provideArguments(new ByteArrayInputStream(content.getBytes(UTF_8)), lineSeparator, delimiter);
 	}
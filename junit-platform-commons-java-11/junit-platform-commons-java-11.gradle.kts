@@ -0,0 +1,12 @@
+description = "JUnit Platform Commons - Java 11+ specific implementations"
+
+apply(from = "$rootDir/gradle/testing.gradle.kts")
+
+dependencies {
+	compileOnly("org.apiguardian:apiguardian-api:${Versions.apiGuardian}") {
+		because("not depending on junit-platform-commons since these classes are packaged into its jar")
+	}
+}
+
+// Compiles against the public, supported and documented Java 11 API.
+extra["mainJavaVersion"] = JavaVersion.VERSION_11
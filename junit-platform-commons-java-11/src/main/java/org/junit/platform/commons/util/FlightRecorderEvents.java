@@ -0,0 +1,231 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Collection of utilities for emitting events to the Java Flight Recorder.
+ *
+ * <p>Events are only recorded while a recording that enables them is
+ * running; otherwise, committing them is almost free.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ */
+@API(status = INTERNAL, since = "1.4")
+public class FlightRecorderEvents {
+
+	/**
+	 * Property name used to enable emitting events to the Java Flight
+	 * Recorder: {@value}
+	 */
+	public static final String ENABLED_PROPERTY_NAME = "junit.platform.flightrecorder.enabled";
+
+	/**
+	 * An event that has begun and will be committed when it {@linkplain #end()
+	 * ends}.
+	 */
+	public interface Span {
+
+		/**
+		 * End and commit this event.
+		 */
+		void end();
+
+	}
+
+	/**
+	 * Java 11+ runtime supports the Java Flight Recorder if the
+	 * {@code jdk.jfr} module is present and has not been disabled.
+	 *
+	 * @return {@code true} if the Java Flight Recorder is available
+	 */
+	public static boolean isAvailable() {
+		try {
+			return FlightRecorder.isAvailable();
+		}
+		catch (LinkageError error) {
+			// jdk.jfr module is not part of the runtime image
+			return false;
+		}
+	}
+
+	/**
+	 * Begin an event for discovering the tests of an engine.
+	 *
+	 * @param engineId the ID of the engine
+	 * @return the begun event
+	 */
+	public static Span beginEngineDiscovery(String engineId) {
+		EngineDiscoveryEvent event = new EngineDiscoveryEvent();
+		event.engineId = engineId;
+		return begin(event);
+	}
+
+	/**
+	 * Begin an event for executing a node.
+	 *
+	 * @param uniqueId the unique ID of the node
+	 * @param displayName the display name of the node
+	 * @return the begun event
+	 */
+	public static Span beginNodeExecution(String uniqueId, String displayName) {
+		NodeExecutionEvent event = new NodeExecutionEvent();
+		event.uniqueId = uniqueId;
+		event.displayName = displayName;
+		return begin(event);
+	}
+
+	/**
+	 * Begin an event for a single phase of executing a node.
+	 *
+	 * @param uniqueId the unique ID of the node
+	 * @param phase the name of the phase
+	 * @return the begun event
+	 */
+	public static Span beginNodeExecutionPhase(String uniqueId, String phase) {
+		NodeExecutionPhaseEvent event = new NodeExecutionPhaseEvent();
+		event.uniqueId = uniqueId;
+		event.phase = phase;
+		return begin(event);
+	}
+
+	/**
+	 * Begin an event for waiting for the locks of exclusive resources.
+	 *
+	 * @param uniqueId the unique ID of the node that requires the resources
+	 * @param resources the keys of the resources
+	 * @return the begun event
+	 */
+	public static Span beginLockWait(String uniqueId, String resources) {
+		LockWaitEvent event = new LockWaitEvent();
+		event.uniqueId = uniqueId;
+		event.resources = resources;
+		return begin(event);
+	}
+
+	/**
+	 * Commit an event for output captured while executing a test or
+	 * container.
+	 *
+	 * @param uniqueId the unique ID of the test or container
+	 * @param stream the name of the captured stream
+	 * @param bytes the number of captured bytes
+	 */
+	public static void commitCapturedOutput(String uniqueId, String stream, int bytes) {
+		CapturedOutputEvent event = new CapturedOutputEvent();
+		if (event.isEnabled()) {
+			event.uniqueId = uniqueId;
+			event.stream = stream;
+			event.bytes = bytes;
+			event.commit();
+		}
+	}
+
+	private static Span begin(Event event) {
+		event.begin();
+		return event::commit;
+	}
+
+	@Category({ "JUnit", "Discovery" })
+	@Label("Engine Discovery")
+	@Name("org.junit.EngineDiscovery")
+	@Description("Discovery of the tests of a single engine")
+	@StackTrace(false)
+	static class EngineDiscoveryEvent extends Event {
+
+		@Label("Engine ID")
+		String engineId;
+
+	}
+
+	@Category({ "JUnit", "Execution" })
+	@Label("Node Execution")
+	@Name("org.junit.NodeExecution")
+	@Description("Execution of a single test or container including its children")
+	@StackTrace(false)
+	static class NodeExecutionEvent extends Event {
+
+		@Label("Unique ID")
+		String uniqueId;
+
+		@Label("Display Name")
+		String displayName;
+
+	}
+
+	@Category({ "JUnit", "Execution" })
+	@Label("Node Execution Phase")
+	@Name("org.junit.NodeExecutionPhase")
+	@Description("A single phase of executing a test or container")
+	@StackTrace(false)
+	static class NodeExecutionPhaseEvent extends Event {
+
+		@Label("Unique ID")
+		String uniqueId;
+
+		@Label("Phase")
+		String phase;
+
+	}
+
+	@Category({ "JUnit", "Execution" })
+	@Label("Lock Wait")
+	@Name("org.junit.LockWait")
+	@Description("Waiting for the locks of the exclusive resources of a test or container")
+	@StackTrace(false)
+	static class LockWaitEvent extends Event {
+
+		@Label("Unique ID")
+		String uniqueId;
+
+		@Label("Resources")
+		String resources;
+
+	}
+
+	@Category({ "JUnit", "Execution" })
+	@Label("Captured Output")
+	@Name("org.junit.CapturedOutput")
+	@Description("Output captured while executing a test or container")
+	@StackTrace(false)
+	static class CapturedOutputEvent extends Event {
+
+		@Label("Unique ID")
+		String uniqueId;
+
+		@Label("Stream")
+		String stream;
+
+		@Label("Captured Bytes")
+		@DataAmount
+		int bytes;
+
+	}
+
+}
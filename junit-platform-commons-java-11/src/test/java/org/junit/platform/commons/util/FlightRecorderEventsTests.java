@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit tests for {@link FlightRecorderEvents}.
+ *
+ * @since 1.4
+ */
+class FlightRecorderEventsTests {
+
+	@Test
+	void flightRecorderIsAvailable() {
+		assertTrue(FlightRecorderEvents.isAvailable());
+	}
+
+	@Test
+	void emitsEventsWhileRecording() throws Exception {
+		List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable("org.junit.*");
+			recording.start();
+
+			FlightRecorderEvents.beginEngineDiscovery("engine").end();
+			FlightRecorderEvents.Span node = FlightRecorderEvents.beginNodeExecution("[engine:engine]", "engine");
+			FlightRecorderEvents.beginLockWait("[engine:engine]", "resource (READ)").end();
+			FlightRecorderEvents.beginNodeExecutionPhase("[engine:engine]", "EXECUTE").end();
+			FlightRecorderEvents.commitCapturedOutput("[engine:engine]", "stdout", 42);
+			node.end();
+
+			recording.stop();
+			Path file = Files.createTempFile("junit", ".jfr");
+			try {
+				recording.dump(file);
+				events = RecordingFile.readAllEvents(file);
+			}
+			finally {
+				Files.delete(file);
+			}
+		}
+
+		// @formatter:off
+		List<String> eventNames = events.stream()
+				.map(event -> event.getEventType().getName())
+				.collect(Collectors.toList());
+		// @formatter:on
+		assertTrue(eventNames.containsAll(List.of("org.junit.EngineDiscovery", "org.junit.NodeExecution",
+			"org.junit.LockWait", "org.junit.NodeExecutionPhase", "org.junit.CapturedOutput")), eventNames::toString);
+
+		RecordedEvent capturedOutput = events.stream() //
+				.filter(event -> event.getEventType().getName().equals("org.junit.CapturedOutput")) //
+				.findFirst().orElseThrow();
+		assertEquals("[engine:engine]", capturedOutput.getString("uniqueId"));
+		assertEquals("stdout", capturedOutput.getString("stream"));
+		assertEquals(42, capturedOutput.getInt("bytes"));
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.unmodifiableList;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apiguardian.api.API;
+
+/**
+ * The constant pool, access flags, and class names at the beginning of a
+ * class file, read without loading the class.
+ *
+ * <p>Class names are returned in their internal form as stored in the class
+ * file, e.g. {@code java/lang/Object}.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ */
+@API(status = INTERNAL, since = "1.4")
+public final class ClassFileHeader {
+
+	public static final int ACC_PUBLIC = 0x0001;
+	public static final int ACC_ABSTRACT = 0x0400;
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private final List<String> utf8Constants;
+	private final List<String> referencedClassNames;
+	private final int accessFlags;
+	private final String className;
+	private final String superClassName;
+
+	/**
+	 * Read the header of a class file from the supplied input.
+	 *
+	 * <p>The input is left positioned after the index of the super class,
+	 * i.e. at the start of the interfaces.
+	 *
+	 * @param input the input to read from; never {@code null}
+	 * @return the header; never {@code null}
+	 * @throws IOException if the input cannot be read, is not a class file,
+	 * or contains a constant pool entry this method does not know
+	 */
+	public static ClassFileHeader read(DataInput input) throws IOException {
+		if (input.readInt() != MAGIC) {
+			throw new IOException("Invalid magic number");
+		}
+		input.readUnsignedShort(); // minor version
+		input.readUnsignedShort(); // major version
+
+		int constantPoolCount = input.readUnsignedShort();
+		String[] utf8Constants = new String[constantPoolCount];
+		int[] classNameIndexes = new int[constantPoolCount];
+
+		for (int index = 1; index < constantPoolCount; index++) {
+			int tag = input.readUnsignedByte();
+			switch (tag) {
+				case 1: // Utf8
+					utf8Constants[index] = input.readUTF();
+					break;
+				case 7: // Class
+					classNameIndexes[index] = input.readUnsignedShort();
+					break;
+				case 8: // String
+				case 16: // MethodType
+				case 19: // Module
+				case 20: // Package
+					input.skipBytes(2);
+					break;
+				case 15: // MethodHandle
+					input.skipBytes(3);
+					break;
+				case 3: // Integer
+				case 4: // Float
+				case 9: // Fieldref
+				case 10: // Methodref
+				case 11: // InterfaceMethodref
+				case 12: // NameAndType
+				case 17: // Dynamic
+				case 18: // InvokeDynamic
+					input.skipBytes(4);
+					break;
+				case 5: // Long
+				case 6: // Double
+					input.skipBytes(8);
+					// 8-byte constants take up two entries
+					index++;
+					break;
+				default:
+					// e.g. from a newer class file version
+					throw new IOException("Unsupported constant pool tag: " + tag);
+			}
+		}
+
+		int accessFlags = input.readUnsignedShort();
+		int classIndex = input.readUnsignedShort();
+		int superClassIndex = input.readUnsignedShort();
+
+		List<String> nonNullUtf8Constants = new ArrayList<>();
+		List<String> referencedClassNames = new ArrayList<>();
+		for (int index = 1; index < constantPoolCount; index++) {
+			if (utf8Constants[index] != null) {
+				nonNullUtf8Constants.add(utf8Constants[index]);
+			}
+			if (classNameIndexes[index] != 0) {
+				referencedClassNames.add(getUtf8Constant(utf8Constants, classNameIndexes[index]));
+			}
+		}
+		String className = getClassName(utf8Constants, classNameIndexes, classIndex);
+		String superClassName = (superClassIndex == 0 ? null
+				: getClassName(utf8Constants, classNameIndexes, superClassIndex));
+		return new ClassFileHeader(nonNullUtf8Constants, referencedClassNames, accessFlags, className,
+			superClassName);
+	}
+
+	private static String getClassName(String[] utf8Constants, int[] classNameIndexes, int index)
+			throws IOException {
+
+		if (index <= 0 || index >= classNameIndexes.length || classNameIndexes[index] == 0) {
+			throw new IOException("Invalid class constant index: " + index);
+		}
+		return getUtf8Constant(utf8Constants, classNameIndexes[index]);
+	}
+
+	private static String getUtf8Constant(String[] utf8Constants, int index) throws IOException {
+		if (index <= 0 || index >= utf8Constants.length || utf8Constants[index] == null) {
+			throw new IOException("Invalid UTF-8 constant index: " + index);
+		}
+		return utf8Constants[index];
+	}
+
+	private ClassFileHeader(List<String> utf8Constants, List<String> referencedClassNames, int accessFlags,
+			String className, String superClassName) {
+		this.utf8Constants = unmodifiableList(utf8Constants);
+		this.referencedClassNames = unmodifiableList(referencedClassNames);
+		this.accessFlags = accessFlags;
+		this.className = className;
+		this.superClassName = superClassName;
+	}
+
+	/**
+	 * Get all UTF-8 constants of the constant pool, e.g. class names, member
+	 * names, descriptors, signatures, and string literals.
+	 */
+	public List<String> getUtf8Constants() {
+		return this.utf8Constants;
+	}
+
+	/**
+	 * Get the names of all classes referenced by class entries of the
+	 * constant pool, including array classes in descriptor form, e.g.
+	 * {@code [Ljava/lang/String;}.
+	 */
+	public List<String> getReferencedClassNames() {
+		return this.referencedClassNames;
+	}
+
+	/**
+	 * Get the access flags of the class, e.g. {@link #ACC_PUBLIC}.
+	 */
+	public int getAccessFlags() {
+		return this.accessFlags;
+	}
+
+	/**
+	 * Get the name of the class.
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+
+	/**
+	 * Get the name of the super class; {@code null} for
+	 * {@code java/lang/Object} and {@code module-info}.
+	 */
+	public String getSuperClassName() {
+		return this.superClassName;
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Collection of utilities for emitting events to the Java Flight Recorder.
+ *
+ * <p>This basic version is used on Java runtimes that do not provide the
+ * {@code jdk.jfr} API and never emits any events. Callers should only invoke
+ * the {@code begin*()} and {@code commit*()} methods if
+ * {@link #isAvailable()} returns {@code true}.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.4
+ */
+@API(status = INTERNAL, since = "1.4")
+public class FlightRecorderEvents {
+
+	/**
+	 * Property name used to enable emitting events to the Java Flight
+	 * Recorder: {@value}
+	 */
+	public static final String ENABLED_PROPERTY_NAME = "junit.platform.flightrecorder.enabled";
+
+	/**
+	 * An event that has begun and will be committed when it {@linkplain #end()
+	 * ends}.
+	 */
+	public interface Span {
+
+		/**
+		 * End and commit this event.
+		 */
+		void end();
+
+	}
+
+	private static final Span NOP_SPAN = () -> {
+	};
+
+	/**
+	 * Determine if the current Java runtime supports the Java Flight Recorder.
+	 *
+	 * @return {@code false}
+	 */
+	public static boolean isAvailable() {
+		return false;
+	}
+
+	/**
+	 * Begin an event for discovering the tests of an engine.
+	 *
+	 * @param engineId the ID of the engine
+	 * @return a span that does nothing
+	 */
+	public static Span beginEngineDiscovery(String engineId) {
+		return NOP_SPAN;
+	}
+
+	/**
+	 * Begin an event for executing a node.
+	 *
+	 * @param uniqueId the unique ID of the node
+	 * @param displayName the display name of the node
+	 * @return a span that does nothing
+	 */
+	public static Span beginNodeExecution(String uniqueId, String displayName) {
+		return NOP_SPAN;
+	}
+
+	/**
+	 * Begin an event for a single phase of executing a node.
+	 *
+	 * @param uniqueId the unique ID of the node
+	 * @param phase the name of the phase
+	 * @return a span that does nothing
+	 */
+	public static Span beginNodeExecutionPhase(String uniqueId, String phase) {
+		return NOP_SPAN;
+	}
+
+	/**
+	 * Begin an event for waiting for the locks of exclusive resources.
+	 *
+	 * @param uniqueId the unique ID of the node that requires the resources
+	 * @param resources the keys of the resources
+	 * @return a span that does nothing
+	 */
+	public static Span beginLockWait(String uniqueId, String resources) {
+		return NOP_SPAN;
+	}
+
+	/**
+	 * Commit an event for output captured while executing a test or
+	 * container.
+	 *
+	 * @param uniqueId the unique ID of the test or container
+	 * @param stream the name of the captured stream
+	 * @param bytes the number of captured bytes
+	 */
+	public static void commitCapturedOutput(String uniqueId, String stream, int bytes) {
+	}
+
+}
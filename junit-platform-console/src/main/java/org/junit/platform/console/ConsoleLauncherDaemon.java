@@ -0,0 +1,329 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console;
+
+import static java.nio.file.attribute.AclEntryPermission.APPEND_DATA;
+import static java.nio.file.attribute.AclEntryPermission.DELETE;
+import static java.nio.file.attribute.AclEntryPermission.READ_ACL;
+import static java.nio.file.attribute.AclEntryPermission.READ_ATTRIBUTES;
+import static java.nio.file.attribute.AclEntryPermission.READ_DATA;
+import static java.nio.file.attribute.AclEntryPermission.SYNCHRONIZE;
+import static java.nio.file.attribute.AclEntryPermission.WRITE_ACL;
+import static java.nio.file.attribute.AclEntryPermission.WRITE_ATTRIBUTES;
+import static java.nio.file.attribute.AclEntryPermission.WRITE_DATA;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.AclEntry;
+import java.nio.file.attribute.AclEntryType;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.console.options.PicocliCommandLineOptionsParser;
+
+/**
+ * The {@code ConsoleLauncherDaemon} is a resident process that executes the
+ * requests sent by {@link ConsoleLauncherDaemonClient} instances.
+ *
+ * <p>Each request is executed like a {@link ConsoleLauncher} invocation with
+ * the same arguments, and its output and exit code are sent back to the
+ * client while the tests are running. Since the daemon's JVM stays alive
+ * between requests, classes on the daemon's own class path (e.g., test engines
+ * and their dependencies) are only loaded and compiled once. Classes on the
+ * additional class path entries supplied with a request via
+ * {@code --class-path} are loaded by a new class loader for each request so
+ * that subsequent requests pick up modified test classes.
+ *
+ * <p>The daemon only accepts connections via the loopback interface and
+ * executes one request at a time. Relative paths supplied with a request are
+ * resolved against the working directory of the client.
+ *
+ * <p>Since requests may add arbitrary entries to the class path, the daemon
+ * generates a random secret when it is started and writes it to a
+ * {@linkplain #getDefaultSecretFile(int) file} that only the current user may
+ * read, using POSIX file permissions or an access control list depending on
+ * the file system. Connections whose first line is not that secret are closed
+ * without executing anything.
+ *
+ * @since 1.4
+ * @see ConsoleLauncherDaemonClient
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public class ConsoleLauncherDaemon implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConsoleLauncherDaemon.class);
+
+	static final byte OUT_FRAME = 1;
+	static final byte ERR_FRAME = 2;
+	static final byte EXIT_FRAME = 3;
+
+	private static final int SECRET_LENGTH = 32;
+	private static final int MAX_SECRET_LINE_LENGTH = 256;
+	private static final int AUTHENTICATION_TIMEOUT_MILLIS = 10_000;
+
+	/**
+	 * Start a daemon listening on the port supplied as the only argument, or
+	 * on a free port if no argument is supplied, and serve requests until the
+	 * JVM is terminated.
+	 */
+	public static void main(String... args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+		try (ConsoleLauncherDaemon daemon = new ConsoleLauncherDaemon(port, null, System.err)) {
+			logger.info(() -> "JUnit Platform console launcher daemon listening on port " + daemon.getPort());
+			daemon.run();
+		}
+	}
+
+	/**
+	 * Get the file the secret of the daemon listening on the supplied port is
+	 * written to by default.
+	 */
+	static Path getDefaultSecretFile(int port) {
+		return Paths.get(System.getProperty("user.home"), ".junit", "console-launcher-daemon-" + port + ".secret");
+	}
+
+	private final ServerSocket serverSocket;
+	private final Path secretFile;
+	private final byte[] secret;
+	private final PrintStream errStream;
+
+	/**
+	 * Create a daemon listening on the supplied port that writes its secret to
+	 * the supplied file, or to the {@linkplain #getDefaultSecretFile(int)
+	 * default secret file} if {@code null}.
+	 */
+	ConsoleLauncherDaemon(int port, Path secretFile, PrintStream err) throws IOException {
+		this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+		this.secretFile = secretFile != null ? secretFile : getDefaultSecretFile(getPort());
+		this.secret = generateSecret();
+		this.errStream = err;
+		try {
+			writeSecret(this.secretFile, this.secret);
+		}
+		catch (IOException ex) {
+			this.serverSocket.close();
+			throw ex;
+		}
+	}
+
+	int getPort() {
+		return this.serverSocket.getLocalPort();
+	}
+
+	Path getSecretFile() {
+		return this.secretFile;
+	}
+
+	private static byte[] generateSecret() {
+		byte[] randomBytes = new byte[SECRET_LENGTH];
+		new SecureRandom().nextBytes(randomBytes);
+		return Base64.getUrlEncoder().withoutPadding().encode(randomBytes);
+	}
+
+	/**
+	 * Write the supplied secret to a new file that only the owner may read
+	 * and write.
+	 *
+	 * <p>If the file system supports neither POSIX file permissions nor access
+	 * control lists, the file is created with default permissions and a
+	 * warning is printed.
+	 */
+	private void writeSecret(Path file, byte[] secret) throws IOException {
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		Files.deleteIfExists(file);
+		Set<String> supportedViews = file.getFileSystem().supportedFileAttributeViews();
+		if (supportedViews.contains("posix")) {
+			Files.createFile(file, PosixFilePermissions.asFileAttribute(EnumSet.of(OWNER_READ, OWNER_WRITE)));
+		}
+		else if (supportedViews.contains("acl")) {
+			Files.createFile(file);
+			try {
+				restrictAccessToOwner(file);
+			}
+			catch (IOException | RuntimeException ex) {
+				Files.delete(file);
+				throw ex;
+			}
+		}
+		else {
+			Files.createFile(file);
+			this.errStream.printf("Access to secret file [%s] cannot be restricted to the current user since the "
+					+ "file system supports neither POSIX file permissions nor access control lists.%n",
+				file);
+		}
+		Files.write(file, secret);
+	}
+
+	private static void restrictAccessToOwner(Path file) throws IOException {
+		AclFileAttributeView view = Files.getFileAttributeView(file, AclFileAttributeView.class);
+		// @formatter:off
+		AclEntry ownerEntry = AclEntry.newBuilder()
+				.setType(AclEntryType.ALLOW)
+				.setPrincipal(view.getOwner())
+				.setPermissions(READ_DATA, WRITE_DATA, APPEND_DATA, READ_ATTRIBUTES, WRITE_ATTRIBUTES, READ_ACL,
+					WRITE_ACL, DELETE, SYNCHRONIZE)
+				.build();
+		// @formatter:on
+		view.setAcl(Collections.singletonList(ownerEntry));
+	}
+
+	/**
+	 * Serve requests until this daemon is {@linkplain #close() closed}.
+	 */
+	void run() {
+		while (!this.serverSocket.isClosed()) {
+			try (Socket socket = this.serverSocket.accept()) {
+				handle(socket);
+			}
+			catch (Exception ex) {
+				if (!this.serverSocket.isClosed()) {
+					ex.printStackTrace(this.errStream);
+				}
+			}
+		}
+	}
+
+	private void handle(Socket socket) throws IOException {
+		InputStream inputStream = new BufferedInputStream(socket.getInputStream());
+		socket.setSoTimeout(AUTHENTICATION_TIMEOUT_MILLIS);
+		if (!MessageDigest.isEqual(this.secret, readLine(inputStream))) {
+			this.errStream.println("Rejected connection from client that did not supply the daemon's secret");
+			return;
+		}
+		socket.setSoTimeout(0);
+
+		DataInputStream input = new DataInputStream(inputStream);
+		Charset charset = Charset.forName(input.readUTF());
+		Path workingDirectory = Paths.get(input.readUTF());
+		String[] args = new String[input.readInt()];
+		for (int i = 0; i < args.length; i++) {
+			args[i] = input.readUTF();
+		}
+
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		PrintStream out = new PrintStream(new FrameOutputStream(output, OUT_FRAME), true, charset.name());
+		PrintStream err = new PrintStream(new FrameOutputStream(output, ERR_FRAME), true, charset.name());
+
+		int exitCode = execute(out, err, charset, workingDirectory, args);
+		synchronized (output) {
+			output.writeByte(EXIT_FRAME);
+			output.writeInt(exitCode);
+			output.flush();
+		}
+	}
+
+	private static byte[] readLine(InputStream input) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int b;
+		while ((b = input.read()) != -1 && b != '\n' && line.size() < MAX_SECRET_LINE_LENGTH) {
+			line.write(b);
+		}
+		return line.toByteArray();
+	}
+
+	private int execute(PrintStream out, PrintStream err, Charset charset, Path workingDirectory, String[] args) {
+		// Redirect output of tests and engines to the client as well
+		PrintStream originalOut = System.out;
+		PrintStream originalErr = System.err;
+		System.setOut(out);
+		System.setErr(err);
+		try {
+			ConsoleLauncher consoleLauncher = new ConsoleLauncher(new PicocliCommandLineOptionsParser(workingDirectory),
+				out, err, charset);
+			return consoleLauncher.execute(args).getExitCode();
+		}
+		finally {
+			System.setOut(originalOut);
+			System.setErr(originalErr);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			this.serverSocket.close();
+		}
+		finally {
+			Files.deleteIfExists(this.secretFile);
+		}
+	}
+
+	/**
+	 * {@link OutputStream} that writes each chunk of data as a frame of the
+	 * supplied type so that standard output and standard error can share the
+	 * same connection.
+	 */
+	private static class FrameOutputStream extends OutputStream {
+
+		private final DataOutputStream output;
+		private final byte type;
+
+		FrameOutputStream(DataOutputStream output, byte type) {
+			this.output = output;
+			this.type = type;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			synchronized (this.output) {
+				this.output.writeByte(this.type);
+				this.output.writeInt(len);
+				this.output.write(b, off, len);
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			synchronized (this.output) {
+				this.output.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			// the connection is closed once the exit code has been sent
+			flush();
+		}
+
+	}
+
+}
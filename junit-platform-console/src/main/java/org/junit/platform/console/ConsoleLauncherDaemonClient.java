@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.console.ConsoleLauncherDaemon.ERR_FRAME;
+import static org.junit.platform.console.ConsoleLauncherDaemon.EXIT_FRAME;
+import static org.junit.platform.console.ConsoleLauncherDaemon.OUT_FRAME;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.apiguardian.api.API;
+
+/**
+ * The {@code ConsoleLauncherDaemonClient} is a thin command-line client that
+ * sends its arguments to a running {@link ConsoleLauncherDaemon} and prints
+ * the results streamed back by the daemon.
+ *
+ * <p>The first argument is the port the daemon is listening on; all remaining
+ * arguments are supported {@link ConsoleLauncher} options. The client exits
+ * with the exit code the {@code ConsoleLauncher} would have exited with.
+ *
+ * <p>The client authenticates itself by sending the secret the daemon has
+ * written to its secret file, which therefore has to be readable by the
+ * user running the client.
+ *
+ * @since 1.4
+ * @see ConsoleLauncherDaemon
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public class ConsoleLauncherDaemonClient {
+
+	public static void main(String... args) {
+		int exitCode = execute(System.out, System.err, args);
+		System.exit(exitCode);
+	}
+
+	@API(status = INTERNAL, since = "1.4")
+	public static int execute(PrintStream out, PrintStream err, String... args) {
+		return execute(null, out, err, args);
+	}
+
+	/**
+	 * Execute the request using the secret stored in the supplied file, or in
+	 * the daemon's default secret file if {@code null}.
+	 */
+	static int execute(Path secretFile, PrintStream out, PrintStream err, String... args) {
+		if (args.length == 0) {
+			err.println("Usage: ConsoleLauncherDaemonClient <port> [ConsoleLauncher options]");
+			return ConsoleLauncherExecutionResult.failed().getExitCode();
+		}
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0]))) {
+			int port = socket.getPort();
+			byte[] secret = Files.readAllBytes(
+				secretFile != null ? secretFile : ConsoleLauncherDaemon.getDefaultSecretFile(port));
+			sendRequest(socket, secret, Arrays.copyOfRange(args, 1, args.length));
+			return receiveResults(socket, out, err);
+		}
+		catch (Exception ex) {
+			err.println("Failed to execute request via daemon listening on port " + args[0] + ": " + ex);
+			return ConsoleLauncherExecutionResult.failed().getExitCode();
+		}
+		finally {
+			out.flush();
+			err.flush();
+		}
+	}
+
+	private static void sendRequest(Socket socket, byte[] secret, String[] args) throws IOException {
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		output.write(secret);
+		output.write('\n');
+		output.writeUTF(Charset.defaultCharset().name());
+		output.writeUTF(System.getProperty("user.dir"));
+		output.writeInt(args.length);
+		for (String arg : args) {
+			output.writeUTF(arg);
+		}
+		output.flush();
+	}
+
+	private static int receiveResults(Socket socket, PrintStream out, PrintStream err) throws IOException {
+		DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		byte[] buffer = new byte[8192];
+		while (true) {
+			byte type = input.readByte();
+			if (type == EXIT_FRAME) {
+				return input.readInt();
+			}
+			if (type != OUT_FRAME && type != ERR_FRAME) {
+				throw new IOException("Unexpected frame type: " + type);
+			}
+			PrintStream target = (type == OUT_FRAME ? out : err);
+			int remaining = input.readInt();
+			while (remaining > 0) {
+				int length = input.read(buffer, 0, Math.min(remaining, buffer.length));
+				if (length < 0) {
+					throw new IOException("Connection closed by daemon");
+				}
+				target.write(buffer, 0, length);
+				remaining -= length;
+			}
+			target.flush();
+		}
+	}
+
+}
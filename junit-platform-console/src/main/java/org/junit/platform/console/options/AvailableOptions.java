@@ -10,6 +10,8 @@
 
 package org.junit.platform.console.options;
 
+import static java.util.stream.Collectors.toList;
+
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -36,6 +38,8 @@ class AvailableOptions {
 
 	private static final String CP_OPTION = "cp";
 
+	private final Path workingDirectory;
+
 	// --- General Purpose -------------------------------------------------
 
 	@Option(names = { "-h", "--help" }, usageHelp = true, description = "Display help information.")
@@ -238,6 +242,15 @@ class AvailableOptions {
 	private CommandSpec spec;
 
 	AvailableOptions() {
+		this(null);
+	}
+
+	/**
+	 * @param workingDirectory the directory to resolve relative paths against,
+	 * or {@code null} to leave them unchanged
+	 */
+	AvailableOptions(Path workingDirectory) {
+		this.workingDirectory = workingDirectory;
 	}
 
 	/**
@@ -288,11 +301,13 @@ class AvailableOptions {
 		result.setAnsiColorOutputDisabled(this.disableAnsiColors || this.disableAnsiColors2);
 		result.setDetails(choose(this.details, this.details2, CommandLineOptions.DEFAULT_DETAILS));
 		result.setTheme(choose(this.theme, this.theme2, CommandLineOptions.DEFAULT_THEME));
-		result.setAdditionalClasspathEntries(merge(this.additionalClasspathEntries, this.additionalClasspathEntries2));
+		result.setAdditionalClasspathEntries(
+			resolve(merge(this.additionalClasspathEntries, this.additionalClasspathEntries2)));
 		result.setFailIfNoTests(this.failIfNoTests);
 
 		// Reports
-		result.setReportsDir(choose(this.reportsDir, this.reportsDir2, null));
+		Path reportsDir = choose(this.reportsDir, this.reportsDir2, null);
+		result.setReportsDir(reportsDir == null ? null : resolve(reportsDir));
 
 		// Java Platform Module System
 		result.setScanModulepath(this.scanModulepath || this.scanModulepath2);
@@ -300,10 +315,11 @@ class AvailableOptions {
 
 		// Selectors
 		result.setScanClasspath(parseResult.hasMatchedOption("scan-class-path")); // flag was specified
-		result.setSelectedClasspathEntries(merge(this.selectedClasspathEntries, this.selectedClasspathEntries2));
+		result.setSelectedClasspathEntries(
+			resolve(merge(this.selectedClasspathEntries, this.selectedClasspathEntries2)));
 		result.setSelectedUris(merge(this.selectedUris, this.selectedUris2));
-		result.setSelectedFiles(merge(this.selectedFiles, this.selectedFiles2));
-		result.setSelectedDirectories(merge(this.selectedDirectories, this.selectedDirectories2));
+		result.setSelectedFiles(resolvePathNames(merge(this.selectedFiles, this.selectedFiles2)));
+		result.setSelectedDirectories(resolvePathNames(merge(this.selectedDirectories, this.selectedDirectories2)));
 		result.setSelectedPackages(merge(this.selectedPackages, this.selectedPackages2));
 		result.setSelectedClasses(merge(this.selectedClasses, this.selectedClasses2));
 		result.setSelectedMethods(merge(this.selectedMethods, this.selectedMethods2));
@@ -325,6 +341,22 @@ class AvailableOptions {
 		return result;
 	}
 
+	private Path resolve(Path path) {
+		return this.workingDirectory == null ? path : this.workingDirectory.resolve(path);
+	}
+
+	private List<Path> resolve(List<Path> paths) {
+		return paths.stream().map(this::resolve).collect(toList());
+	}
+
+	private List<String> resolvePathNames(List<String> pathNames) {
+		if (this.workingDirectory == null) {
+			return pathNames;
+		}
+		return pathNames.stream().map(pathName -> this.workingDirectory.resolve(pathName).toString()).collect(
+			toList());
+	}
+
 	private static <T> List<T> merge(List<T> list1, List<T> list2) {
 		List<T> result = new ArrayList<>(list1);
 		result.addAll(list2);
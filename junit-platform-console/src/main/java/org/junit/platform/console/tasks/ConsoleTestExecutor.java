@@ -55,7 +55,16 @@ public class ConsoleTestExecutor {
 	}
 
 	public TestExecutionSummary execute(PrintWriter out) throws Exception {
-		return new CustomContextClassLoaderExecutor(createCustomClassLoader()).invoke(() -> executeTests(out));
+		Optional<ClassLoader> customClassLoader = createCustomClassLoader();
+		try {
+			return new CustomContextClassLoaderExecutor(customClassLoader).invoke(() -> executeTests(out));
+		}
+		finally {
+			// Release open JAR files, e.g. when running in a long-lived daemon
+			if (customClassLoader.isPresent()) {
+				((URLClassLoader) customClassLoader.get()).close();
+			}
+		}
 	}
 
 	private TestExecutionSummary executeTests(PrintWriter out) {
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Adapts the effective parallelism of a {@link ForkJoinPool} to the observed
+ * utilization of its worker threads.
+ *
+ * <p>The CPU time consumed by all workers is sampled periodically. While
+ * tasks are queued but the workers use significantly less CPU time than is
+ * available, e.g. because tests are sleeping or waiting for I/O, the target
+ * parallelism is increased up to the configured maximum parallelism. Once
+ * the workers saturate the available processors, it is decreased again down
+ * to the parallelism of the pool.
+ *
+ * <p>The pool's parallelism cannot be changed after its creation. Instead,
+ * tasks {@linkplain #tryStartCompensating() start compensating} while the
+ * target parallelism exceeds the pool's parallelism and are executed as
+ * {@link ForkJoinPool.ManagedBlocker managed blocking operations}, which
+ * causes the pool to activate or create a spare worker for each of them.
+ * Spare workers terminate once they have been idle for the pool's keep-alive
+ * time.
+ *
+ * <p>Measuring thread CPU time is a JVM-wide setting. If it has to be enabled
+ * in order to sample the utilization, it is only disabled again once the last
+ * active instance has been {@linkplain #close() closed}.
+ *
+ * @since 1.4
+ */
+class AdaptiveParallelism {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveParallelism.class);
+
+	private static final long SAMPLING_INTERVAL_NANOS = MILLISECONDS.toNanos(100);
+
+	/**
+	 * Fraction of the available processors below which workers are
+	 * considered to be blocked.
+	 */
+	static final double LOW_UTILIZATION = 0.5;
+
+	/**
+	 * Fraction of the available processors above which workers are
+	 * considered to saturate them.
+	 */
+	static final double HIGH_UTILIZATION = 0.9;
+
+	private static final Object threadCpuTimeLock = new Object();
+
+	// guarded by threadCpuTimeLock
+	private static int activeInstances;
+	private static boolean threadCpuTimeEnabledByActiveInstances;
+
+	private final int minParallelism;
+	private final int maxParallelism;
+	private final int availableProcessors;
+	private final ThreadMXBean threadMXBean;
+	private final boolean active;
+
+	private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger compensatingTasks = new AtomicInteger();
+	private final AtomicLong lastSampleNanos = new AtomicLong(System.nanoTime());
+	private volatile int targetParallelism;
+
+	// guarded by itself; also serializes adapting the target parallelism
+	private final Map<Thread, Long> lastCpuTimes = new HashMap<>();
+
+	// guarded by threadCpuTimeLock
+	private boolean closed;
+
+	static Optional<AdaptiveParallelism> create(ParallelExecutionConfiguration configuration) {
+		if (configuration.getMaxParallelism() <= configuration.getParallelism()) {
+			return Optional.empty();
+		}
+		ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		if (!threadMXBean.isThreadCpuTimeSupported()) {
+			logger.warn(() -> "Measuring thread CPU time is not supported by this JVM. "
+					+ "Parallelism will not be adapted during execution.");
+			return Optional.empty();
+		}
+		return Optional.of(open(configuration.getParallelism(), configuration.getMaxParallelism(),
+			Runtime.getRuntime().availableProcessors(), threadMXBean));
+	}
+
+	/**
+	 * Create an active instance and enable measuring thread CPU time unless
+	 * it is already enabled.
+	 *
+	 * <p>Active instances must be {@linkplain #close() closed}.
+	 */
+	static AdaptiveParallelism open(int minParallelism, int maxParallelism, int availableProcessors,
+			ThreadMXBean threadMXBean) {
+		synchronized (threadCpuTimeLock) {
+			if (!threadMXBean.isThreadCpuTimeEnabled()) {
+				threadMXBean.setThreadCpuTimeEnabled(true);
+				threadCpuTimeEnabledByActiveInstances = true;
+			}
+			activeInstances++;
+		}
+		return new AdaptiveParallelism(minParallelism, maxParallelism, availableProcessors, threadMXBean, true);
+	}
+
+	AdaptiveParallelism(int minParallelism, int maxParallelism, int availableProcessors,
+			ThreadMXBean threadMXBean) {
+		this(minParallelism, maxParallelism, availableProcessors, threadMXBean, false);
+	}
+
+	private AdaptiveParallelism(int minParallelism, int maxParallelism, int availableProcessors,
+			ThreadMXBean threadMXBean, boolean active) {
+		this.minParallelism = minParallelism;
+		this.maxParallelism = maxParallelism;
+		this.availableProcessors = availableProcessors;
+		this.threadMXBean = threadMXBean;
+		this.active = active;
+		this.targetParallelism = minParallelism;
+	}
+
+	/**
+	 * Register the supplied worker and record the CPU time it has consumed
+	 * so far as the baseline for its next sample.
+	 */
+	void workerStarted(Thread worker) {
+		long cpuNanos = threadMXBean.getThreadCpuTime(worker.getId());
+		synchronized (lastCpuTimes) {
+			if (cpuNanos >= 0) {
+				lastCpuTimes.put(worker, cpuNanos);
+			}
+			workers.add(worker);
+		}
+	}
+
+	void workerTerminated(Thread worker) {
+		workers.remove(worker);
+	}
+
+	int getTargetParallelism() {
+		return targetParallelism;
+	}
+
+	/**
+	 * Try to reserve one of the slots between the pool's parallelism and the
+	 * current target parallelism.
+	 *
+	 * @return {@code true} if the calling task should be executed as a
+	 * managed blocking operation and must call {@link #stopCompensating()}
+	 * once it has finished
+	 */
+	boolean tryStartCompensating() {
+		while (true) {
+			int current = compensatingTasks.get();
+			if (current >= targetParallelism - minParallelism) {
+				return false;
+			}
+			if (compensatingTasks.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	void stopCompensating() {
+		compensatingTasks.decrementAndGet();
+	}
+
+	/**
+	 * Sample the utilization of the workers if the sampling interval has
+	 * elapsed since the last sample and adapt the target parallelism.
+	 */
+	void sampleIfNecessary(ForkJoinPool pool) {
+		long nowNanos = System.nanoTime();
+		long lastNanos = lastSampleNanos.get();
+		long elapsedNanos = nowNanos - lastNanos;
+		if (elapsedNanos < SAMPLING_INTERVAL_NANOS || !lastSampleNanos.compareAndSet(lastNanos, nowNanos)) {
+			return;
+		}
+		boolean hasQueuedTasks = pool != null && (pool.getQueuedTaskCount() > 0 || pool.hasQueuedSubmissions());
+		synchronized (lastCpuTimes) {
+			long consumedCpuNanos = 0;
+			lastCpuTimes.keySet().retainAll(workers);
+			for (Thread worker : workers) {
+				long cpuNanos = threadMXBean.getThreadCpuTime(worker.getId());
+				if (cpuNanos >= 0) {
+					// a worker seen for the first time only establishes its baseline
+					Long previousCpuNanos = lastCpuTimes.put(worker, cpuNanos);
+					consumedCpuNanos += cpuNanos - (previousCpuNanos == null ? cpuNanos : previousCpuNanos);
+				}
+			}
+			adapt((double) consumedCpuNanos / elapsedNanos, hasQueuedTasks);
+		}
+	}
+
+	/**
+	 * Adapt the target parallelism.
+	 *
+	 * @param usedProcessors the average number of processors used by the
+	 * workers since the last sample
+	 * @param hasQueuedTasks whether there are tasks waiting for a worker
+	 */
+	void adapt(double usedProcessors, boolean hasQueuedTasks) {
+		int current = targetParallelism;
+		int usableProcessors = Math.min(availableProcessors, current);
+		if (hasQueuedTasks && usedProcessors < LOW_UTILIZATION * usableProcessors) {
+			targetParallelism = Math.min(maxParallelism, current + Math.max(1, current / 4));
+		}
+		else if (usedProcessors > HIGH_UTILIZATION * availableProcessors) {
+			targetParallelism = Math.max(minParallelism, current - 1);
+		}
+		if (targetParallelism != current) {
+			logger.debug(() -> String.format("Adapted target parallelism from %d to %d (used processors: %.2f)",
+				current, targetParallelism, usedProcessors));
+		}
+	}
+
+	/**
+	 * Disable measuring thread CPU time again if this is the last active
+	 * instance and measuring it was enabled by an active instance.
+	 */
+	void close() {
+		if (!active) {
+			return;
+		}
+		synchronized (threadCpuTimeLock) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			activeInstances--;
+			if (activeInstances == 0 && threadCpuTimeEnabledByActiveInstances) {
+				threadMXBean.setThreadCpuTimeEnabled(false);
+				threadCpuTimeEnabledByActiveInstances = false;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase;
+
+/**
+ * {@link NodeExecutionTimingListener} that writes the timings of all nodes
+ * to a file in the <em>Trace Event Format</em> that can be viewed as a flame
+ * chart by Chrome's {@code chrome://tracing} page and other trace viewers.
+ *
+ * <p>Each node is written as a complete event on the lane of the thread that
+ * executed it, with the phases of its execution as nested events. The time
+ * a node spent waiting in the queue is written as an argument of its event
+ * since it did not occupy any thread.
+ *
+ * <p>Events are written as soon as a node has finished; the file is complete
+ * once this listener has been {@linkplain #close() closed}.
+ *
+ * @since 1.4
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public class ChromeTraceTimingListener implements NodeExecutionTimingListener, AutoCloseable {
+
+	private final Writer writer;
+	private final long originNanos = System.nanoTime();
+	private final Set<Long> knownThreadIds = ConcurrentHashMap.newKeySet();
+
+	// guarded by writer
+	private boolean firstEvent = true;
+
+	public ChromeTraceTimingListener(Path file) throws IOException {
+		Preconditions.notNull(file, "file must not be null");
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		this.writer = Files.newBufferedWriter(file, UTF_8);
+		this.writer.write("{\"traceEvents\":[");
+	}
+
+	@Override
+	public void nodeExecuted(TestDescriptor testDescriptor, NodeExecutionTiming timing) {
+		StringBuilder events = new StringBuilder();
+		if (this.knownThreadIds.add(timing.getThreadId())) {
+			appendThreadNameEvent(events, timing);
+		}
+		appendNodeEvent(events, testDescriptor, timing);
+		for (Phase phase : timing.getPhases()) {
+			if (phase != Phase.QUEUE_WAIT) {
+				appendCompleteEvent(events, phase.name().toLowerCase(Locale.ROOT), "phase", timing.getThreadId(),
+					timing.getStartNanos(phase), timing.getDurationNanos(phase));
+				events.append('}');
+			}
+		}
+		write(events);
+	}
+
+	private void appendThreadNameEvent(StringBuilder events, NodeExecutionTiming timing) {
+		events.append(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":").append(timing.getThreadId());
+		events.append(",\"args\":{\"name\":");
+		appendString(events, timing.getThreadName());
+		events.append("}}");
+	}
+
+	private void appendNodeEvent(StringBuilder events, TestDescriptor testDescriptor, NodeExecutionTiming timing) {
+		appendCompleteEvent(events, testDescriptor.getDisplayName(), "node", timing.getThreadId(),
+			timing.getStartNanos(), timing.getDurationNanos());
+		events.append(",\"args\":{\"uniqueId\":");
+		appendString(events, testDescriptor.getUniqueId().toString());
+		if (timing.getPhases().contains(Phase.QUEUE_WAIT)) {
+			events.append(",\"queueWaitMicros\":");
+			appendMicros(events, timing.getDurationNanos(Phase.QUEUE_WAIT));
+		}
+		events.append("}}");
+	}
+
+	private void appendCompleteEvent(StringBuilder events, String name, String category, long threadId,
+			long startNanos, long durationNanos) {
+		events.append(",\n{\"name\":");
+		appendString(events, name);
+		events.append(",\"cat\":\"").append(category).append("\",\"ph\":\"X\",\"pid\":1,\"tid\":").append(threadId);
+		events.append(",\"ts\":");
+		appendMicros(events, startNanos - this.originNanos);
+		events.append(",\"dur\":");
+		appendMicros(events, durationNanos);
+	}
+
+	private static void appendMicros(StringBuilder builder, long nanos) {
+		builder.append(nanos / 1000).append('.');
+		String fraction = Long.toString(Math.abs(nanos % 1000));
+		for (int i = fraction.length(); i < 3; i++) {
+			builder.append('0');
+		}
+		builder.append(fraction);
+	}
+
+	private static void appendString(StringBuilder builder, String value) {
+		builder.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				builder.append('\\').append(c);
+			}
+			else if (c < 0x20) {
+				builder.append(String.format("\\u%04x", (int) c));
+			}
+			else {
+				builder.append(c);
+			}
+		}
+		builder.append('"');
+	}
+
+	private void write(StringBuilder events) {
+		synchronized (this.writer) {
+			try {
+				// the first event must not be preceded by a comma
+				this.writer.append(events, this.firstEvent ? 1 : 0, events.length());
+				this.firstEvent = false;
+			}
+			catch (IOException e) {
+				throw new JUnitException("Failed to write trace events", e);
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (this.writer) {
+			this.writer.write("\n]}\n");
+			this.writer.close();
+		}
+	}
+
+}
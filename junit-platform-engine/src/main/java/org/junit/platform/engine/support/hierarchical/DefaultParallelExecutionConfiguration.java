@@ -20,14 +20,21 @@ class DefaultParallelExecutionConfiguration implements ParallelExecutionConfigur
 	private final int maxPoolSize;
 	private final int corePoolSize;
 	private final int keepAliveSeconds;
+	private final int maxParallelism;
 
 	DefaultParallelExecutionConfiguration(int parallelism, int minimumRunnable, int maxPoolSize, int corePoolSize,
 			int keepAliveSeconds) {
+		this(parallelism, minimumRunnable, maxPoolSize, corePoolSize, keepAliveSeconds, parallelism);
+	}
+
+	DefaultParallelExecutionConfiguration(int parallelism, int minimumRunnable, int maxPoolSize, int corePoolSize,
+			int keepAliveSeconds, int maxParallelism) {
 		this.parallelism = parallelism;
 		this.minimumRunnable = minimumRunnable;
 		this.maxPoolSize = maxPoolSize;
 		this.corePoolSize = corePoolSize;
 		this.keepAliveSeconds = keepAliveSeconds;
+		this.maxParallelism = maxParallelism;
 	}
 
 	@Override
@@ -55,4 +62,9 @@ class DefaultParallelExecutionConfiguration implements ParallelExecutionConfigur
 		return keepAliveSeconds;
 	}
 
+	@Override
+	public int getMaxParallelism() {
+		return maxParallelism;
+	}
+
 }
@@ -54,21 +54,44 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	DYNAMIC {
 		@Override
 		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
-			BigDecimal factor = configurationParameters.get(CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME,
-				BigDecimal::new).orElse(BigDecimal.ONE);
-
-			Preconditions.condition(factor.compareTo(BigDecimal.ZERO) > 0,
-				() -> String.format("Factor '%s' specified via configuration parameter '%s' must be greater than 0",
-					factor, CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME));
-
-			int parallelism = Math.max(1,
-				factor.multiply(BigDecimal.valueOf(Runtime.getRuntime().availableProcessors())).intValue());
+			int parallelism = computeParallelism(configurationParameters, CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME,
+				BigDecimal.ONE);
 
 			return new DefaultParallelExecutionConfiguration(parallelism, parallelism, 256 + parallelism, parallelism,
 				KEEP_ALIVE_SECONDS);
 		}
 	},
 
+	/**
+	 * Computes the initial parallelism like {@link #DYNAMIC} based on the
+	 * {@value CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME} configuration parameter
+	 * and increases it up to the maximum parallelism computed based on the
+	 * {@value CONFIG_ADAPTIVE_MAX_FACTOR_PROPERTY_NAME} configuration
+	 * parameter while the executing threads are observed to be blocked,
+	 * e.g. by sleeping or waiting for I/O.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			int parallelism = computeParallelism(configurationParameters, CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME,
+				BigDecimal.ONE);
+			int maxParallelism = computeParallelism(configurationParameters, CONFIG_ADAPTIVE_MAX_FACTOR_PROPERTY_NAME,
+				BigDecimal.valueOf(4));
+
+			Preconditions.condition(maxParallelism >= parallelism,
+				() -> String.format("Maximum parallelism %d specified via configuration parameter '%s' must not be "
+						+ "less than parallelism %d specified via configuration parameter '%s'",
+					maxParallelism, CONFIG_ADAPTIVE_MAX_FACTOR_PROPERTY_NAME, parallelism,
+					CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME));
+
+			return new DefaultParallelExecutionConfiguration(parallelism, parallelism, 256 + maxParallelism,
+				parallelism, KEEP_ALIVE_SECONDS, maxParallelism);
+		}
+	},
+
 	/**
 	 * Allows the specification of a custom {@link ParallelExecutionConfigurationStrategy}
 	 * implementation via the mandatory {@value CONFIG_CUSTOM_CLASS_PROPERTY_NAME}
@@ -98,8 +121,8 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -123,6 +146,32 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = "dynamic.factor";
 
+	/**
+	 * Property name of the factor used to determine the initial and minimum
+	 * parallelism for the {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be a decimal number; defaults to {@code 1}.
+	 *
+	 * @see #ADAPTIVE
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME = "adaptive.factor";
+
+	/**
+	 * Property name of the factor used to determine the maximum parallelism
+	 * for the {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be a decimal number that is not less than the value of
+	 * the {@value #CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME} configuration
+	 * parameter; defaults to {@code 4}.
+	 *
+	 * @see #ADAPTIVE
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String CONFIG_ADAPTIVE_MAX_FACTOR_PROPERTY_NAME = "adaptive.max-factor";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
@@ -132,6 +181,17 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_CUSTOM_CLASS_PROPERTY_NAME = "custom.class";
 
+	private static int computeParallelism(ConfigurationParameters configurationParameters, String factorPropertyName,
+			BigDecimal defaultFactor) {
+		BigDecimal factor = configurationParameters.get(factorPropertyName, BigDecimal::new).orElse(defaultFactor);
+
+		Preconditions.condition(factor.compareTo(BigDecimal.ZERO) > 0,
+			() -> String.format("Factor '%s' specified via configuration parameter '%s' must be greater than 0",
+				factor, factorPropertyName));
+
+		return Math.max(1, factor.multiply(BigDecimal.valueOf(Runtime.getRuntime().availableProcessors())).intValue());
+	}
+
 	static ParallelExecutionConfigurationStrategy getStrategy(ConfigurationParameters configurationParameters) {
 		return valueOf(configurationParameters.get(CONFIG_STRATEGY_PROPERTY_NAME).orElse("dynamic").toUpperCase());
 	}
@@ -19,6 +19,7 @@ import java.lang.reflect.Constructor;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
 import java.util.concurrent.ForkJoinTask;
@@ -49,6 +50,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	private final ForkJoinPool forkJoinPool;
 	private final int parallelism;
+	private final AdaptiveParallelism adaptiveParallelism;
 
 	/**
 	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
@@ -57,16 +59,18 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	 * @see DefaultParallelExecutionConfigurationStrategy
 	 */
 	public ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
-		forkJoinPool = createForkJoinPool(configurationParameters);
-		parallelism = forkJoinPool.getParallelism();
-		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
-	}
-
-	private ForkJoinPool createForkJoinPool(ConfigurationParameters configurationParameters) {
 		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.getStrategy(
 			configurationParameters);
 		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configurationParameters);
-		ForkJoinWorkerThreadFactory threadFactory = new WorkerThreadFactory();
+		adaptiveParallelism = AdaptiveParallelism.create(configuration).orElse(null);
+		forkJoinPool = createForkJoinPool(configuration);
+		parallelism = forkJoinPool.getParallelism();
+		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism
+				+ (adaptiveParallelism == null ? "" : " adapted up to " + configuration.getMaxParallelism()));
+	}
+
+	private ForkJoinPool createForkJoinPool(ParallelExecutionConfiguration configuration) {
+		ForkJoinWorkerThreadFactory threadFactory = new WorkerThreadFactory(Optional.ofNullable(adaptiveParallelism));
 		return Try.call(() -> {
 			// Try to use constructor available in Java >= 9
 			Constructor<ForkJoinPool> constructor = ForkJoinPool.class.getDeclaredConstructor(Integer.TYPE,
@@ -83,7 +87,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	@Override
 	public Future<Void> submit(TestTask testTask) {
-		ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
+		ExclusiveTask exclusiveTask = new ExclusiveTask(adaptiveParallelism, testTask);
 		if (!isAlreadyRunningInForkJoinPool()) {
 			// ensure we're running inside the ForkJoinPool so we
 			// can use ForkJoinTask API in invokeAll etc.
@@ -112,7 +116,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	@Override
 	public void invokeAll(List<? extends TestTask> tasks) {
 		if (tasks.size() == 1) {
-			new ExclusiveTask(tasks.get(0)).compute();
+			new ExclusiveTask(adaptiveParallelism, tasks.get(0)).compute();
 			return;
 		}
 		Deque<ExclusiveTask> nonConcurrentTasks = new LinkedList<>();
@@ -125,7 +129,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	private void forkConcurrentTasks(List<? extends TestTask> tasks, Deque<ExclusiveTask> nonConcurrentTasks,
 			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
 		for (TestTask testTask : tasks) {
-			ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
+			ExclusiveTask exclusiveTask = new ExclusiveTask(adaptiveParallelism, testTask);
 			if (testTask.getExecutionMode() == CONCURRENT) {
 				exclusiveTask.fork();
 				concurrentTasksInReverseOrder.addFirst(exclusiveTask);
@@ -152,15 +156,20 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	@Override
 	public void close() {
 		forkJoinPool.shutdownNow();
+		if (adaptiveParallelism != null) {
+			adaptiveParallelism.close();
+		}
 	}
 
 	// this class cannot not be serialized because TestTask is not Serializable
 	@SuppressWarnings("serial")
 	static class ExclusiveTask extends RecursiveAction {
 
+		private final AdaptiveParallelism adaptiveParallelism;
 		private final TestTask testTask;
 
-		ExclusiveTask(TestTask testTask) {
+		ExclusiveTask(AdaptiveParallelism adaptiveParallelism, TestTask testTask) {
+			this.adaptiveParallelism = adaptiveParallelism;
 			this.testTask = testTask;
 		}
 
@@ -168,11 +177,48 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		@Override
 		public void compute() {
 			try (ResourceLock lock = testTask.getResourceLock().acquire()) {
-				testTask.execute();
+				if (adaptiveParallelism != null && adaptiveParallelism.tryStartCompensating()) {
+					ForkJoinPool.managedBlock(new CompensatingManagedBlocker());
+				}
+				else {
+					testTask.execute();
+				}
 			}
 			catch (InterruptedException e) {
 				ExceptionUtils.throwAsUncheckedException(e);
 			}
+			finally {
+				if (adaptiveParallelism != null) {
+					adaptiveParallelism.sampleIfNecessary(getPool());
+				}
+			}
+		}
+
+		/**
+		 * Executes the test task while letting the pool compensate for the
+		 * current worker as if it were blocked.
+		 */
+		private class CompensatingManagedBlocker implements ForkJoinPool.ManagedBlocker {
+
+			private boolean finished;
+
+			@Override
+			public boolean block() {
+				try {
+					testTask.execute();
+				}
+				finally {
+					finished = true;
+					adaptiveParallelism.stopCompensating();
+				}
+				return true;
+			}
+
+			@Override
+			public boolean isReleasable() {
+				return finished;
+			}
+
 		}
 
 	}
@@ -180,19 +226,40 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	static class WorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
 
 		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		private final Optional<AdaptiveParallelism> adaptiveParallelism;
+
+		WorkerThreadFactory(Optional<AdaptiveParallelism> adaptiveParallelism) {
+			this.adaptiveParallelism = adaptiveParallelism;
+		}
 
 		@Override
 		public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
-			return new WorkerThread(pool, contextClassLoader);
+			return new WorkerThread(pool, contextClassLoader, adaptiveParallelism);
 		}
 	}
 
 	static class WorkerThread extends ForkJoinWorkerThread {
 
-		WorkerThread(ForkJoinPool pool, ClassLoader contextClassLoader) {
+		private final Optional<AdaptiveParallelism> adaptiveParallelism;
+
+		WorkerThread(ForkJoinPool pool, ClassLoader contextClassLoader,
+				Optional<AdaptiveParallelism> adaptiveParallelism) {
 			super(pool);
+			this.adaptiveParallelism = adaptiveParallelism;
 			setContextClassLoader(contextClassLoader);
 		}
+
+		@Override
+		protected void onStart() {
+			super.onStart();
+			adaptiveParallelism.ifPresent(adaptive -> adaptive.workerStarted(this));
+		}
+
+		@Override
+		protected void onTermination(Throwable exception) {
+			adaptiveParallelism.ifPresent(adaptive -> adaptive.workerTerminated(this));
+			super.onTermination(exception);
+		}
 	}
 
 }
@@ -13,8 +13,11 @@ package org.junit.platform.engine.support.hierarchical;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
+import java.util.Optional;
+
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestEngine;
 
@@ -44,15 +47,31 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 	 */
 	@Override
 	public final void execute(ExecutionRequest request) {
+		NodeExecutionTimingListener timingListener = createNodeExecutionTimingListener(request).orElse(null);
 		try (HierarchicalTestExecutorService executorService = createExecutorService(request)) {
 			C executionContext = createExecutionContext(request);
 			ThrowableCollector.Factory throwableCollectorFactory = createThrowableCollectorFactory(request);
-			new HierarchicalTestExecutor<>(request, executionContext, executorService,
-				throwableCollectorFactory).execute().get();
+			new HierarchicalTestExecutor<>(request, executionContext, executorService, throwableCollectorFactory,
+				timingListener).execute().get();
 		}
 		catch (Exception exception) {
 			throw new JUnitException("Error executing tests for engine " + getId(), exception);
 		}
+		finally {
+			closeIfNecessary(timingListener);
+		}
+	}
+
+	private void closeIfNecessary(NodeExecutionTimingListener timingListener) {
+		if (timingListener instanceof AutoCloseable) {
+			try {
+				((AutoCloseable) timingListener).close();
+			}
+			catch (Exception exception) {
+				LoggerFactory.getLogger(HierarchicalTestEngine.class).warn(exception,
+					() -> "Failed to close node execution timing listener for engine " + getId());
+			}
+		}
 	}
 
 	/**
@@ -100,6 +119,29 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 		return OpenTest4JAwareThrowableCollector::new;
 	}
 
+	/**
+	 * Create the {@linkplain NodeExecutionTimingListener listener} that is
+	 * notified of the durations of the phases of executing each node of the
+	 * supplied {@linkplain ExecutionRequest request}.
+	 *
+	 * <p>An engine may use the information in the supplied <em>request</em>
+	 * such as the contained
+	 * {@linkplain ExecutionRequest#getConfigurationParameters() configuration parameters}
+	 * to decide whether to return a listener and how to configure it.
+	 *
+	 * <p>By default, this method returns an empty {@code Optional}, in which
+	 * case no timings are measured at all.
+	 *
+	 * @param request the request about to be executed
+	 * @see NodeExecutionTimingListener
+	 * @see ChromeTraceTimingListener
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	protected Optional<NodeExecutionTimingListener> createNodeExecutionTimingListener(ExecutionRequest request) {
+		return Optional.empty();
+	}
+
 	/**
 	 * Create the initial execution context for executing the supplied
 	 * {@linkplain ExecutionRequest request}.
@@ -12,6 +12,7 @@ package org.junit.platform.engine.support.hierarchical;
 
 import java.util.concurrent.Future;
 
+import org.junit.platform.commons.util.FlightRecorderEvents;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -37,13 +38,25 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	private final C rootContext;
 	private final HierarchicalTestExecutorService executorService;
 	private final ThrowableCollector.Factory throwableCollectorFactory;
+	private final NodeExecutionTimingListener timingListener;
 
 	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService,
 			ThrowableCollector.Factory throwableCollectorFactory) {
+		this(request, rootContext, executorService, throwableCollectorFactory, null);
+	}
+
+	/**
+	 * @param timingListener the listener for node execution timings; may be
+	 * {@code null} if timings should not be measured
+	 * @since 1.4
+	 */
+	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService,
+			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionTimingListener timingListener) {
 		this.request = request;
 		this.rootContext = rootContext;
 		this.executorService = executorService;
 		this.throwableCollectorFactory = throwableCollectorFactory;
+		this.timingListener = timingListener;
 	}
 
 	Future<Void> execute() {
@@ -51,10 +64,15 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 		EngineExecutionListener executionListener = this.request.getEngineExecutionListener();
 		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(rootTestDescriptor);
 		NodeTestTaskContext taskContext = new NodeTestTaskContext(executionListener, this.executorService,
-			this.throwableCollectorFactory, executionAdvisor);
+			this.throwableCollectorFactory, executionAdvisor, this.timingListener, isFlightRecorderEnabled());
 		NodeTestTask<C> rootTestTask = new NodeTestTask<>(taskContext, rootTestDescriptor);
 		rootTestTask.setParentContext(this.rootContext);
 		return this.executorService.submit(rootTestTask);
 	}
 
+	private boolean isFlightRecorderEnabled() {
+		return this.request.getConfigurationParameters().getBoolean(FlightRecorderEvents.ENABLED_PROPERTY_NAME) //
+				.orElse(false) && FlightRecorderEvents.isAvailable();
+	}
+
 }
@@ -16,6 +16,8 @@ import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ToStringBuilder;
@@ -286,6 +288,26 @@ public interface Node<C extends EngineExecutionContext> {
 		 */
 		void execute(TestDescriptor testDescriptor);
 
+		/**
+		 * Submit a dynamic test descriptor for immediate execution and return
+		 * a {@link Future} that completes once its execution has finished.
+		 *
+		 * <p>The default implementation delegates to
+		 * {@link #execute(TestDescriptor)} and returns a future that is already
+		 * completed. Implementations that execute test descriptors
+		 * asynchronously should override this method.
+		 *
+		 * @param testDescriptor the test descriptor to be executed
+		 * @return a future that completes once the execution of the test
+		 * descriptor has finished; never {@code null}
+		 * @since 1.4
+		 */
+		@API(status = EXPERIMENTAL, since = "1.4")
+		default Future<?> submit(TestDescriptor testDescriptor) {
+			execute(testDescriptor);
+			return CompletableFuture.completedFuture(null);
+		}
+
 		/**
 		 * Block until all dynamic test descriptors submitted to this executor
 		 * are finished.
@@ -297,6 +319,28 @@ public interface Node<C extends EngineExecutionContext> {
 		 * @throws InterruptedException if interrupted while waiting
 		 */
 		void awaitFinished() throws InterruptedException;
+
+		/**
+		 * Block until at most the supplied number of dynamic test descriptors
+		 * submitted to this executor are still in progress.
+		 *
+		 * <p>This method is useful if the node submits a large number of
+		 * dynamic test descriptors and wants to limit how many of them are
+		 * pending execution at any given time. It should only be called from
+		 * the thread that executes the submitting node.
+		 *
+		 * <p>The default implementation delegates to {@link #awaitFinished()}.
+		 *
+		 * @param maxInFlight the maximum number of dynamic test descriptors
+		 * that may still be in progress when this method returns; must not
+		 * be negative
+		 * @throws InterruptedException if interrupted while waiting
+		 * @since 1.4
+		 */
+		@API(status = EXPERIMENTAL, since = "1.4")
+		default void awaitInFlightAtMost(int maxInFlight) throws InterruptedException {
+			awaitFinished();
+		}
 	}
 
 	/**
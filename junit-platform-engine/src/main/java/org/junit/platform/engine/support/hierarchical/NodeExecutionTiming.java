@@ -0,0 +1,202 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+
+/**
+ * Durations of the phases of executing a single {@link Node}, as reported to
+ * a {@link NodeExecutionTimingListener}.
+ *
+ * <p>All timestamps and durations are measured in nanoseconds using
+ * {@link System#nanoTime()}; timestamps are therefore only meaningful in
+ * relation to each other.
+ *
+ * @since 1.4
+ * @see NodeExecutionTimingListener
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public final class NodeExecutionTiming {
+
+	/**
+	 * The phases of executing a {@link Node}.
+	 */
+	public enum Phase {
+
+		/**
+		 * Waiting for a thread after the node has been submitted for
+		 * execution by its parent.
+		 */
+		QUEUE_WAIT,
+
+		/**
+		 * Waiting for the locks of the node's
+		 * {@linkplain Node#getExclusiveResources() exclusive resources}.
+		 */
+		LOCK_WAIT,
+
+		/**
+		 * {@link Node#prepare(EngineExecutionContext)}
+		 */
+		PREPARE,
+
+		/**
+		 * {@link Node#shouldBeSkipped(EngineExecutionContext)}
+		 */
+		SHOULD_BE_SKIPPED,
+
+		/**
+		 * {@link Node#before(EngineExecutionContext)}
+		 */
+		BEFORE,
+
+		/**
+		 * {@link Node#execute(EngineExecutionContext, Node.DynamicTestExecutor)}
+		 */
+		EXECUTE,
+
+		/**
+		 * Executing the node's children and waiting for its dynamic tests.
+		 */
+		CHILDREN,
+
+		/**
+		 * {@link Node#after(EngineExecutionContext)}
+		 */
+		AFTER,
+
+		/**
+		 * {@link Node#cleanUp(EngineExecutionContext)}
+		 */
+		CLEAN_UP
+
+	}
+
+	private static final Phase[] PHASES = Phase.values();
+
+	private final long submittedNanos;
+	private final long[] phaseStartNanos = new long[PHASES.length];
+	private final long[] phaseDurationNanos = new long[PHASES.length];
+	private final Set<Phase> phases = EnumSet.noneOf(Phase.class);
+
+	private long startNanos;
+	private long durationNanos;
+	private long threadId;
+	private String threadName;
+
+	NodeExecutionTiming(long submittedNanos) {
+		this.submittedNanos = submittedNanos;
+	}
+
+	void recordPhase(Phase phase, long startNanos, long endNanos) {
+		this.phaseStartNanos[phase.ordinal()] = startNanos;
+		this.phaseDurationNanos[phase.ordinal()] = endNanos - startNanos;
+		this.phases.add(phase);
+	}
+
+	void recordQueueWaitIfNecessary(long endNanos) {
+		if (!this.phases.contains(Phase.QUEUE_WAIT)) {
+			recordPhase(Phase.QUEUE_WAIT, this.submittedNanos, endNanos);
+		}
+	}
+
+	void started(long startNanos) {
+		recordQueueWaitIfNecessary(startNanos);
+		Thread thread = Thread.currentThread();
+		this.startNanos = startNanos;
+		this.threadId = thread.getId();
+		this.threadName = thread.getName();
+	}
+
+	void finished(long endNanos) {
+		this.durationNanos = endNanos - this.startNanos;
+	}
+
+	/**
+	 * Get the timestamp at which the node started executing on its thread,
+	 * i.e. after waiting in the queue and for locks.
+	 */
+	public long getStartNanos() {
+		return this.startNanos;
+	}
+
+	/**
+	 * Get the duration of executing the node on its thread including all
+	 * phases except {@link Phase#QUEUE_WAIT} and {@link Phase#LOCK_WAIT}.
+	 */
+	public long getDurationNanos() {
+		return this.durationNanos;
+	}
+
+	/**
+	 * Get the ID of the thread that executed the node.
+	 */
+	public long getThreadId() {
+		return this.threadId;
+	}
+
+	/**
+	 * Get the name of the thread that executed the node.
+	 */
+	public String getThreadName() {
+		return this.threadName;
+	}
+
+	/**
+	 * Get the phases that have been executed for the node in the order they
+	 * are declared in {@link Phase}.
+	 *
+	 * <p>Phases that have not been executed, e.g. because the node was skipped
+	 * or a previous phase failed, are not included.
+	 */
+	public Set<Phase> getPhases() {
+		return Collections.unmodifiableSet(this.phases);
+	}
+
+	/**
+	 * Get the timestamp at which the supplied phase started.
+	 *
+	 * @param phase one of the {@linkplain #getPhases() executed phases}
+	 */
+	public long getStartNanos(Phase phase) {
+		return this.phaseStartNanos[checkExecuted(phase).ordinal()];
+	}
+
+	/**
+	 * Get the duration of the supplied phase.
+	 *
+	 * @param phase one of the {@linkplain #getPhases() executed phases}
+	 */
+	public long getDurationNanos(Phase phase) {
+		return this.phaseDurationNanos[checkExecuted(phase).ordinal()];
+	}
+
+	private Phase checkExecuted(Phase phase) {
+		Preconditions.condition(this.phases.contains(phase), () -> "Phase has not been executed: " + phase);
+		return phase;
+	}
+
+	@Override
+	public String toString() {
+		ToStringBuilder builder = new ToStringBuilder(this).append("durationNanos", this.durationNanos);
+		this.phases.forEach(phase -> builder.append(phase.name(), getDurationNanos(phase)));
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * Listener that is notified of the {@linkplain NodeExecutionTiming durations}
+ * of the phases of executing each {@link Node} of a
+ * {@link HierarchicalTestEngine}.
+ *
+ * <p>Timings are only measured if a listener is returned by
+ * {@link HierarchicalTestEngine#createNodeExecutionTimingListener}.
+ *
+ * <p>Implementations must be thread-safe since they are notified by the
+ * threads executing the nodes. If an implementation also implements
+ * {@link AutoCloseable}, it is closed once all nodes have been executed.
+ *
+ * @since 1.4
+ * @see NodeExecutionTiming
+ * @see ChromeTraceTimingListener
+ */
+@FunctionalInterface
+@API(status = EXPERIMENTAL, since = "1.4")
+public interface NodeExecutionTimingListener {
+
+	/**
+	 * Called by the thread that executed the supplied {@link TestDescriptor}
+	 * once its execution has finished.
+	 *
+	 * @param testDescriptor the descriptor of the executed node
+	 * @param timing the timing of the executed node
+	 */
+	void nodeExecuted(TestDescriptor testDescriptor, NodeExecutionTiming timing);
+
+}
@@ -10,12 +10,24 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.engine.TestExecutionResult.failed;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.AFTER;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.BEFORE;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.CHILDREN;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.CLEAN_UP;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.EXECUTE;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.LOCK_WAIT;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.PREPARE;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.SHOULD_BE_SKIPPED;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -24,11 +36,16 @@ import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.FlightRecorderEvents;
+import org.junit.platform.commons.util.FlightRecorderEvents.Span;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
 import org.junit.platform.engine.support.hierarchical.Node.SkipResult;
+import org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase;
+import org.junit.platform.engine.support.hierarchical.ThrowableCollector.Executable;
 
 /**
  * @since 1.3
@@ -48,6 +65,9 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	private boolean started;
 	private ThrowableCollector throwableCollector;
 
+	// only measured if a timing listener is configured
+	private NodeExecutionTiming timing;
+
 	NodeTestTask(NodeTestTaskContext taskContext, TestDescriptor testDescriptor) {
 		this.taskContext = taskContext;
 		this.testDescriptor = testDescriptor;
@@ -56,7 +76,11 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 	@Override
 	public ResourceLock getResourceLock() {
-		return taskContext.getExecutionAdvisor().getResourceLock(testDescriptor);
+		ResourceLock resourceLock = taskContext.getExecutionAdvisor().getResourceLock(testDescriptor);
+		if (timing == null && !taskContext.isFlightRecorderEnabled()) {
+			return resourceLock;
+		}
+		return new TimedResourceLock(resourceLock);
 	}
 
 	@Override
@@ -64,25 +88,45 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		return taskContext.getExecutionAdvisor().getForcedExecutionMode(testDescriptor).orElse(node.getExecutionMode());
 	}
 
+	/**
+	 * Set the parent context right before this task is submitted to the
+	 * executor service.
+	 */
 	void setParentContext(C parentContext) {
 		this.parentContext = parentContext;
+		if (taskContext.getTimingListener() != null) {
+			timing = new NodeExecutionTiming(System.nanoTime());
+		}
 	}
 
 	@Override
 	public void execute() {
 		try {
-			throwableCollector = taskContext.getThrowableCollectorFactory().create();
-			prepare();
-			if (throwableCollector.isEmpty()) {
-				checkWhetherSkipped();
+			if (timing != null) {
+				timing.started(System.nanoTime());
 			}
-			if (throwableCollector.isEmpty() && !skipResult.isSkipped()) {
-				executeRecursively();
+			Span span = taskContext.isFlightRecorderEnabled() ? FlightRecorderEvents.beginNodeExecution(
+				testDescriptor.getUniqueId().toString(), testDescriptor.getDisplayName()) : null;
+			try {
+				throwableCollector = taskContext.getThrowableCollectorFactory().create();
+				prepare();
+				if (throwableCollector.isEmpty()) {
+					checkWhetherSkipped();
+				}
+				if (throwableCollector.isEmpty() && !skipResult.isSkipped()) {
+					executeRecursively();
+				}
+				if (context != null) {
+					cleanUp();
+				}
+				reportCompletion();
 			}
-			if (context != null) {
-				cleanUp();
+			finally {
+				if (span != null) {
+					span.end();
+				}
 			}
-			reportCompletion();
+			reportTiming();
 		}
 		finally {
 			// Ensure that the 'interrupted status' flag for the current thread
@@ -104,7 +148,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private void prepare() {
-		throwableCollector.execute(() -> context = node.prepare(parentContext));
+		throwableCollector.execute(() -> timed(PREPARE, () -> context = node.prepare(parentContext)));
 
 		// Clear reference to parent context to allow it to be garbage collected.
 		// See https://github.com/junit-team/junit5/issues/1578
@@ -112,7 +156,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private void checkWhetherSkipped() {
-		throwableCollector.execute(() -> skipResult = node.shouldBeSkipped(context));
+		throwableCollector.execute(() -> timed(SHOULD_BE_SKIPPED, () -> skipResult = node.shouldBeSkipped(context)));
 	}
 
 	private void executeRecursively() {
@@ -129,26 +173,49 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 							.collect(toCollection(ArrayList::new));
 					// @formatter:on
 
-					context = node.before(context);
+					timed(BEFORE, () -> context = node.before(context));
 
 					final DynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor();
-					context = node.execute(context, dynamicTestExecutor);
+					timed(EXECUTE, () -> context = node.execute(context, dynamicTestExecutor));
 
-					if (!children.isEmpty()) {
-						children.forEach(child -> child.setParentContext(context));
-						taskContext.getExecutorService().invokeAll(children);
-					}
+					timed(CHILDREN, () -> {
+						if (!children.isEmpty()) {
+							children.forEach(child -> child.setParentContext(context));
+							taskContext.getExecutorService().invokeAll(children);
+						}
 
-					throwableCollector.execute(dynamicTestExecutor::awaitFinished);
+						throwableCollector.execute(dynamicTestExecutor::awaitFinished);
+					});
 				});
 
-				throwableCollector.execute(() -> node.after(context));
+				throwableCollector.execute(() -> timed(AFTER, () -> node.after(context)));
 			});
 		});
 	}
 
 	private void cleanUp() {
-		throwableCollector.execute(() -> node.cleanUp(context));
+		throwableCollector.execute(() -> timed(CLEAN_UP, () -> node.cleanUp(context)));
+	}
+
+	private void timed(Phase phase, Executable executable) throws Throwable {
+		if (timing == null && !taskContext.isFlightRecorderEnabled()) {
+			executable.execute();
+			return;
+		}
+		long startNanos = System.nanoTime();
+		Span span = taskContext.isFlightRecorderEnabled() ? FlightRecorderEvents.beginNodeExecutionPhase(
+			testDescriptor.getUniqueId().toString(), phase.name()) : null;
+		try {
+			executable.execute();
+		}
+		finally {
+			if (span != null) {
+				span.end();
+			}
+			if (timing != null) {
+				timing.recordPhase(phase, startNanos, System.nanoTime());
+			}
+		}
 	}
 
 	private void reportCompletion() {
@@ -180,34 +247,161 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		throwableCollector = null;
 	}
 
+	private void reportTiming() {
+		if (timing == null) {
+			return;
+		}
+		timing.finished(System.nanoTime());
+		try {
+			taskContext.getTimingListener().nodeExecuted(testDescriptor, timing);
+		}
+		catch (Throwable throwable) {
+			BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+			logger.warn(throwable, () -> String.format("Failed to report execution timing of TestDescriptor %s",
+				testDescriptor.getUniqueId()));
+		}
+		timing = null;
+	}
+
+	/**
+	 * {@link ResourceLock} that records the time spent waiting for the
+	 * wrapped lock.
+	 */
+	private class TimedResourceLock implements ResourceLock {
+
+		private final ResourceLock delegate;
+
+		TimedResourceLock(ResourceLock delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public ResourceLock acquire() throws InterruptedException {
+			long startNanos = System.nanoTime();
+			if (timing != null) {
+				timing.recordQueueWaitIfNecessary(startNanos);
+			}
+			Span span = null;
+			if (taskContext.isFlightRecorderEnabled() && delegate != NopLock.INSTANCE) {
+				span = FlightRecorderEvents.beginLockWait(testDescriptor.getUniqueId().toString(),
+					getExclusiveResourceKeys());
+			}
+			try {
+				delegate.acquire();
+			}
+			finally {
+				if (span != null) {
+					span.end();
+				}
+			}
+			if (timing != null) {
+				timing.recordPhase(LOCK_WAIT, startNanos, System.nanoTime());
+			}
+			return this;
+		}
+
+		private String getExclusiveResourceKeys() {
+			// @formatter:off
+			return node.getExclusiveResources().stream()
+					.map(resource -> resource.getKey() + " (" + resource.getLockMode() + ")")
+					.collect(joining(", "));
+			// @formatter:on
+		}
+
+		@Override
+		public void release() {
+			delegate.release();
+		}
+
+	}
+
 	private class DefaultDynamicTestExecutor implements DynamicTestExecutor {
-		private final List<Future<?>> futures = new ArrayList<>();
+
+		// only accessed by the thread executing the enclosing node
+		private final Deque<Future<?>> futures = new ArrayDeque<>();
+		private Throwable failure;
 
 		@Override
 		public void execute(TestDescriptor dynamicTestDescriptor) {
+			submit(dynamicTestDescriptor);
+		}
+
+		@Override
+		public Future<?> submit(TestDescriptor dynamicTestDescriptor) {
 			taskContext.getListener().dynamicTestRegistered(dynamicTestDescriptor);
 			Set<ExclusiveResource> exclusiveResources = NodeUtils.asNode(dynamicTestDescriptor).getExclusiveResources();
 			if (!exclusiveResources.isEmpty()) {
 				taskContext.getListener().executionStarted(dynamicTestDescriptor);
 				String message = "Dynamic test descriptors must not declare exclusive resources: " + exclusiveResources;
 				taskContext.getListener().executionFinished(dynamicTestDescriptor, failed(new JUnitException(message)));
+				return CompletableFuture.completedFuture(null);
 			}
-			else {
-				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext, dynamicTestDescriptor);
-				nodeTestTask.setParentContext(context);
-				futures.add(taskContext.getExecutorService().submit(nodeTestTask));
-			}
+			NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext, dynamicTestDescriptor);
+			nodeTestTask.setParentContext(context);
+			Future<?> future = taskContext.getExecutorService().submit(nodeTestTask);
+			futures.add(future);
+			removeFinishedFutures();
+			return future;
 		}
 
 		@Override
 		public void awaitFinished() throws InterruptedException {
-			for (Future<?> future : futures) {
+			awaitInFlightAtMost(0);
+			if (failure != null) {
+				Throwable throwable = failure;
+				failure = null;
+				ExceptionUtils.throwAsUncheckedException(throwable);
+			}
+		}
+
+		@Override
+		public void awaitInFlightAtMost(int maxInFlight) throws InterruptedException {
+			Preconditions.condition(maxInFlight >= 0, "maxInFlight must not be negative");
+			while (futures.size() > maxInFlight) {
+				Future<?> future = futures.peek();
 				try {
 					future.get();
 				}
 				catch (ExecutionException e) {
-					ExceptionUtils.throwAsUncheckedException(e.getCause());
+					recordFailure(e.getCause());
 				}
+				futures.remove();
+			}
+			removeFinishedFutures();
+		}
+
+		/**
+		 * Drop finished futures from the head of the queue so that a node
+		 * submitting a large number of dynamic tests does not retain all of
+		 * them until it has finished.
+		 *
+		 * <p>Failures of finished futures are recorded and reported by
+		 * {@link #awaitFinished()} rather than being rethrown here.
+		 */
+		private void removeFinishedFutures() {
+			while (!futures.isEmpty() && futures.peek().isDone()) {
+				Future<?> future = futures.remove();
+				if (!future.isCancelled()) {
+					try {
+						// does not block since the future is done
+						future.get();
+					}
+					catch (ExecutionException e) {
+						recordFailure(e.getCause());
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+			}
+		}
+
+		private void recordFailure(Throwable throwable) {
+			if (failure == null) {
+				failure = throwable;
+			}
+			else if (failure != throwable) {
+				failure.addSuppressed(throwable);
 			}
 		}
 	}
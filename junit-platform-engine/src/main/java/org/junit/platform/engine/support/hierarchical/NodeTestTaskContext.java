@@ -21,13 +21,18 @@ class NodeTestTaskContext {
 	private final HierarchicalTestExecutorService executorService;
 	private final ThrowableCollector.Factory throwableCollectorFactory;
 	private final NodeExecutionAdvisor executionAdvisor;
+	private final NodeExecutionTimingListener timingListener;
+	private final boolean flightRecorderEnabled;
 
 	public NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
-			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor) {
+			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor,
+			NodeExecutionTimingListener timingListener, boolean flightRecorderEnabled) {
 		this.listener = listener;
 		this.executorService = executorService;
 		this.throwableCollectorFactory = throwableCollectorFactory;
 		this.executionAdvisor = executionAdvisor;
+		this.timingListener = timingListener;
+		this.flightRecorderEnabled = flightRecorderEnabled;
 	}
 
 	EngineExecutionListener getListener() {
@@ -45,4 +50,21 @@ class NodeTestTaskContext {
 	NodeExecutionAdvisor getExecutionAdvisor() {
 		return executionAdvisor;
 	}
+
+	/**
+	 * Get the listener for node execution timings, or {@code null} if
+	 * timings should not be measured.
+	 */
+	NodeExecutionTimingListener getTimingListener() {
+		return timingListener;
+	}
+
+	/**
+	 * Determine if events should be emitted to the Java Flight Recorder.
+	 *
+	 * @see org.junit.platform.commons.util.FlightRecorderEvents
+	 */
+	boolean isFlightRecorderEnabled() {
+		return flightRecorderEnabled;
+	}
 }
@@ -61,4 +61,19 @@ public interface ParallelExecutionConfiguration {
 	 */
 	int getKeepAliveSeconds();
 
+	/**
+	 * Get the maximum parallelism to which the parallelism may be increased
+	 * while the executing threads are observed to be blocked, e.g. by
+	 * sleeping or waiting for I/O.
+	 *
+	 * <p>The default implementation returns {@link #getParallelism()}, i.e.
+	 * the parallelism is not adapted during execution.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	default int getMaxParallelism() {
+		return getParallelism();
+	}
+
 }
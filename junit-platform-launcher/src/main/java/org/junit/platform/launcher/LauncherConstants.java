@@ -13,6 +13,7 @@ package org.junit.platform.launcher;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.util.FlightRecorderEvents;
 import org.junit.platform.engine.reporting.ReportEntry;
 
 /**
@@ -89,6 +90,24 @@ public class LauncherConstants {
 	 */
 	public static final String STDERR_REPORT_ENTRY_KEY = "stderr";
 
+	/**
+	 * Property name used to enable emitting events to the Java Flight
+	 * Recorder: {@value}
+	 *
+	 * <p>By default, no events are emitted.
+	 *
+	 * <p>If enabled and running on Java 11 or later, the JUnit Platform emits
+	 * events for discovering the tests of each engine, for executing each
+	 * test and container and each of its phases, for waiting for the locks
+	 * of exclusive resources, and for captured output. The events are only
+	 * recorded while a flight recording that enables them is running, e.g.
+	 * one started via the {@code -XX:StartFlightRecording} JVM option.
+	 *
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static final String FLIGHT_RECORDER_ENABLED_PROPERTY_NAME = FlightRecorderEvents.ENABLED_PROPERTY_NAME;
+
 	private LauncherConstants() {
 		/* no-op */
 	}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * A {@code LauncherSession} provides a {@link Launcher} that keeps its test
+ * engines, test execution listeners, and discovered {@link TestPlan TestPlans}
+ * warm across many discovery and execution requests &mdash; for example, for
+ * IDEs or build daemons that launch many small test runs within the same JVM.
+ *
+ * <p>Test plans discovered for a {@link LauncherDiscoveryRequest} that only
+ * selects classes or methods are cached by the session and reused for
+ * subsequent requests with equal selectors, filters, and configuration
+ * parameters until the class files of the contained test classes are
+ * modified. Since executing a test plan may register dynamic tests with it,
+ * each cached test plan is executed at most once; subsequent executions
+ * discover the tests again.
+ *
+ * <p>Sessions should be {@linkplain #close() closed} once they are no longer
+ * needed in order to release all cached test plans.
+ *
+ * @since 1.4
+ * @see Launcher
+ * @see org.junit.platform.launcher.core.LauncherFactory#openSession()
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public interface LauncherSession extends AutoCloseable {
+
+	/**
+	 * Get the {@link Launcher} associated with this session.
+	 *
+	 * <p>The returned launcher must not be used after this session has been
+	 * closed.
+	 *
+	 * @return the launcher of this session; never {@code null}
+	 */
+	Launcher getLauncher();
+
+	/**
+	 * Close this session and release all cached test plans.
+	 */
+	@Override
+	void close();
+
+}
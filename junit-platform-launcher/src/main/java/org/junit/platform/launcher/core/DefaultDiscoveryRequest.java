@@ -16,7 +16,6 @@ import static java.util.stream.Collectors.toList;
 import java.util.List;
 
 import org.junit.platform.commons.util.Preconditions;
-import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.EngineDiscoveryRequest;
@@ -80,7 +79,7 @@ final class DefaultDiscoveryRequest implements LauncherDiscoveryRequest {
 	}
 
 	@Override
-	public ConfigurationParameters getConfigurationParameters() {
+	public LauncherConfigurationParameters getConfigurationParameters() {
 		return this.configurationParameters;
 	}
 
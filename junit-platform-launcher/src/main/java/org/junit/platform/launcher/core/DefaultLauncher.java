@@ -10,6 +10,8 @@
 
 package org.junit.platform.launcher.core;
 
+import static org.junit.platform.launcher.LauncherConstants.FLIGHT_RECORDER_ENABLED_PROPERTY_NAME;
+
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -19,6 +21,8 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.FlightRecorderEvents;
+import org.junit.platform.commons.util.FlightRecorderEvents.Span;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.ExecutionRequest;
@@ -143,6 +147,7 @@ class DefaultLauncher implements Launcher {
 
 	private Root discoverRoot(LauncherDiscoveryRequest discoveryRequest, String phase) {
 		Root root = new Root(discoveryRequest.getConfigurationParameters());
+		boolean flightRecorderEnabled = isFlightRecorderEnabled(discoveryRequest.getConfigurationParameters());
 
 		for (TestEngine testEngine : this.testEngines) {
 			// @formatter:off
@@ -161,7 +166,16 @@ class DefaultLauncher implements Launcher {
 			logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
 				testEngine.getId()));
 
-			Optional<TestDescriptor> engineRoot = discoverEngineRoot(testEngine, discoveryRequest);
+			Span span = flightRecorderEnabled ? FlightRecorderEvents.beginEngineDiscovery(testEngine.getId()) : null;
+			Optional<TestDescriptor> engineRoot;
+			try {
+				engineRoot = discoverEngineRoot(testEngine, discoveryRequest);
+			}
+			finally {
+				if (span != null) {
+					span.end();
+				}
+			}
 			engineRoot.ifPresent(rootDescriptor -> root.add(testEngine, rootDescriptor));
 		}
 		root.applyPostDiscoveryFilters(discoveryRequest);
@@ -169,6 +183,11 @@ class DefaultLauncher implements Launcher {
 		return root;
 	}
 
+	private static boolean isFlightRecorderEnabled(ConfigurationParameters configurationParameters) {
+		return configurationParameters.getBoolean(FLIGHT_RECORDER_ENABLED_PROPERTY_NAME).orElse(false)
+				&& FlightRecorderEvents.isAvailable();
+	}
+
 	private Optional<TestDescriptor> discoverEngineRoot(TestEngine testEngine,
 			LauncherDiscoveryRequest discoveryRequest) {
 
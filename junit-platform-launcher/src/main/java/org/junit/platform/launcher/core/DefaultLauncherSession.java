@@ -0,0 +1,330 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.MethodSelector;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Default implementation of the {@link LauncherSession} API.
+ *
+ * <p>All requests are delegated to a single {@link DefaultLauncher}, so that
+ * test engines and test execution listeners are only loaded once per session.
+ * Test plans discovered for requests that only select classes or methods are
+ * cached per class loader and request; they are only
+ * {@linkplain SoftReference softly referenced}, so that the garbage collector
+ * may reclaim them if memory is low.
+ *
+ * <p>A cached test plan is reused as long as the
+ * {@linkplain FileFingerprint fingerprints} of the class files of all test
+ * classes it contains, including their superclasses and interfaces, are
+ * unchanged. Since executing a test plan may register dynamic tests with it,
+ * every test plan discovered by a session is executed at most once. A cached
+ * test plan is removed from the cache as soon as its execution starts, and
+ * further executions discover the tests again.
+ *
+ * @since 1.4
+ * @see LauncherFactory#openSession(LauncherConfig)
+ */
+class DefaultLauncherSession implements LauncherSession {
+
+	private final DefaultLauncher delegate;
+	private final SessionLauncher launcher = new SessionLauncher();
+
+	private final ConcurrentMap<Object, CachedTestPlanReference> testPlans = new ConcurrentHashMap<>();
+	private final ReferenceQueue<CachedTestPlan> reclaimedTestPlans = new ReferenceQueue<>();
+	private final Map<TestPlan, DiscoveredTestPlan> discoveredTestPlans = Collections.synchronizedMap(
+		new WeakHashMap<>());
+
+	private volatile boolean closed;
+
+	DefaultLauncherSession(DefaultLauncher delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Launcher getLauncher() {
+		return this.launcher;
+	}
+
+	@Override
+	public void close() {
+		this.closed = true;
+		this.testPlans.clear();
+		this.discoveredTestPlans.clear();
+	}
+
+	/**
+	 * Create the key under which the test plan for the supplied request is
+	 * cached.
+	 *
+	 * @return the key or an empty {@code Optional} if the test plan for the
+	 * supplied request must not be cached
+	 */
+	@SuppressWarnings("rawtypes")
+	static Optional<Object> createCacheKey(LauncherDiscoveryRequest request) {
+		if (!(request instanceof DefaultDiscoveryRequest)) {
+			return Optional.empty();
+		}
+		DefaultDiscoveryRequest defaultRequest = (DefaultDiscoveryRequest) request;
+		List<DiscoverySelector> selectors = defaultRequest.getSelectorsByType(DiscoverySelector.class);
+		boolean onlyClassesOrMethodsSelected = selectors.stream().allMatch(
+			selector -> selector instanceof ClassSelector || selector instanceof MethodSelector);
+		if (selectors.isEmpty() || !onlyClassesOrMethodsSelected) {
+			return Optional.empty();
+		}
+		// @formatter:off
+		return Optional.of(Arrays.asList(
+				ClassLoaderUtils.getDefaultClassLoader(),
+				selectors,
+				new ArrayList<>(defaultRequest.getEngineFilters()),
+				defaultRequest.getFiltersByType(DiscoveryFilter.class),
+				new ArrayList<>(defaultRequest.getPostDiscoveryFilters()),
+				defaultRequest.getConfigurationParameters().toComparable()));
+		// @formatter:on
+	}
+
+	private void checkNotClosed() {
+		Preconditions.condition(!this.closed, "LauncherSession has already been closed");
+	}
+
+	private CachedTestPlan discoverCachedTestPlan(Object key, LauncherDiscoveryRequest request) {
+		removeReclaimedTestPlans();
+		while (true) {
+			CachedTestPlanReference reference = this.testPlans.computeIfAbsent(key, k -> {
+				InternalTestPlan testPlan = discoverTestPlan(key, request);
+				return new CachedTestPlanReference(key, new CachedTestPlan(testPlan, collectClassFiles(testPlan)));
+			});
+			CachedTestPlan cachedTestPlan = reference.get();
+			if (cachedTestPlan != null && cachedTestPlan.isUpToDate()) {
+				return cachedTestPlan;
+			}
+			this.testPlans.remove(key, reference);
+		}
+	}
+
+	private InternalTestPlan discoverTestPlan(Object key, LauncherDiscoveryRequest request) {
+		InternalTestPlan testPlan = (InternalTestPlan) this.delegate.discover(request);
+		this.discoveredTestPlans.put(testPlan, new DiscoveredTestPlan(key, request));
+		return testPlan;
+	}
+
+	/**
+	 * Mark the supplied test plan as executed and remove it from the cache.
+	 *
+	 * @return {@code true} if the test plan has not been executed before or
+	 * has not been discovered by this session
+	 */
+	private boolean markExecuted(TestPlan testPlan) {
+		DiscoveredTestPlan discoveredTestPlan = this.discoveredTestPlans.get(testPlan);
+		if (discoveredTestPlan == null) {
+			return true;
+		}
+		if (!discoveredTestPlan.markExecuted()) {
+			return false;
+		}
+		if (discoveredTestPlan.key != null) {
+			this.testPlans.computeIfPresent(discoveredTestPlan.key, (key, reference) -> {
+				CachedTestPlan cachedTestPlan = reference.get();
+				return (cachedTestPlan == null || cachedTestPlan.testPlan == testPlan) ? null : reference;
+			});
+		}
+		return true;
+	}
+
+	private void removeReclaimedTestPlans() {
+		CachedTestPlanReference reference;
+		while ((reference = (CachedTestPlanReference) this.reclaimedTestPlans.poll()) != null) {
+			this.testPlans.remove(reference.key, reference);
+		}
+	}
+
+	private static Set<FileFingerprint> collectClassFiles(InternalTestPlan testPlan) {
+		ClassLoader classLoader = ClassLoaderUtils.getDefaultClassLoader();
+		Set<String> classNames = new HashSet<>();
+		for (TestDescriptor engineDescriptor : testPlan.getRoot().getEngineDescriptors()) {
+			collectClassNames(engineDescriptor, classNames);
+			engineDescriptor.getDescendants().forEach(descriptor -> collectClassNames(descriptor, classNames));
+		}
+		Set<FileFingerprint> classFiles = new HashSet<>();
+		for (String className : classNames) {
+			URL classFile = classLoader.getResource(className.replace('.', '/') + ".class");
+			if (classFile != null) {
+				FileFingerprint.of(classFile).ifPresent(classFiles::add);
+			}
+		}
+		return classFiles;
+	}
+
+	private static void collectClassNames(TestDescriptor descriptor, Set<String> classNames) {
+		TestSource source = descriptor.getSource().orElse(null);
+		if (source instanceof MethodSource) {
+			classNames.add(((MethodSource) source).getClassName());
+		}
+		else if (source instanceof ClassSource) {
+			ClassSource classSource = (ClassSource) source;
+			classNames.add(classSource.getClassName());
+			try {
+				collectSuperTypeNames(classSource.getJavaClass(), classNames);
+			}
+			catch (PreconditionViolationException ex) {
+				// class cannot be loaded; only its own class file is taken into account
+			}
+		}
+	}
+
+	private static void collectSuperTypeNames(Class<?> type, Set<String> classNames) {
+		if (type.getSuperclass() != null && type.getSuperclass() != Object.class
+				&& classNames.add(type.getSuperclass().getName())) {
+			collectSuperTypeNames(type.getSuperclass(), classNames);
+		}
+		for (Class<?> superInterface : type.getInterfaces()) {
+			if (classNames.add(superInterface.getName())) {
+				collectSuperTypeNames(superInterface, classNames);
+			}
+		}
+	}
+
+	private class SessionLauncher implements Launcher {
+
+		@Override
+		public void registerTestExecutionListeners(TestExecutionListener... listeners) {
+			checkNotClosed();
+			delegate.registerTestExecutionListeners(listeners);
+		}
+
+		@Override
+		public TestPlan discover(LauncherDiscoveryRequest discoveryRequest) {
+			Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
+			checkNotClosed();
+			Optional<Object> key = createCacheKey(discoveryRequest);
+			if (key.isPresent()) {
+				return discoverCachedTestPlan(key.get(), discoveryRequest).testPlan;
+			}
+			return discoverTestPlan(null, discoveryRequest);
+		}
+
+		@Override
+		public void execute(LauncherDiscoveryRequest discoveryRequest, TestExecutionListener... listeners) {
+			Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
+			checkNotClosed();
+			Optional<Object> key = createCacheKey(discoveryRequest);
+			if (key.isPresent()) {
+				removeReclaimedTestPlans();
+				CachedTestPlanReference reference = testPlans.get(key.get());
+				CachedTestPlan cachedTestPlan = reference == null ? null : reference.get();
+				if (cachedTestPlan != null && cachedTestPlan.isUpToDate() && markExecuted(cachedTestPlan.testPlan)) {
+					delegate.execute(cachedTestPlan.testPlan, listeners);
+					return;
+				}
+			}
+			delegate.execute(discoveryRequest, listeners);
+		}
+
+		@Override
+		public void execute(TestPlan testPlan, TestExecutionListener... listeners) {
+			Preconditions.notNull(testPlan, "TestPlan must not be null");
+			checkNotClosed();
+			if (markExecuted(testPlan)) {
+				delegate.execute(testPlan, listeners);
+			}
+			else {
+				delegate.execute(discoveredTestPlans.get(testPlan).discoveryRequest, listeners);
+			}
+		}
+
+	}
+
+	/**
+	 * Request a test plan has been discovered for by this session along with
+	 * whether it has already been executed. Instances must not reference the
+	 * test plan itself since they are values of a {@link WeakHashMap} whose
+	 * keys are test plans.
+	 */
+	private static class DiscoveredTestPlan {
+
+		private final Object key;
+		private final LauncherDiscoveryRequest discoveryRequest;
+
+		private boolean executed;
+
+		DiscoveredTestPlan(Object key, LauncherDiscoveryRequest discoveryRequest) {
+			this.key = key;
+			this.discoveryRequest = discoveryRequest;
+		}
+
+		synchronized boolean markExecuted() {
+			if (this.executed) {
+				return false;
+			}
+			this.executed = true;
+			return true;
+		}
+
+	}
+
+	private static class CachedTestPlan {
+
+		private final InternalTestPlan testPlan;
+		private final Set<FileFingerprint> classFiles;
+
+		CachedTestPlan(InternalTestPlan testPlan, Set<FileFingerprint> classFiles) {
+			this.testPlan = testPlan;
+			this.classFiles = classFiles;
+		}
+
+		boolean isUpToDate() {
+			return this.classFiles.stream().allMatch(FileFingerprint::isUpToDate);
+		}
+
+	}
+
+	private class CachedTestPlanReference extends SoftReference<CachedTestPlan> {
+
+		private final Object key;
+
+		CachedTestPlanReference(Object key, CachedTestPlan cachedTestPlan) {
+			super(cachedTestPlan, reclaimedTestPlans);
+			this.key = key;
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.util.Optional;
+
+/**
+ * Path, size, and modification timestamp of the file a classpath resource
+ * was loaded from.
+ *
+ * <p>Fingerprints are used to detect whether cached information derived from
+ * a resource is still up to date without opening the resource. Resources
+ * contained in JAR files are represented by the JAR file itself. Since file
+ * system timestamps may be rather coarse-grained, the size of the file is
+ * taken into account as well.
+ *
+ * @since 1.4
+ */
+final class FileFingerprint {
+
+	private static final String JAR_URL_SEPARATOR = "!/";
+
+	/**
+	 * Create a fingerprint of the file the supplied resource URL points to.
+	 *
+	 * @return the fingerprint or an empty {@code Optional} if the resource is
+	 * not located in the file system, either directly or within a JAR file
+	 */
+	static Optional<FileFingerprint> of(URL url) {
+		try {
+			File file = toFile(url);
+			if (file != null && file.isFile()) {
+				return Optional.of(new FileFingerprint(file));
+			}
+		}
+		catch (Exception ex) {
+			// malformed URL; fall through
+		}
+		return Optional.empty();
+	}
+
+	private static File toFile(URL url) throws Exception {
+		if ("file".equals(url.getProtocol())) {
+			return new File(url.toURI());
+		}
+		if ("jar".equals(url.getProtocol())) {
+			String path = url.getPath();
+			int separatorIndex = path.indexOf(JAR_URL_SEPARATOR);
+			if (separatorIndex > 0) {
+				URI jarFileUri = new URI(path.substring(0, separatorIndex));
+				if ("file".equals(jarFileUri.getScheme())) {
+					return new File(jarFileUri);
+				}
+			}
+		}
+		return null;
+	}
+
+	private final File file;
+	private final long length;
+	private final long lastModified;
+
+	private FileFingerprint(File file) {
+		this.file = file;
+		this.length = file.length();
+		this.lastModified = file.lastModified();
+	}
+
+	/**
+	 * Determine whether the file has been neither modified nor deleted since
+	 * this fingerprint was taken.
+	 */
+	boolean isUpToDate() {
+		return this.file.length() == this.length && this.file.lastModified() == this.lastModified;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		FileFingerprint that = (FileFingerprint) obj;
+		return this.file.equals(that.file) && this.length == that.length && this.lastModified == that.lastModified;
+	}
+
+	@Override
+	public int hashCode() {
+		return this.file.hashCode();
+	}
+
+}
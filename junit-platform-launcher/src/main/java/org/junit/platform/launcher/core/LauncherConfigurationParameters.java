@@ -12,11 +12,14 @@ package org.junit.platform.launcher.core;
 
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.WeakHashMap;
 
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -32,6 +35,18 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 
 	private static final Logger logger = LoggerFactory.getLogger(LauncherConfigurationParameters.class);
 
+	/**
+	 * Parsed configuration files per class loader and file name so that
+	 * launchers executing many requests in the same JVM don't parse the same
+	 * configuration file over and over again.
+	 *
+	 * <p>Only configuration files located in the file system, either directly
+	 * or within a JAR file, are cached since only their
+	 * {@linkplain FileFingerprint fingerprint} can be checked without reading
+	 * them.
+	 */
+	private static final Map<ClassLoader, Map<String, ConfigFile>> configFileCache = new WeakHashMap<>();
+
 	private final Map<String, String> explicitConfigParams;
 	private final Properties configParamsFromFile;
 
@@ -61,11 +76,21 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 				}
 
 				URL configFileUrl = resources.get(0);
+				Optional<FileFingerprint> fingerprint = FileFingerprint.of(configFileUrl);
+				if (fingerprint.isPresent()) {
+					ConfigFile cachedConfigFile = getCachedConfigFile(classLoader, configFileName);
+					if (cachedConfigFile != null && cachedConfigFile.isUpToDate(configFileUrl, fingerprint.get())) {
+						return cachedConfigFile.properties;
+					}
+				}
+
 				logger.info(() -> String.format(
 					"Loading JUnit Platform configuration parameters from classpath resource [%s].", configFileUrl));
 				try (InputStream inputStream = configFileUrl.openStream()) {
 					props.load(inputStream);
 				}
+				fingerprint.ifPresent(it -> cacheConfigFile(classLoader, configFileName,
+					new ConfigFile(configFileUrl, it, props)));
 			}
 		}
 		catch (Exception ex) {
@@ -78,6 +103,27 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 		return props;
 	}
 
+	private static ConfigFile getCachedConfigFile(ClassLoader classLoader, String configFileName) {
+		synchronized (configFileCache) {
+			return configFileCache.getOrDefault(classLoader, Collections.emptyMap()).get(configFileName);
+		}
+	}
+
+	private static void cacheConfigFile(ClassLoader classLoader, String configFileName, ConfigFile configFile) {
+		synchronized (configFileCache) {
+			configFileCache.computeIfAbsent(classLoader, key -> new HashMap<>()).put(configFileName, configFile);
+		}
+	}
+
+	/**
+	 * Get a snapshot of the explicit configuration parameters and those read
+	 * from the configuration file that can be compared using
+	 * {@link Object#equals(Object)}.
+	 */
+	Object toComparable() {
+		return Arrays.asList(new HashMap<>(this.explicitConfigParams), this.configParamsFromFile);
+	}
+
 	@Override
 	public Optional<String> get(String key) {
 		return Optional.ofNullable(getProperty(key));
@@ -136,4 +182,28 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 		return builder.toString();
 	}
 
+	/**
+	 * Contents of a configuration file along with the location and
+	 * {@linkplain FileFingerprint fingerprint} they were read from. The
+	 * properties are never modified once loaded and thus shared between
+	 * instances.
+	 */
+	private static class ConfigFile {
+
+		private final String url;
+		private final FileFingerprint fingerprint;
+		private final Properties properties;
+
+		ConfigFile(URL url, FileFingerprint fingerprint, Properties properties) {
+			this.url = url.toExternalForm();
+			this.fingerprint = fingerprint;
+			this.properties = properties;
+		}
+
+		boolean isUpToDate(URL url, FileFingerprint fingerprint) {
+			return this.url.equals(url.toExternalForm()) && this.fingerprint.equals(fingerprint);
+		}
+
+	}
+
 }
@@ -21,6 +21,7 @@ import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherSession;
 import org.junit.platform.launcher.TestExecutionListener;
 
 /**
@@ -45,9 +46,17 @@ import org.junit.platform.launcher.TestExecutionListener;
  * of test engines and listeners, supply an instance of {@link LauncherConfig}
  * to {@link #create(LauncherConfig)}.
  *
+ * <p>Since test engines and listeners are loaded once per {@link Launcher}, a
+ * launcher may be reused for any number of discovery and execution requests.
+ * Tools that run many requests within the same JVM should therefore create a
+ * single launcher and reuse it instead of creating a new one per request, or
+ * {@linkplain #openSession() open} a {@link LauncherSession} that additionally
+ * caches discovered test plans.
+ *
  * @since 1.0
  * @see Launcher
  * @see LauncherConfig
+ * @see LauncherSession
  */
 @API(status = STABLE, since = "1.0")
 public class LauncherFactory {
@@ -81,14 +90,48 @@ public class LauncherFactory {
 	@API(status = EXPERIMENTAL, since = "1.3")
 	public static Launcher create(LauncherConfig config) throws PreconditionViolationException {
 		Preconditions.notNull(config, "LauncherConfig must not be null");
+		return createDefaultLauncher(config);
+	}
+
+	/**
+	 * Factory method for opening a new {@link LauncherSession} using automatic
+	 * registration for test engines and test execution listeners.
+	 *
+	 * @throws PreconditionViolationException if no test engines are detected
+	 * @see #openSession(LauncherConfig)
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static LauncherSession openSession() throws PreconditionViolationException {
+		return openSession(LauncherConfig.builder().build());
+	}
+
+	/**
+	 * Factory method for opening a new {@link LauncherSession} using the
+	 * supplied {@link LauncherConfig}.
+	 *
+	 * @param config the configuration for the session's launcher; never
+	 * {@code null}
+	 * @throws PreconditionViolationException if the supplied launcher
+	 * configuration is {@code null}, or if no test engines are detected or
+	 * registered
+	 * @see #openSession()
+	 * @since 1.4
+	 */
+	@API(status = EXPERIMENTAL, since = "1.4")
+	public static LauncherSession openSession(LauncherConfig config) throws PreconditionViolationException {
+		Preconditions.notNull(config, "LauncherConfig must not be null");
+		return new DefaultLauncherSession(createDefaultLauncher(config));
+	}
 
+	private static DefaultLauncher createDefaultLauncher(LauncherConfig config) {
 		Set<TestEngine> engines = new LinkedHashSet<>();
 		if (config.isTestEngineAutoRegistrationEnabled()) {
 			new ServiceLoaderTestEngineRegistry().loadTestEngines().forEach(engines::add);
 		}
 		engines.addAll(config.getAdditionalTestEngines());
 
-		Launcher launcher = new DefaultLauncher(engines);
+		DefaultLauncher launcher = new DefaultLauncher(engines);
 
 		if (config.isTestExecutionListenerAutoRegistrationEnabled()) {
 			new ServiceLoaderTestExecutionListenerRegistry().loadListeners().forEach(
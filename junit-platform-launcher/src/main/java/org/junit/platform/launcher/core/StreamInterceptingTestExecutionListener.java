@@ -14,6 +14,7 @@ import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_D
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FLIGHT_RECORDER_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
 import static org.junit.platform.launcher.LauncherConstants.STDOUT_REPORT_ENTRY_KEY;
 
@@ -22,6 +23,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 
+import org.junit.platform.commons.util.FlightRecorderEvents;
 import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestExecutionResult;
@@ -37,6 +39,7 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 	private final Optional<StreamInterceptor> stdoutInterceptor;
 	private final Optional<StreamInterceptor> stderrInterceptor;
 	private final BiConsumer<TestIdentifier, ReportEntry> reporter;
+	private final boolean flightRecorderEnabled;
 
 	static Optional<StreamInterceptingTestExecutionListener> create(ConfigurationParameters configurationParameters,
 			BiConsumer<TestIdentifier, ReportEntry> reporter) {
@@ -60,14 +63,19 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 			stderrInterceptor.ifPresent(StreamInterceptor::unregister);
 			return Optional.empty();
 		}
-		return Optional.of(new StreamInterceptingTestExecutionListener(stdoutInterceptor, stderrInterceptor, reporter));
+		boolean flightRecorderEnabled = configurationParameters.getBoolean(
+			FLIGHT_RECORDER_ENABLED_PROPERTY_NAME).orElse(false) && FlightRecorderEvents.isAvailable();
+		return Optional.of(new StreamInterceptingTestExecutionListener(stdoutInterceptor, stderrInterceptor, reporter,
+			flightRecorderEnabled));
 	}
 
 	private StreamInterceptingTestExecutionListener(Optional<StreamInterceptor> stdoutInterceptor,
-			Optional<StreamInterceptor> stderrInterceptor, BiConsumer<TestIdentifier, ReportEntry> reporter) {
+			Optional<StreamInterceptor> stderrInterceptor, BiConsumer<TestIdentifier, ReportEntry> reporter,
+			boolean flightRecorderEnabled) {
 		this.stdoutInterceptor = stdoutInterceptor;
 		this.stderrInterceptor = stderrInterceptor;
 		this.reporter = reporter;
+		this.flightRecorderEnabled = flightRecorderEnabled;
 	}
 
 	void unregister() {
@@ -85,10 +93,12 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 	public void executionJustFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
 		Map<String, String> map = new HashMap<>();
 		String out = stdoutInterceptor.map(StreamInterceptor::consume).orElse("");
+		recordCapturedOutput(testIdentifier, STDOUT_REPORT_ENTRY_KEY, out);
 		if (StringUtils.isNotBlank(out)) {
 			map.put(STDOUT_REPORT_ENTRY_KEY, out);
 		}
 		String err = stderrInterceptor.map(StreamInterceptor::consume).orElse("");
+		recordCapturedOutput(testIdentifier, STDERR_REPORT_ENTRY_KEY, err);
 		if (StringUtils.isNotBlank(err)) {
 			map.put(STDERR_REPORT_ENTRY_KEY, err);
 		}
@@ -96,4 +106,11 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 			reporter.accept(testIdentifier, ReportEntry.from(map));
 		}
 	}
+
+	private void recordCapturedOutput(TestIdentifier testIdentifier, String stream, String output) {
+		if (flightRecorderEnabled && !output.isEmpty()) {
+			// captured bytes have been decoded using the default charset
+			FlightRecorderEvents.commitCapturedOutput(testIdentifier.getUniqueId(), stream, output.getBytes().length);
+		}
+	}
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.incremental;
+
+import static java.util.Collections.emptyMap;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.incremental.TestDependencyStore.Entry;
+
+/**
+ * Factory methods for creating {@link PostDiscoveryFilter PostDiscoveryFilters}
+ * that only include tests whose dependencies have changed since they were
+ * last executed successfully.
+ *
+ * <p>The dependencies of test classes have to be recorded by a
+ * {@link TestDependencyRecorder} that is registered for the execution of the
+ * test plan and uses the same store file.
+ *
+ * @since 1.4
+ * @see TestDependencyRecorder
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public final class ChangedTestsFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ChangedTestsFilter.class);
+
+	private ChangedTestsFilter() {
+		/* no-op */
+	}
+
+	/**
+	 * Create a filter that only includes tests whose dependencies have
+	 * changed according to the supplied store file.
+	 *
+	 * <p>A test is included if the fingerprint of the class file of its test
+	 * class or of any class it depends on differs from the one recorded in
+	 * the store file, if any such class file no longer exists, if no
+	 * dependencies have been recorded for its test class &mdash; e.g. because
+	 * it is new or failed in its last execution &mdash; or if the test itself
+	 * has not been recorded as executed successfully, e.g. because it was not
+	 * selected in the last execution. Tests and containers that are not
+	 * associated with a class are always included.
+	 *
+	 * <p>If the store file cannot be read, all tests are included.
+	 *
+	 * @param storeFile the file the dependencies have been recorded in; never
+	 * {@code null}
+	 * @return the filter; never {@code null}
+	 * @see TestDependencyRecorder#TestDependencyRecorder(Path)
+	 */
+	public static PostDiscoveryFilter includeChangedTests(Path storeFile) {
+		Preconditions.notNull(storeFile, "store file must not be null");
+		Map<String, Entry> entries = readEntries(storeFile);
+		ClassFileAnalyzer classFileAnalyzer = new ClassFileAnalyzer(ClassLoaderUtils.getDefaultClassLoader());
+		Map<String, Boolean> changedClasses = new ConcurrentHashMap<>();
+		return descriptor -> {
+			Optional<String> className = findClassName(descriptor);
+			if (!className.isPresent()) {
+				return FilterResult.included("Not associated with a class");
+			}
+			Entry entry = entries.get(className.get());
+			boolean changed = changedClasses.computeIfAbsent(className.get(),
+				name -> hasChanged(entry, classFileAnalyzer));
+			if (changed) {
+				return FilterResult.included("Dependencies of " + className.get() + " have changed");
+			}
+			return FilterResult.includedIf(!entry.uniqueIds.contains(descriptor.getUniqueId().toString()),
+				() -> "Not executed successfully since dependencies of " + className.get() + " were recorded",
+				() -> "Dependencies of " + className.get() + " are unchanged");
+		};
+	}
+
+	private static Map<String, Entry> readEntries(Path storeFile) {
+		try {
+			return TestDependencyStore.read(storeFile);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to read test dependencies from " + storeFile + "; including all tests");
+			return emptyMap();
+		}
+	}
+
+	private static Optional<String> findClassName(TestDescriptor descriptor) {
+		Optional<TestDescriptor> current = Optional.of(descriptor);
+		while (current.isPresent()) {
+			Optional<String> className = current.get().getSource().flatMap(TestDependencyRecorder::getClassName);
+			if (className.isPresent()) {
+				return className;
+			}
+			current = current.get().getParent();
+		}
+		return Optional.empty();
+	}
+
+	private static boolean hasChanged(Entry entry, ClassFileAnalyzer classFileAnalyzer) {
+		if (entry == null) {
+			return true;
+		}
+		try {
+			return entry.fingerprints.entrySet().stream().anyMatch(dependency -> {
+				Optional<String> fingerprint = classFileAnalyzer.getFingerprint(dependency.getKey());
+				return !fingerprint.filter(dependency.getValue()::equals).isPresent();
+			});
+		}
+		catch (RuntimeException ex) {
+			logger.debug(ex, () -> "Failed to compare fingerprints of class files; including tests");
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.incremental;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ClassFileHeader;
+
+/**
+ * {@code ClassFileAnalyzer} computes fingerprints of class files and the
+ * classes they depend on.
+ *
+ * <p>Only class files that are located in directories, i.e. the local build
+ * output, are taken into account. Classes from JAR files and the JDK are
+ * ignored.
+ *
+ * <p>The dependencies of a class are determined by reading the class names
+ * and type descriptors in the constant pool of its class file. Therefore,
+ * classes that are only loaded reflectively, e.g. via {@link Class#forName}
+ * or {@link java.util.ServiceLoader}, are <em>not</em> detected.
+ *
+ * <p>Class files are read at most once per instance. Thus, an instance must
+ * not be reused after the class files might have changed.
+ *
+ * @since 1.4
+ */
+class ClassFileAnalyzer {
+
+	private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+	private static final String DESCRIPTOR_DELIMITERS = "()[;<>:^";
+
+	private final ClassLoader classLoader;
+
+	private final Map<String, Optional<ClassFile>> classFiles = new ConcurrentHashMap<>();
+
+	ClassFileAnalyzer(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Get the fingerprint of the class file of the supplied class.
+	 *
+	 * @return the fingerprint; empty if the class file is not located in a
+	 * directory
+	 * @throws UncheckedIOException if the class file cannot be read
+	 */
+	Optional<String> getFingerprint(String className) {
+		return getClassFile(className).map(classFile -> classFile.fingerprint);
+	}
+
+	/**
+	 * Get the fingerprints of the class files of the supplied class and of all
+	 * classes it directly or transitively depends on.
+	 *
+	 * @return a map from class name to fingerprint, sorted by class name;
+	 * empty if the class file of the supplied class is not located in a
+	 * directory
+	 * @throws UncheckedIOException if any of the class files cannot be read
+	 */
+	Map<String, String> getDependencyFingerprints(String className) {
+		Map<String, String> fingerprints = new TreeMap<>();
+		Set<String> visited = new HashSet<>();
+		Deque<String> remaining = new ArrayDeque<>();
+		remaining.add(className);
+		while (!remaining.isEmpty()) {
+			String current = remaining.poll();
+			if (visited.add(current)) {
+				getClassFile(current).ifPresent(classFile -> {
+					fingerprints.put(current, classFile.fingerprint);
+					remaining.addAll(classFile.referencedClassNames);
+				});
+			}
+		}
+		return fingerprints;
+	}
+
+	private Optional<ClassFile> getClassFile(String className) {
+		return this.classFiles.computeIfAbsent(className, this::readClassFile);
+	}
+
+	private Optional<ClassFile> readClassFile(String className) {
+		URL resource = this.classLoader.getResource(className.replace('.', '/') + ".class");
+		if (resource == null || !"file".equals(resource.getProtocol())) {
+			return Optional.empty();
+		}
+		try {
+			byte[] bytes = Files.readAllBytes(Paths.get(resource.toURI()));
+			return Optional.of(new ClassFile(computeFingerprint(bytes), readReferencedClassNames(bytes)));
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to read class file of " + className, ex);
+		}
+		catch (URISyntaxException ex) {
+			throw new JUnitException("Failed to resolve class file of " + className, ex);
+		}
+	}
+
+	private static String computeFingerprint(byte[] bytes) {
+		try {
+			byte[] digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(bytes);
+			StringBuilder builder = new StringBuilder(digest.length * 2);
+			for (byte b : digest) {
+				builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+			}
+			return builder.toString();
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new JUnitException("Failed to compute class file fingerprint", ex);
+		}
+	}
+
+	private static Set<String> readReferencedClassNames(byte[] bytes) throws IOException {
+		ClassFileHeader header = ClassFileHeader.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+		Set<String> classNames = new HashSet<>();
+		for (String utf8Constant : header.getUtf8Constants()) {
+			addClassNamesFromDescriptors(utf8Constant, classNames);
+		}
+		for (String internalName : header.getReferencedClassNames()) {
+			// array classes are covered by their descriptors
+			if (!internalName.startsWith("[")) {
+				classNames.add(internalName.replace('/', '.'));
+			}
+		}
+		return classNames;
+	}
+
+	/**
+	 * Add the names of all classes referenced in the supplied field, method,
+	 * or generic signature descriptor.
+	 *
+	 * <p>Since any UTF-8 constant is passed to this method, the result may
+	 * contain names of classes that do not exist. Such names are ignored when
+	 * their class files cannot be found.
+	 */
+	private static void addClassNamesFromDescriptors(String value, Set<String> classNames) {
+		for (int start = value.indexOf('L'); start >= 0; start = value.indexOf('L', start + 1)) {
+			if (start == 0 || DESCRIPTOR_DELIMITERS.indexOf(value.charAt(start - 1)) >= 0) {
+				int end = start + 1;
+				while (end < value.length() && value.charAt(end) != ';' && value.charAt(end) != '<') {
+					end++;
+				}
+				if (end < value.length() && end > start + 1) {
+					classNames.add(value.substring(start + 1, end).replace('/', '.'));
+				}
+			}
+		}
+	}
+
+	private static class ClassFile {
+
+		private final String fingerprint;
+		private final Set<String> referencedClassNames;
+
+		ClassFile(String fingerprint, Set<String> referencedClassNames) {
+			this.fingerprint = fingerprint;
+			this.referencedClassNames = referencedClassNames;
+		}
+
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.incremental;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.incremental.TestDependencyStore.Entry;
+
+/**
+ * {@code TestDependencyRecorder} is a {@link TestExecutionListener} that
+ * records the fingerprints of the class files each executed test class
+ * depends on in a local file.
+ *
+ * <p>The dependencies of a test class are the class itself and all classes
+ * it directly or transitively references, as long as their class files are
+ * located in a directory, i.e. the local build output. Libraries in JAR files
+ * are <em>not</em> taken into account; the store file should be deleted
+ * whenever they change.
+ *
+ * <p>Dependencies are only recorded for test classes whose tests and
+ * containers in the executed test plan were all executed successfully, i.e.
+ * none of them was skipped or aborted. Along with the dependencies, the
+ * unique IDs of these tests and containers are recorded, so that
+ * {@link ChangedTestsFilter} still includes tests of the class that were not
+ * part of the test plan, e.g. because they were not selected or excluded by
+ * a tag filter. Previously recorded dependencies of test classes that fail
+ * are removed so that they are selected again in the next run. Recorded
+ * dependencies of all other test classes are retained.
+ *
+ * @since 1.4
+ * @see ChangedTestsFilter
+ */
+@API(status = EXPERIMENTAL, since = "1.4")
+public class TestDependencyRecorder implements TestExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(TestDependencyRecorder.class);
+
+	private final Path storeFile;
+
+	private final Set<String> failedClassNames = ConcurrentHashMap.newKeySet();
+	private final Set<String> successfulUniqueIds = ConcurrentHashMap.newKeySet();
+
+	private TestPlan testPlan;
+	private ClassFileAnalyzer classFileAnalyzer;
+
+	/**
+	 * Create a new {@code TestDependencyRecorder} that stores the recorded
+	 * dependencies in the supplied file.
+	 *
+	 * @param storeFile the file to store the dependencies in; never
+	 * {@code null}
+	 */
+	public TestDependencyRecorder(Path storeFile) {
+		this.storeFile = Preconditions.notNull(storeFile, "store file must not be null");
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.testPlan = testPlan;
+		this.classFileAnalyzer = new ClassFileAnalyzer(ClassLoaderUtils.getDefaultClassLoader());
+		this.failedClassNames.clear();
+		this.successfulUniqueIds.clear();
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (testExecutionResult.getStatus() == Status.FAILED) {
+			markFailed(testIdentifier);
+		}
+		else if (testExecutionResult.getStatus() == Status.SUCCESSFUL) {
+			this.successfulUniqueIds.add(testIdentifier.getUniqueId());
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		Map<String, Set<String>> uniqueIdsByClassName = new HashMap<>();
+		for (TestIdentifier root : testPlan.getRoots()) {
+			collectUniqueIds(testPlan, root, Optional.empty(), uniqueIdsByClassName);
+		}
+		try {
+			Map<String, Entry> entries = TestDependencyStore.read(this.storeFile);
+			this.failedClassNames.forEach(entries::remove);
+			uniqueIdsByClassName.forEach((className, uniqueIds) -> {
+				if (!this.failedClassNames.contains(className) && this.successfulUniqueIds.containsAll(uniqueIds)) {
+					recordSuccessfulExecution(entries, className, uniqueIds);
+				}
+			});
+			TestDependencyStore.write(this.storeFile, entries);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to store test dependencies in " + this.storeFile);
+		}
+	}
+
+	/**
+	 * Collect the unique IDs of the tests and containers of the executed test
+	 * plan, including dynamically registered ones, grouped by the name of the
+	 * class they or their nearest ancestor are associated with.
+	 */
+	private static void collectUniqueIds(TestPlan testPlan, TestIdentifier identifier,
+			Optional<String> enclosingClassName, Map<String, Set<String>> uniqueIdsByClassName) {
+
+		Optional<String> className = identifier.getSource().flatMap(TestDependencyRecorder::getClassName);
+		if (!className.isPresent()) {
+			className = enclosingClassName;
+		}
+		className.ifPresent(name -> uniqueIdsByClassName.computeIfAbsent(name, key -> new TreeSet<>()).add(
+			identifier.getUniqueId()));
+		for (TestIdentifier child : testPlan.getChildren(identifier)) {
+			collectUniqueIds(testPlan, child, className, uniqueIdsByClassName);
+		}
+	}
+
+	/**
+	 * Record the current dependencies of the supplied test class along with
+	 * the supplied unique IDs of its successfully executed tests and
+	 * containers.
+	 *
+	 * <p>Unique IDs recorded for unchanged dependencies in a previous run are
+	 * retained since their tests have not been executed again.
+	 */
+	private void recordSuccessfulExecution(Map<String, Entry> entries, String className, Set<String> uniqueIds) {
+		Optional<Map<String, String>> fingerprints = getDependencyFingerprints(className);
+		if (!fingerprints.isPresent()) {
+			entries.remove(className);
+			return;
+		}
+		Entry previousEntry = entries.get(className);
+		if (previousEntry != null && previousEntry.fingerprints.equals(fingerprints.get())) {
+			uniqueIds.addAll(previousEntry.uniqueIds);
+		}
+		entries.put(className, new Entry(fingerprints.get(), uniqueIds));
+	}
+
+	private void markFailed(TestIdentifier testIdentifier) {
+		Optional<TestIdentifier> current = Optional.of(testIdentifier);
+		while (current.isPresent()) {
+			Optional<String> className = current.get().getSource().flatMap(TestDependencyRecorder::getClassName);
+			className.ifPresent(this.failedClassNames::add);
+			current = this.testPlan.getParent(current.get());
+		}
+	}
+
+	private Optional<Map<String, String>> getDependencyFingerprints(String className) {
+		try {
+			Map<String, String> fingerprints = this.classFileAnalyzer.getDependencyFingerprints(className);
+			return Optional.of(fingerprints).filter(map -> !map.isEmpty());
+		}
+		catch (RuntimeException ex) {
+			logger.warn(ex, () -> "Failed to record dependencies of test class " + className);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Get the name of the class the supplied source refers to, if any.
+	 */
+	static Optional<String> getClassName(TestSource source) {
+		if (source instanceof ClassSource) {
+			return Optional.of(((ClassSource) source).getClassName());
+		}
+		if (source instanceof MethodSource) {
+			return Optional.of(((MethodSource) source).getClassName());
+		}
+		return Optional.empty();
+	}
+
+}
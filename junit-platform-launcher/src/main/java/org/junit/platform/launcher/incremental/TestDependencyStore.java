@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.incremental;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * {@code TestDependencyStore} reads and writes the fingerprints of the
+ * dependencies of test classes along with the unique IDs of their
+ * successfully executed tests from and to a local file.
+ *
+ * <p>The file contains one line per test class, each followed by one line per
+ * dependency that is indented by a tab and consists of the class name and
+ * its fingerprint separated by a space, and by one line per successfully
+ * executed test or container that is indented by two tabs and consists of
+ * its unique ID. Lines starting with {@code #} are ignored.
+ *
+ * @since 1.4
+ * @see TestDependencyRecorder
+ * @see ChangedTestsFilter
+ */
+final class TestDependencyStore {
+
+	private static final String HEADER = "# Dependencies of test classes recorded by the JUnit Platform";
+
+	private TestDependencyStore() {
+		/* no-op */
+	}
+
+	/**
+	 * Read the recorded entries from the supplied file.
+	 *
+	 * @return a mutable map from test class name to its entry; empty if the
+	 * file does not exist
+	 * @throws IOException if the file cannot be read or is malformed
+	 */
+	static Map<String, Entry> read(Path file) throws IOException {
+		Map<String, Entry> entries = new TreeMap<>();
+		if (!Files.exists(file)) {
+			return entries;
+		}
+		try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+			Entry entry = null;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+				if (line.charAt(0) != '\t') {
+					entry = new Entry(new TreeMap<>(), new TreeSet<>());
+					entries.put(line, entry);
+					continue;
+				}
+				if (entry == null) {
+					throw new IOException("Malformed line in " + file + ": " + line);
+				}
+				if (line.startsWith("\t\t")) {
+					entry.uniqueIds.add(line.substring(2));
+					continue;
+				}
+				int separatorIndex = line.indexOf(' ');
+				if (separatorIndex < 0) {
+					throw new IOException("Malformed line in " + file + ": " + line);
+				}
+				entry.fingerprints.put(line.substring(1, separatorIndex), line.substring(separatorIndex + 1));
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Write the supplied entries to the supplied file, replacing its previous
+	 * content.
+	 *
+	 * <p>The file is written to a temporary file first and then moved to the
+	 * supplied location in order to not leave a partially written file behind.
+	 */
+	static void write(Path file, Map<String, Entry> entries) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+				writer.write(HEADER);
+				writer.write('\n');
+				for (Map.Entry<String, Entry> entry : new TreeMap<>(entries).entrySet()) {
+					writer.write(entry.getKey());
+					writer.write('\n');
+					for (Map.Entry<String, String> fingerprint : entry.getValue().fingerprints.entrySet()) {
+						writer.write('\t' + fingerprint.getKey() + ' ' + fingerprint.getValue());
+						writer.write('\n');
+					}
+					for (String uniqueId : new TreeSet<>(entry.getValue().uniqueIds)) {
+						writer.write("\t\t" + uniqueId);
+						writer.write('\n');
+					}
+				}
+			}
+			try {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * The recorded dependency fingerprints of a test class along with the
+	 * unique IDs of its tests and containers that were executed successfully
+	 * while these dependencies were in place.
+	 */
+	static final class Entry {
+
+		final Map<String, String> fingerprints;
+		final Set<String> uniqueIds;
+
+		Entry(Map<String, String> fingerprints, Set<String> uniqueIds) {
+			this.fingerprints = fingerprints;
+			this.uniqueIds = uniqueIds;
+		}
+
+	}
+
+}
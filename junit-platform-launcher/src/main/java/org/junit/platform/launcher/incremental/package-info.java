@@ -0,0 +1,6 @@
+/**
+ * Support for selecting only tests whose dependencies have changed since
+ * their last successful execution.
+ */
+
+package org.junit.platform.launcher.incremental;
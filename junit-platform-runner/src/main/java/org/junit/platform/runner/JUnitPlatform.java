@@ -41,7 +41,7 @@ import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
-import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.runner.TestPlanCache.CachedTestPlan;
 import org.junit.platform.suite.api.ExcludeClassNamePatterns;
 import org.junit.platform.suite.api.ExcludeEngines;
 import org.junit.platform.suite.api.ExcludePackages;
@@ -109,19 +109,25 @@ public class JUnitPlatform extends Runner implements Filterable {
 	private static final String[] STANDARD_INCLUDE_PATTERN_ARRAY = new String[] { STANDARD_INCLUDE_PATTERN };
 
 	private final Class<?> testClass;
-	private final Launcher launcher;
+	private final TestPlanCache testPlanCache;
 
+	private CachedTestPlan cachedTestPlan;
 	private JUnitPlatformTestTree testTree;
 
 	public JUnitPlatform(Class<?> testClass) {
-		this(testClass, LauncherFactory.create());
+		this(testClass, TestPlanCache.getShared());
 	}
 
 	// For testing only
 	JUnitPlatform(Class<?> testClass, Launcher launcher) {
-		this.launcher = launcher;
+		this(testClass, new TestPlanCache(launcher));
+	}
+
+	// For testing only
+	JUnitPlatform(Class<?> testClass, TestPlanCache testPlanCache) {
+		this.testPlanCache = testPlanCache;
 		this.testClass = testClass;
-		this.testTree = generateTestTree(createDiscoveryRequest());
+		generateTestTree(createDiscoveryRequest());
 	}
 
 	@Override
@@ -131,15 +137,20 @@ public class JUnitPlatform extends Runner implements Filterable {
 
 	@Override
 	public void run(RunNotifier notifier) {
-		this.launcher.execute(this.testTree.getTestPlan(), new JUnitPlatformRunnerListener(this.testTree, notifier));
+		TestPlan testPlan = this.cachedTestPlan.getTestPlanForExecution();
+		if (testPlan != this.testTree.getTestPlan()) {
+			// Descriptions are equal if their unique IDs are equal
+			this.testTree = new JUnitPlatformTestTree(testPlan, this.testClass);
+		}
+		this.testPlanCache.execute(testPlan, new JUnitPlatformRunnerListener(this.testTree, notifier));
 	}
 
-	private JUnitPlatformTestTree generateTestTree(LauncherDiscoveryRequest discoveryRequest) {
-		TestPlan testPlan = this.launcher.discover(discoveryRequest);
-		return new JUnitPlatformTestTree(testPlan, this.testClass);
+	private void generateTestTree(DiscoveryRequest discoveryRequest) {
+		this.cachedTestPlan = this.testPlanCache.discover(discoveryRequest.key, discoveryRequest.request);
+		this.testTree = this.cachedTestPlan.createTestTree(this.testClass);
 	}
 
-	private LauncherDiscoveryRequest createDiscoveryRequest() {
+	private DiscoveryRequest createDiscoveryRequest() {
 		List<DiscoverySelector> selectors = getSelectorsFromAnnotations();
 
 		// Allows to simply add @RunWith(JUnitPlatform.class) to any test case
@@ -150,7 +161,34 @@ public class JUnitPlatform extends Runner implements Filterable {
 
 		LauncherDiscoveryRequestBuilder requestBuilder = request().selectors(selectors);
 		addFiltersFromAnnotations(requestBuilder, isSuite);
-		return requestBuilder.build();
+		return new DiscoveryRequest(createCacheKey(selectors, isSuite), requestBuilder.build());
+	}
+
+	/**
+	 * Create the key of the discovery request for the {@link TestPlanCache}.
+	 *
+	 * <p>Selectors are kept in their declared order since it determines the
+	 * order of the discovered tests, whereas the values of the filter
+	 * annotations are sorted.
+	 */
+	private List<Object> createCacheKey(List<DiscoverySelector> selectors, boolean isSuite) {
+		// @formatter:off
+		return Arrays.asList(
+				selectors,
+				sorted(getIncludeClassNamePatterns(isSuite)),
+				sorted(getExcludeClassNamePatterns()),
+				sorted(getIncludedPackages()),
+				sorted(getExcludedPackages()),
+				sorted(getIncludedTags()),
+				sorted(getExcludedTags()),
+				sorted(getIncludedEngineIds()),
+				sorted(getExcludedEngineIds())
+		);
+		// @formatter:on
+	}
+
+	private List<String> sorted(String[] values) {
+		return Arrays.stream(values).sorted().collect(toList());
 	}
 
 	private void addFiltersFromAnnotations(LauncherDiscoveryRequestBuilder requestBuilder, boolean isSuite) {
@@ -302,17 +340,38 @@ public class JUnitPlatform extends Runner implements Filterable {
 		if (filteredIdentifiers.isEmpty()) {
 			throw new NoTestsRemainException();
 		}
-		this.testTree = generateTestTree(createDiscoveryRequestForUniqueIds(filteredIdentifiers));
+		CachedTestPlan unfilteredTestPlan = this.cachedTestPlan;
+		generateTestTree(createDiscoveryRequestForUniqueIds(filteredIdentifiers));
+		this.testPlanCache.remove(unfilteredTestPlan);
 	}
 
-	private LauncherDiscoveryRequest createDiscoveryRequestForUniqueIds(Set<TestIdentifier> testIdentifiers) {
+	private DiscoveryRequest createDiscoveryRequestForUniqueIds(Set<TestIdentifier> testIdentifiers) {
 		// @formatter:off
-		List<DiscoverySelector> selectors = testIdentifiers.stream()
+		List<String> uniqueIds = testIdentifiers.stream()
 				.map(TestIdentifier::getUniqueId)
+				.sorted()
+				.collect(toList());
+		List<DiscoverySelector> selectors = uniqueIds.stream()
 				.map(DiscoverySelectors::selectUniqueId)
 				.collect(toList());
 		// @formatter:on
-		return request().selectors(selectors).build();
+		return new DiscoveryRequest(uniqueIds, request().selectors(selectors).build());
+	}
+
+	/**
+	 * {@link LauncherDiscoveryRequest} along with its key for the
+	 * {@link TestPlanCache}.
+	 */
+	private static class DiscoveryRequest {
+
+		final Object key;
+		final LauncherDiscoveryRequest request;
+
+		DiscoveryRequest(Object key, LauncherDiscoveryRequest request) {
+			this.key = key;
+			this.request = request;
+		}
+
 	}
 
 }
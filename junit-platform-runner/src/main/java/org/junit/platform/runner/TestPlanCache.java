@@ -0,0 +1,159 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.runner;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Cache of the {@link TestPlan TestPlans} discovered by a {@link Launcher}
+ * on behalf of {@link JUnitPlatform} runners.
+ *
+ * <p>Runners that use the {@linkplain #getShared() shared cache} share a
+ * single {@code Launcher} &mdash; instead of loading all registered test
+ * engines and execution listeners for every suite &mdash; as well as the test
+ * plans discovered for equal discovery request keys.
+ *
+ * <p>Since executing a test plan may register dynamic tests with it, a cached
+ * test plan is executed at most once. It is removed from the cache as soon as
+ * its execution starts, and all other runners that are based on it discover
+ * a new test plan for their execution. Test plans are only
+ * {@linkplain SoftReference softly referenced} by the cache, so that the
+ * garbage collector may reclaim them if memory is low; a runner whose test
+ * plan has been reclaimed simply discovers it again.
+ *
+ * @since 1.4
+ * @see JUnitPlatform
+ */
+class TestPlanCache {
+
+	static TestPlanCache getShared() {
+		return SharedTestPlanCacheHolder.INSTANCE;
+	}
+
+	private final Launcher launcher;
+
+	private final ConcurrentMap<Object, CachedTestPlanReference> testPlans = new ConcurrentHashMap<>();
+	private final ReferenceQueue<CachedTestPlan> reclaimedTestPlans = new ReferenceQueue<>();
+
+	TestPlanCache(Launcher launcher) {
+		this.launcher = launcher;
+	}
+
+	/**
+	 * Get the cached test plan for the supplied key or discover it using the
+	 * supplied request.
+	 *
+	 * @param key the normalized form of the discovery request; never {@code null}
+	 * @param discoveryRequest the discovery request; never {@code null}
+	 */
+	CachedTestPlan discover(Object key, LauncherDiscoveryRequest discoveryRequest) {
+		removeReclaimedTestPlans();
+		while (true) {
+			CachedTestPlanReference reference = this.testPlans.computeIfAbsent(key,
+				k -> new CachedTestPlanReference(
+					new CachedTestPlan(key, discoveryRequest, this.launcher.discover(discoveryRequest))));
+			CachedTestPlan cachedTestPlan = reference.get();
+			if (cachedTestPlan != null) {
+				return cachedTestPlan;
+			}
+			this.testPlans.remove(key, reference);
+		}
+	}
+
+	/**
+	 * Remove the supplied test plan from the cache, e.g. because it has been
+	 * superseded by a filtered test plan, so that it can be reclaimed.
+	 */
+	void remove(CachedTestPlan cachedTestPlan) {
+		this.testPlans.computeIfPresent(cachedTestPlan.key,
+			(key, reference) -> (reference.get() == cachedTestPlan ? null : reference));
+	}
+
+	private void removeReclaimedTestPlans() {
+		CachedTestPlanReference reference;
+		while ((reference = (CachedTestPlanReference) this.reclaimedTestPlans.poll()) != null) {
+			this.testPlans.remove(reference.key, reference);
+		}
+	}
+
+	void execute(TestPlan testPlan, TestExecutionListener listener) {
+		this.launcher.execute(testPlan, listener);
+	}
+
+	class CachedTestPlan {
+
+		private final Object key;
+		private final LauncherDiscoveryRequest discoveryRequest;
+		private final TestPlan testPlan;
+
+		private boolean executed;
+
+		private CachedTestPlan(Object key, LauncherDiscoveryRequest discoveryRequest, TestPlan testPlan) {
+			this.key = key;
+			this.discoveryRequest = discoveryRequest;
+			this.testPlan = testPlan;
+		}
+
+		/**
+		 * Create a new {@link JUnitPlatformTestTree} for the cached test plan,
+		 * or for a newly discovered test plan if the cached one has already
+		 * been executed.
+		 */
+		synchronized JUnitPlatformTestTree createTestTree(Class<?> testClass) {
+			return new JUnitPlatformTestTree(this.executed ? rediscover() : this.testPlan, testClass);
+		}
+
+		/**
+		 * Get the test plan to execute, i.e. the cached test plan for the first
+		 * invocation and a newly discovered test plan for all others.
+		 */
+		synchronized TestPlan getTestPlanForExecution() {
+			if (this.executed) {
+				return rediscover();
+			}
+			this.executed = true;
+			remove(this);
+			return this.testPlan;
+		}
+
+		private TestPlan rediscover() {
+			return launcher.discover(this.discoveryRequest);
+		}
+
+	}
+
+	private class CachedTestPlanReference extends SoftReference<CachedTestPlan> {
+
+		private final Object key;
+
+		CachedTestPlanReference(CachedTestPlan cachedTestPlan) {
+			super(cachedTestPlan, reclaimedTestPlans);
+			this.key = cachedTestPlan.key;
+		}
+
+	}
+
+	private static class SharedTestPlanCacheHolder {
+
+		static final TestPlanCache INSTANCE = new TestPlanCache(LauncherFactory.create());
+
+	}
+
+}
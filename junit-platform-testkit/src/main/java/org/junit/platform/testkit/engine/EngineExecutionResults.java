@@ -10,12 +10,12 @@
 
 package org.junit.platform.testkit.engine;
 
+import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.junit.platform.testkit.engine.Event.byTestDescriptor;
 
 import java.util.List;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.Preconditions;
@@ -43,18 +43,25 @@ public class EngineExecutionResults {
 
 	/**
 	 * Construct {@link EngineExecutionResults} from the supplied list of recorded
-	 * {@linkplain Event events}.
+	 * {@linkplain Event events} and the counts of all events that occurred.
 	 *
 	 * @param events the list of events; never {@code null} or
 	 * containing {@code null} elements
+	 * @param allEventCounts the counts of all events; never {@code null}
+	 * @param testEventCounts the counts of all events for tests; never {@code null}
+	 * @param containerEventCounts the counts of all events for containers;
+	 * never {@code null}
 	 */
-	EngineExecutionResults(List<Event> events) {
+	EngineExecutionResults(List<Event> events, EventCounts allEventCounts, EventCounts testEventCounts,
+			EventCounts containerEventCounts) {
+
 		Preconditions.notNull(events, "Event list must not be null");
 		Preconditions.containsNoNullElements(events, "Event list must not contain null elements");
 
-		this.allEvents = new Events(events, "All");
-		this.testEvents = new Events(filterEvents(events, TestDescriptor::isTest), "Test");
-		this.containerEvents = new Events(filterEvents(events, TestDescriptor::isContainer), "Container");
+		this.allEvents = new Events(events, allEventCounts, "All");
+		this.testEvents = new Events(filterEvents(events, TestDescriptor::isTest), testEventCounts, "Test");
+		this.containerEvents = new Events(filterEvents(events, TestDescriptor::isContainer), containerEventCounts,
+			"Container");
 	}
 
 	/**
@@ -87,8 +94,8 @@ public class EngineExecutionResults {
 	/**
 	 * Filter the supplied list of events using the supplied predicate.
 	 */
-	private static Stream<Event> filterEvents(List<Event> events, Predicate<? super TestDescriptor> predicate) {
-		return events.stream().filter(byTestDescriptor(predicate));
+	private static List<Event> filterEvents(List<Event> events, Predicate<? super TestDescriptor> predicate) {
+		return events.stream().filter(byTestDescriptor(predicate)).collect(toList());
 	}
 
 }
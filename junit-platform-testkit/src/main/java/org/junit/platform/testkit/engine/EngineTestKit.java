@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -243,6 +244,8 @@ public final class EngineTestKit {
 	 * @see #filters(DiscoveryFilter...)
 	 * @see #configurationParameter(String, String)
 	 * @see #configurationParameters(Map)
+	 * @see #recordEvents(Predicate)
+	 * @see #maxRecordedEvents(int)
 	 * @see #execute()
 	 */
 	public static final class Builder {
@@ -250,6 +253,9 @@ public final class EngineTestKit {
 		private final LauncherDiscoveryRequestBuilder requestBuilder = LauncherDiscoveryRequestBuilder.request();
 		private final TestEngine testEngine;
 
+		private Predicate<? super Event> eventFilter = event -> true;
+		private int maxRecordedEvents = Integer.MAX_VALUE;
+
 		private Builder(TestEngine testEngine) {
 			this.testEngine = testEngine;
 		}
@@ -326,6 +332,58 @@ public final class EngineTestKit {
 			return this;
 		}
 
+		/**
+		 * Record only the {@linkplain Event events} that match the supplied
+		 * filter.
+		 *
+		 * <p>By default, all events are recorded. Regardless of this filter,
+		 * every event is counted in the {@linkplain EventStatistics statistics}
+		 * of {@link EngineExecutionResults#all()},
+		 * {@link EngineExecutionResults#tests()}, and
+		 * {@link EngineExecutionResults#containers()}, whereas all other
+		 * methods of {@link Events} only see the recorded events.
+		 *
+		 * <h4>Example</h4>
+		 *
+		 * <p>{@code builder.recordEvents(Event.byType(EventType.FINISHED))}
+		 *
+		 * @param eventFilter the filter for the events to record; never
+		 * {@code null}
+		 * @return this builder for method chaining
+		 * @see #maxRecordedEvents(int)
+		 * @see Event#byType(EventType)
+		 * @see Event#byTestDescriptor(Predicate)
+		 */
+		public Builder recordEvents(Predicate<? super Event> eventFilter) {
+			this.eventFilter = Preconditions.notNull(eventFilter, "Event filter must not be null");
+			return this;
+		}
+
+		/**
+		 * Record at most the supplied number of {@linkplain Event events}.
+		 *
+		 * <p>If more events occur, only the most recent ones are retained.
+		 * Setting the maximum to {@code 0} disables recording altogether, in
+		 * which case only the {@linkplain EventStatistics statistics} of
+		 * {@link EngineExecutionResults#all()},
+		 * {@link EngineExecutionResults#tests()}, and
+		 * {@link EngineExecutionResults#containers()} are available. This
+		 * keeps memory consumption independent of the number of tests when
+		 * executing very large test plans.
+		 *
+		 * <p>By default, the number of recorded events is unbounded.
+		 *
+		 * @param maxRecordedEvents the maximum number of events to record; must
+		 * not be negative
+		 * @return this builder for method chaining
+		 * @see #recordEvents(Predicate)
+		 */
+		public Builder maxRecordedEvents(int maxRecordedEvents) {
+			Preconditions.condition(maxRecordedEvents >= 0, "maxRecordedEvents must not be negative");
+			this.maxRecordedEvents = maxRecordedEvents;
+			return this;
+		}
+
 		/**
 		 * Execute tests for the configured {@link TestEngine},
 		 * {@linkplain DiscoverySelector discovery selectors},
@@ -339,7 +397,7 @@ public final class EngineTestKit {
 		 * @see #configurationParameters(Map)
 		 */
 		public EngineExecutionResults execute() {
-			ExecutionRecorder executionRecorder = new ExecutionRecorder();
+			ExecutionRecorder executionRecorder = new ExecutionRecorder(this.eventFilter, this.maxRecordedEvents);
 			EngineTestKit.execute(this.testEngine, this.requestBuilder.build(), executionRecorder);
 			return executionRecorder.getExecutionResults();
 		}
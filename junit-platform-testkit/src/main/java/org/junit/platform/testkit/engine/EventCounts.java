@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+
+/**
+ * {@code EventCounts} counts {@linkplain Event events} by {@linkplain EventType
+ * type} and &mdash; for {@link EventType#FINISHED FINISHED} events &mdash; by
+ * the {@linkplain Status status} of their {@link TestExecutionResult}.
+ *
+ * <p>Counts are updated incrementally while events are being recorded, which
+ * allows {@link EventStatistics} to be computed for events that have not been
+ * retained by the {@link ExecutionRecorder}.
+ *
+ * <p>{@code EventCounts} is thread-safe.
+ *
+ * @since 1.4
+ * @see ExecutionRecorder
+ * @see EventStatistics
+ */
+class EventCounts {
+
+	private final Map<EventType, LongAdder> countsByType = new EnumMap<>(EventType.class);
+	private final Map<Status, LongAdder> finishedCountsByStatus = new EnumMap<>(Status.class);
+
+	EventCounts() {
+		for (EventType type : EventType.values()) {
+			this.countsByType.put(type, new LongAdder());
+		}
+		for (Status status : Status.values()) {
+			this.finishedCountsByStatus.put(status, new LongAdder());
+		}
+	}
+
+	void add(Event event) {
+		this.countsByType.get(event.getType()).increment();
+		if (event.getType() == EventType.FINISHED) {
+			event.getPayload(TestExecutionResult.class).ifPresent(
+				result -> this.finishedCountsByStatus.get(result.getStatus()).increment());
+		}
+	}
+
+	long count(EventType type) {
+		return this.countsByType.get(type).sum();
+	}
+
+	long countFinished(Status status) {
+		return this.finishedCountsByStatus.get(status).sum();
+	}
+
+}
@@ -11,7 +11,15 @@
 package org.junit.platform.testkit.engine;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.TestExecutionResult.Status.ABORTED;
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
+import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
 import static org.junit.platform.testkit.engine.Assertions.assertEquals;
+import static org.junit.platform.testkit.engine.EventType.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.testkit.engine.EventType.FINISHED;
+import static org.junit.platform.testkit.engine.EventType.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.testkit.engine.EventType.SKIPPED;
+import static org.junit.platform.testkit.engine.EventType.STARTED;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +37,13 @@ import org.junit.platform.testkit.engine.Assertions.Executable;
  *
  * <p>{@code events.assertStatistics(stats -> stats.started(1).succeeded(1).failed(0));}
  *
+ * <p>For the {@linkplain EngineExecutionResults#all() all},
+ * {@linkplain EngineExecutionResults#tests() test}, and
+ * {@linkplain EngineExecutionResults#containers() container} events of an
+ * execution, statistics are computed incrementally while the engine is
+ * executing and therefore include events that have not been recorded, e.g.
+ * due to {@link EngineTestKit.Builder#maxRecordedEvents(int)}.
+ *
  * @since 1.4
  * @see Event
  * @see Events
@@ -56,7 +71,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics skipped(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.skipped().count(), "skipped"));
+		this.executables.add(() -> assertEquals(expected, this.events.countByType(SKIPPED), "skipped"));
 		return this;
 	}
 
@@ -67,7 +82,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics started(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.started().count(), "started"));
+		this.executables.add(() -> assertEquals(expected, this.events.countByType(STARTED), "started"));
 		return this;
 	}
 
@@ -78,7 +93,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics finished(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.finished().count(), "finished"));
+		this.executables.add(() -> assertEquals(expected, this.events.countByType(FINISHED), "finished"));
 		return this;
 	}
 
@@ -89,7 +104,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics aborted(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.aborted().count(), "aborted"));
+		this.executables.add(() -> assertEquals(expected, this.events.countFinishedByStatus(ABORTED), "aborted"));
 		return this;
 	}
 
@@ -100,7 +115,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics succeeded(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.succeeded().count(), "succeeded"));
+		this.executables.add(() -> assertEquals(expected, this.events.countFinishedByStatus(SUCCESSFUL), "succeeded"));
 		return this;
 	}
 
@@ -111,7 +126,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics failed(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.failed().count(), "failed"));
+		this.executables.add(() -> assertEquals(expected, this.events.countFinishedByStatus(FAILED), "failed"));
 		return this;
 	}
 
@@ -122,8 +137,8 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics reportingEntryPublished(long expected) {
-		this.executables.add(
-			() -> assertEquals(expected, this.events.reportingEntryPublished().count(), "reporting entry published"));
+		this.executables.add(() -> assertEquals(expected, this.events.countByType(REPORTING_ENTRY_PUBLISHED),
+			"reporting entry published"));
 		return this;
 	}
 
@@ -134,8 +149,8 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics dynamicallyRegistered(long expected) {
-		this.executables.add(
-			() -> assertEquals(expected, this.events.dynamicallyRegistered().count(), "dynamically registered"));
+		this.executables.add(() -> assertEquals(expected, this.events.countByType(DYNAMIC_TEST_REGISTERED),
+			"dynamically registered"));
 		return this;
 	}
 
@@ -11,17 +11,19 @@
 package org.junit.platform.testkit.engine;
 
 import static java.util.function.Predicate.isEqual;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.junit.platform.commons.util.FunctionUtils.where;
 import static org.junit.platform.testkit.engine.Event.byPayload;
-import static org.junit.platform.testkit.engine.Event.byType;
 
 import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.Writer;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -36,6 +38,7 @@ import org.assertj.core.data.Index;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.UniqueId;
 
 /**
  * {@code Events} is a facade that provides a fluent API for working with
@@ -47,17 +50,31 @@ import org.junit.platform.engine.TestExecutionResult.Status;
 public final class Events {
 
 	private final List<Event> events;
+	private final EventCounts counts;
 	private final String category;
 
+	private Map<EventType, List<Event>> typeIndex;
+	private Map<UniqueId, List<Event>> uniqueIdIndex;
+
 	Events(Stream<Event> events, String category) {
 		this(Preconditions.notNull(events, "Event stream must not be null").collect(toList()), category);
 	}
 
 	Events(List<Event> events, String category) {
+		this(events, null, category);
+	}
+
+	/**
+	 * @param counts the counts of all events that occurred, including those
+	 * that have not been recorded in the supplied list; may be {@code null}
+	 * if the list contains all events
+	 */
+	Events(List<Event> events, EventCounts counts, String category) {
 		Preconditions.notNull(events, "Event list must not be null");
 		Preconditions.containsNoNullElements(events, "Event list must not contain null elements");
 
 		this.events = Collections.unmodifiableList(events);
+		this.counts = counts;
 		this.category = category;
 	}
 
@@ -134,6 +151,14 @@ public final class Events {
 		return this.events.size();
 	}
 
+	long countByType(EventType type) {
+		return this.counts != null ? this.counts.count(type) : getEventsByType(type).size();
+	}
+
+	long countFinishedByStatus(Status status) {
+		return this.counts != null ? this.counts.countFinished(status) : finishedEventsByStatus(status).count();
+	}
+
 	// --- Built-in Filters ----------------------------------------------------
 
 	/**
@@ -211,6 +236,26 @@ public final class Events {
 		return new Events(eventsByType(EventType.DYNAMIC_TEST_REGISTERED), this.category + " Dynamically Registered");
 	}
 
+	/**
+	 * Get the {@link Events} for the {@link org.junit.platform.engine.TestDescriptor
+	 * TestDescriptor} with the supplied {@link UniqueId} contained in this
+	 * {@code Events} object.
+	 *
+	 * <p>Events are indexed by unique ID on first access, which makes repeated
+	 * lookups for large numbers of events efficient.
+	 *
+	 * @param uniqueId the unique ID of the test descriptor; never {@code null}
+	 * @return the filtered {@code Events}; never {@code null}
+	 */
+	public Events forUniqueId(UniqueId uniqueId) {
+		Preconditions.notNull(uniqueId, "UniqueId must not be null");
+		if (this.uniqueIdIndex == null) {
+			this.uniqueIdIndex = stream().collect(groupingBy(event -> event.getTestDescriptor().getUniqueId()));
+		}
+		return new Events(this.uniqueIdIndex.getOrDefault(uniqueId, Collections.emptyList()),
+			this.category + " " + uniqueId);
+	}
+
 	// --- Assertions ----------------------------------------------------------
 
 	/**
@@ -316,7 +361,15 @@ public final class Events {
 
 	private Stream<Event> eventsByType(EventType type) {
 		Preconditions.notNull(type, "EventType must not be null");
-		return stream().filter(byType(type));
+		return getEventsByType(type).stream();
+	}
+
+	private List<Event> getEventsByType(EventType type) {
+		if (this.typeIndex == null) {
+			this.typeIndex = stream().collect(
+				groupingBy(Event::getType, () -> new EnumMap<>(EventType.class), toList()));
+		}
+		return this.typeIndex.getOrDefault(type, Collections.emptyList());
 	}
 
 	private Stream<Event> finishedEventsByStatus(Status status) {
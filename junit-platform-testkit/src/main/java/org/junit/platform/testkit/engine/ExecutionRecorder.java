@@ -10,9 +10,13 @@
 
 package org.junit.platform.testkit.engine;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
@@ -24,6 +28,10 @@ import org.junit.platform.engine.reporting.ReportEntry;
  * provides functionality for retrieving execution state via
  * {@link EngineExecutionResults}.
  *
+ * <p>Every event is counted, but only events that match the configured
+ * filter are retained &mdash; and of those only the configured maximum number
+ * of most recent events.
+ *
  * @since 1.4
  * @see EngineExecutionResults
  * @see Event
@@ -31,7 +39,36 @@ import org.junit.platform.engine.reporting.ReportEntry;
  */
 class ExecutionRecorder implements EngineExecutionListener {
 
-	private final List<Event> events = new CopyOnWriteArrayList<>();
+	private final Predicate<? super Event> eventFilter;
+	private final int maxEvents;
+
+	private final Deque<Event> events = new ArrayDeque<>();
+
+	private final EventCounts allEventCounts = new EventCounts();
+	private final EventCounts testEventCounts = new EventCounts();
+	private final EventCounts containerEventCounts = new EventCounts();
+
+	/**
+	 * Create a new {@code ExecutionRecorder} that retains all events.
+	 */
+	ExecutionRecorder() {
+		this(event -> true, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Create a new {@code ExecutionRecorder} that retains at most
+	 * {@code maxEvents} of the most recent events that match the supplied
+	 * filter.
+	 *
+	 * @param eventFilter the filter for the events to retain; never {@code null}
+	 * @param maxEvents the maximum number of events to retain; must not be
+	 * negative
+	 */
+	ExecutionRecorder(Predicate<? super Event> eventFilter, int maxEvents) {
+		this.eventFilter = Preconditions.notNull(eventFilter, "Event filter must not be null");
+		Preconditions.condition(maxEvents >= 0, "Maximum number of events must not be negative");
+		this.maxEvents = maxEvents;
+	}
 
 	/**
 	 * Record an {@link Event} for a dynamically registered container
@@ -39,7 +76,7 @@ class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
-		this.events.add(Event.dynamicTestRegistered(testDescriptor));
+		record(Event.dynamicTestRegistered(testDescriptor));
 	}
 
 	/**
@@ -47,7 +84,7 @@ class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
-		this.events.add(Event.executionSkipped(testDescriptor, reason));
+		record(Event.executionSkipped(testDescriptor, reason));
 	}
 
 	/**
@@ -55,7 +92,7 @@ class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void executionStarted(TestDescriptor testDescriptor) {
-		this.events.add(Event.executionStarted(testDescriptor));
+		record(Event.executionStarted(testDescriptor));
 	}
 
 	/**
@@ -64,7 +101,7 @@ class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
-		this.events.add(Event.executionFinished(testDescriptor, testExecutionResult));
+		record(Event.executionFinished(testDescriptor, testExecutionResult));
 	}
 
 	/**
@@ -72,7 +109,27 @@ class ExecutionRecorder implements EngineExecutionListener {
 	 */
 	@Override
 	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
-		this.events.add(Event.reportingEntryPublished(testDescriptor, entry));
+		record(Event.reportingEntryPublished(testDescriptor, entry));
+	}
+
+	private void record(Event event) {
+		TestDescriptor testDescriptor = event.getTestDescriptor();
+		this.allEventCounts.add(event);
+		if (testDescriptor.isTest()) {
+			this.testEventCounts.add(event);
+		}
+		if (testDescriptor.isContainer()) {
+			this.containerEventCounts.add(event);
+		}
+
+		if (this.maxEvents > 0 && this.eventFilter.test(event)) {
+			synchronized (this.events) {
+				if (this.events.size() == this.maxEvents) {
+					this.events.removeFirst();
+				}
+				this.events.addLast(event);
+			}
+		}
 	}
 
 	/**
@@ -81,7 +138,12 @@ class ExecutionRecorder implements EngineExecutionListener {
 	 * @return the {@code EngineExecutionResults} containing all current state information
 	 */
 	EngineExecutionResults getExecutionResults() {
-		return new EngineExecutionResults(this.events);
+		List<Event> retainedEvents;
+		synchronized (this.events) {
+			retainedEvents = new ArrayList<>(this.events);
+		}
+		return new EngineExecutionResults(retainedEvents, this.allEventCounts, this.testEventCounts,
+			this.containerEventCounts);
 	}
 
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Collection of constants related to the {@link VintageTestEngine}.
+ *
+ * @see org.junit.platform.engine.ConfigurationParameters
+ * @since 5.4
+ */
+@API(status = EXPERIMENTAL, since = "5.4")
+public final class Constants {
+
+	/**
+	 * Property name used to enable building the JUnit 4 runners for the
+	 * discovered test classes in parallel: {@value}
+	 *
+	 * <p>By default, runners are built sequentially in the thread that submits
+	 * the discovery request. Building a runner may execute code of the test
+	 * class, e.g. static initializers or methods annotated with
+	 * {@code @Parameters}, as well as custom runners. Therefore, this should
+	 * only be enabled if all of them are thread-safe.
+	 */
+	public static final String PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.vintage.discovery.parallel.enabled";
+
+	private Constants() {
+		/* no-op */
+	}
+
+}
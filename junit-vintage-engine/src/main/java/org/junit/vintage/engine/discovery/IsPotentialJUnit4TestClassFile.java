@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.discovery;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassFileHeader;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+
+/**
+ * Pre-screens classes by their names before they are loaded by reading their
+ * class files.
+ *
+ * <p>A class is rejected if its class file declares it to be non-public or
+ * abstract, or if it directly extends {@link Object} and its constant pool
+ * does not reference any of the types that make a class runnable with JUnit 4:
+ * {@code @Test}, {@code @RunWith}, {@code @Ignore}, or any type in the
+ * {@code junit.framework} package (e.g. {@code TestCase} or the return type of
+ * a static {@code suite()} method).
+ *
+ * <p>Classes extending any other class are never rejected based on their
+ * constant pool, since they might inherit test methods or a
+ * {@code @RunWith} declaration. The same applies to classes whose class file
+ * cannot be found or read, e.g. because its constant pool contains entries
+ * not supported by {@link ClassFileHeader}. Such classes are loaded and
+ * checked by {@link IsPotentialJUnit4TestClass} as before.
+ *
+ * @since 5.4
+ * @see IsPotentialJUnit4TestClass
+ */
+class IsPotentialJUnit4TestClassFile implements Predicate<String> {
+
+	private static final Logger logger = LoggerFactory.getLogger(IsPotentialJUnit4TestClassFile.class);
+
+	private static final String OBJECT_CLASS_NAME = "java/lang/Object";
+
+	private static final String[] JUNIT_REFERENCES = { "Lorg/junit/Test;", "Lorg/junit/runner/RunWith;",
+			"Lorg/junit/Ignore;", "junit/framework/" };
+
+	private final Supplier<ClassLoader> classLoaderSupplier;
+
+	IsPotentialJUnit4TestClassFile() {
+		this(ClassLoaderUtils::getDefaultClassLoader);
+	}
+
+	// For testing only
+	IsPotentialJUnit4TestClassFile(Supplier<ClassLoader> classLoaderSupplier) {
+		this.classLoaderSupplier = classLoaderSupplier;
+	}
+
+	@Override
+	public boolean test(String className) {
+		String resourceName = className.replace('.', '/') + ".class";
+		try (InputStream inputStream = this.classLoaderSupplier.get().getResourceAsStream(resourceName)) {
+			if (inputStream == null) {
+				return true;
+			}
+			return isPotentialTestClass(new DataInputStream(new BufferedInputStream(inputStream)));
+		}
+		catch (IOException | RuntimeException ex) {
+			logger.debug(ex, () -> "Failed to read class file of " + className + "; loading class instead");
+			return true;
+		}
+	}
+
+	private boolean isPotentialTestClass(DataInputStream input) throws IOException {
+		ClassFileHeader header = ClassFileHeader.read(input);
+		int accessFlags = header.getAccessFlags();
+		if ((accessFlags & ClassFileHeader.ACC_PUBLIC) == 0 || (accessFlags & ClassFileHeader.ACC_ABSTRACT) != 0) {
+			return false;
+		}
+		return !OBJECT_CLASS_NAME.equals(header.getSuperClassName())
+				|| header.getUtf8Constants().stream().anyMatch(IsPotentialJUnit4TestClassFile::isJUnitReference);
+	}
+
+	private static boolean isJUnitReference(String utf8Constant) {
+		for (String reference : JUNIT_REFERENCES) {
+			if (utf8Constant.contains(reference)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -41,18 +41,19 @@ class TestClassRequestResolver {
 
 	private static final Logger logger = LoggerFactory.getLogger(TestClassRequestResolver.class);
 
-	private static final RunnerBuilder RUNNER_BUILDER = new DefensiveAllDefaultPossibilitiesBuilder();
-
 	private final UniqueIdReader uniqueIdReader = new UniqueIdReader();
 
 	private final UniqueIdStringifier uniqueIdStringifier = new UniqueIdStringifier();
 
+	// Not thread-safe since it keeps track of the suites that are currently being built
+	private final RunnerBuilder runnerBuilder = new DefensiveAllDefaultPossibilitiesBuilder();
+
 	TestClassRequestResolver() {
 	}
 
 	RunnerTestDescriptor createRunnerTestDescriptor(TestClassRequest request, UniqueId engineId) {
 		Class<?> testClass = request.getTestClass();
-		Runner runner = RUNNER_BUILDER.safeRunnerForClass(testClass);
+		Runner runner = runnerBuilder.safeRunnerForClass(testClass);
 		if (runner == null) {
 			return null;
 		}
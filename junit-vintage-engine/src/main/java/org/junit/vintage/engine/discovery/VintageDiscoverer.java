@@ -11,18 +11,30 @@
 package org.junit.vintage.engine.discovery;
 
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.engine.support.filter.ClasspathScanningSupport.buildClassNamePredicate;
+import static org.junit.vintage.engine.Constants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ClassFilter;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
 
 /**
  * @since 4.12
@@ -32,6 +44,9 @@ public class VintageDiscoverer {
 
 	private static final IsPotentialJUnit4TestClass isPotentialJUnit4TestClass = new IsPotentialJUnit4TestClass();
 
+	private static final IsPotentialJUnit4TestClassFile isPotentialJUnit4TestClassFile = //
+		new IsPotentialJUnit4TestClassFile();
+
 	private final TestClassRequestResolver resolver = new TestClassRequestResolver();
 
 	private final List<DiscoverySelectorResolver> selectorResolvers = asList(
@@ -47,10 +62,9 @@ public class VintageDiscoverer {
 
 	public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
 		EngineDescriptor engineDescriptor = new EngineDescriptor(uniqueId, "JUnit Vintage");
+		List<TestClassRequest> requests = collectTestClasses(discoveryRequest).toRequests().collect(toList());
 		// @formatter:off
-		collectTestClasses(discoveryRequest)
-				.toRequests()
-				.map(request -> resolver.createRunnerTestDescriptor(request, uniqueId))
+		createRunnerTestDescriptors(requests, uniqueId, isParallelDiscoveryEnabled(discoveryRequest)).stream()
 				.filter(Objects::nonNull)
 				.forEach(engineDescriptor::addChild);
 		// @formatter:on
@@ -58,7 +72,10 @@ public class VintageDiscoverer {
 	}
 
 	private TestClassCollector collectTestClasses(EngineDiscoveryRequest discoveryRequest) {
-		ClassFilter classFilter = ClassFilter.of(buildClassNamePredicate(discoveryRequest), isPotentialJUnit4TestClass);
+		// Class files are checked before loading the classes they declare
+		Predicate<String> classNamePredicate = buildClassNamePredicate(discoveryRequest).and(
+			isPotentialJUnit4TestClassFile);
+		ClassFilter classFilter = ClassFilter.of(classNamePredicate, isPotentialJUnit4TestClass);
 		TestClassCollector collector = new TestClassCollector();
 		for (DiscoverySelectorResolver selectorResolver : selectorResolvers) {
 			selectorResolver.resolve(discoveryRequest, classFilter, collector);
@@ -66,4 +83,75 @@ public class VintageDiscoverer {
 		return collector;
 	}
 
+	private boolean isParallelDiscoveryEnabled(EngineDiscoveryRequest discoveryRequest) {
+		return discoveryRequest.getConfigurationParameters().getBoolean(
+			PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	/**
+	 * @return the runner test descriptors in the order of the supplied requests;
+	 * {@code null} for requests that did not yield a runner
+	 */
+	private List<RunnerTestDescriptor> createRunnerTestDescriptors(List<TestClassRequest> requests,
+			UniqueId uniqueId, boolean parallel) {
+
+		int parallelism = Math.min(requests.size(), Runtime.getRuntime().availableProcessors());
+		if (!parallel || parallelism < 2) {
+			return requests.stream().map(request -> resolver.createRunnerTestDescriptor(request, uniqueId)).collect(
+				toList());
+		}
+
+		// each thread needs its own resolver since runner builders are not thread-safe
+		ThreadLocal<TestClassRequestResolver> resolvers = ThreadLocal.withInitial(TestClassRequestResolver::new);
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism,
+			new DiscoveryThreadFactory(Thread.currentThread().getContextClassLoader()));
+		try {
+			List<Future<RunnerTestDescriptor>> futures = new ArrayList<>(requests.size());
+			for (TestClassRequest request : requests) {
+				futures.add(
+					executorService.submit(() -> resolvers.get().createRunnerTestDescriptor(request, uniqueId)));
+			}
+			List<RunnerTestDescriptor> runnerTestDescriptors = new ArrayList<>(requests.size());
+			for (Future<RunnerTestDescriptor> future : futures) {
+				runnerTestDescriptors.add(future.get());
+			}
+			return runnerTestDescriptors;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Creates daemon threads that use the context class loader of the thread
+	 * that submitted the discovery request, so that runners are built as if
+	 * they were built sequentially.
+	 */
+	private static class DiscoveryThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		private final ClassLoader contextClassLoader;
+
+		DiscoveryThreadFactory(ClassLoader contextClassLoader) {
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "junit-vintage-discovery-" + threadNumber.getAndIncrement());
+			thread.setContextClassLoader(this.contextClassLoader);
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
 }
@@ -28,6 +28,7 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPacka
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.engine.discovery.PackageNameFilter.includePackageNames;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.vintage.engine.Constants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME;
 
 import java.lang.reflect.Method;
 import java.net.URL;
@@ -63,6 +64,7 @@ import org.junit.vintage.engine.samples.junit4.JUnit4SuiteWithTwoTestCases;
 import org.junit.vintage.engine.samples.junit4.JUnit4TestCaseWithNotFilterableRunner;
 import org.junit.vintage.engine.samples.junit4.JUnit4TestCaseWithOverloadedMethod;
 import org.junit.vintage.engine.samples.junit4.JUnit4TestCaseWithRunnerWithCustomUniqueIds;
+import org.junit.vintage.engine.samples.junit4.MalformedJUnit4TestCase;
 import org.junit.vintage.engine.samples.junit4.ParameterizedTestCase;
 import org.junit.vintage.engine.samples.junit4.PlainJUnit4TestCaseWithFiveTestMethods;
 import org.junit.vintage.engine.samples.junit4.PlainJUnit4TestCaseWithSingleInheritedTestWhichFails;
@@ -684,6 +686,51 @@ class VintageTestEngineDiscoveryTests {
 		assertMethodSource(testClass.getMethod("test"), testMethodDescriptor);
 	}
 
+	@Test
+	void resolvesSameDescriptorsInSameOrderWithParallelDiscoveryEnabled() {
+		String packageName = PlainJUnit4TestCaseWithSingleTestWhichFails.class.getPackage().getName();
+
+		TestDescriptor sequentialEngineDescriptor = discoverTests(
+			request().selectors(selectPackage(packageName)).build());
+		TestDescriptor parallelEngineDescriptor = discoverTests(request() //
+				.selectors(selectPackage(packageName)) //
+				.configurationParameter(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true") //
+				.build());
+
+		assertThat(parallelEngineDescriptor.getChildren()).hasSizeGreaterThan(1);
+		assertThat(collectUniqueIds(parallelEngineDescriptor)).isEqualTo(collectUniqueIds(sequentialEngineDescriptor));
+	}
+
+	@Test
+	void reportsInitializationErrorOfRunnerThrowingDuringParallelDiscovery() throws Exception {
+		Class<?> malformedTestClass = MalformedJUnit4TestCase.class;
+		Class<?> testClass = PlainJUnit4TestCaseWithSingleTestWhichFails.class;
+		LauncherDiscoveryRequest discoveryRequest = request() //
+				.selectors(selectClass(malformedTestClass), selectClass(testClass)) //
+				.configurationParameter(PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+
+		TestDescriptor engineDescriptor = discoverTests(discoveryRequest);
+
+		List<? extends TestDescriptor> runnerDescriptors = new ArrayList<>(engineDescriptor.getChildren());
+		assertThat(runnerDescriptors).hasSize(2);
+
+		assertRunnerTestDescriptor(runnerDescriptors.get(0), malformedTestClass);
+		assertInitializationError(getOnlyElement(runnerDescriptors.get(0).getChildren()), malformedTestClass,
+			malformedTestClass);
+
+		assertRunnerTestDescriptor(runnerDescriptors.get(1), testClass);
+		assertTestMethodDescriptor(getOnlyElement(runnerDescriptors.get(1).getChildren()), testClass, "failingTest",
+			VintageUniqueIdBuilder.uniqueIdForClass(testClass));
+	}
+
+	private static List<UniqueId> collectUniqueIds(TestDescriptor descriptor) {
+		List<UniqueId> uniqueIds = new ArrayList<>();
+		uniqueIds.add(descriptor.getUniqueId());
+		descriptor.getChildren().forEach(child -> uniqueIds.addAll(collectUniqueIds(child)));
+		return uniqueIds;
+	}
+
 	private TestDescriptor findChildByDisplayName(TestDescriptor runnerDescriptor, String displayName) {
 		// @formatter:off
 		Set<? extends TestDescriptor> children = runnerDescriptor.getChildren();
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.discovery;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.vintage.engine.samples.PlainOldJavaClassWithoutAnyTestsTestCase;
+import org.junit.vintage.engine.samples.junit3.JUnit3SuiteWithSingleTestCaseWithSingleTestWhichFails;
+import org.junit.vintage.engine.samples.junit3.PlainJUnit3TestCaseWithSingleTestWhichFails;
+import org.junit.vintage.engine.samples.junit4.AbstractJunit4TestCaseWithConstructorParameter;
+import org.junit.vintage.engine.samples.junit4.EmptyIgnoredTestCase;
+import org.junit.vintage.engine.samples.junit4.JUnit4SuiteWithTwoTestCases;
+import org.junit.vintage.engine.samples.junit4.PlainJUnit4TestCaseWithSingleInheritedTestWhichFails;
+import org.junit.vintage.engine.samples.junit4.PlainJUnit4TestCaseWithSingleTestWhichFails;
+
+/**
+ * @since 5.4
+ */
+class IsPotentialJUnit4TestClassFileTests {
+
+	private IsPotentialJUnit4TestClassFile isPotentialJUnit4TestClassFile = new IsPotentialJUnit4TestClassFile();
+
+	@Test
+	void junit4TestCase() {
+		assertTrue(test(PlainJUnit4TestCaseWithSingleTestWhichFails.class));
+	}
+
+	@Test
+	void junit4Suite() {
+		assertTrue(test(JUnit4SuiteWithTwoTestCases.class));
+	}
+
+	@Test
+	void ignoredTestCase() {
+		assertTrue(test(EmptyIgnoredTestCase.class));
+	}
+
+	@Test
+	void junit3TestCase() {
+		assertTrue(test(PlainJUnit3TestCaseWithSingleTestWhichFails.class));
+	}
+
+	@Test
+	void junit3SuiteMethod() {
+		assertTrue(test(JUnit3SuiteWithSingleTestCaseWithSingleTestWhichFails.class));
+	}
+
+	@Test
+	void subclassWithoutReferencesToJUnit() {
+		assertTrue(test(PlainJUnit4TestCaseWithSingleInheritedTestWhichFails.class));
+	}
+
+	@Test
+	void plainOldJavaClass() {
+		assertFalse(test(PlainOldJavaClassWithoutAnyTestsTestCase.class));
+	}
+
+	@Test
+	void jupiterTestClass() {
+		assertFalse(test(IsPotentialJUnit4TestClassFileTests.class));
+	}
+
+	@Test
+	void abstractClass() {
+		assertFalse(test(AbstractJunit4TestCaseWithConstructorParameter.class));
+	}
+
+	@Test
+	void nonPublicClass() {
+		assertFalse(test(NonPublicJUnit4TestCase.class));
+	}
+
+	static class NonPublicJUnit4TestCase {
+
+		@org.junit.Test
+		public void test() {
+		}
+	}
+
+	@Test
+	void missingClassFile() {
+		assertTrue(isPotentialJUnit4TestClassFile.test("org.example.DoesNotExist"));
+	}
+
+	@Test
+	void malformedClassFile() {
+		IsPotentialJUnit4TestClassFile predicate = new IsPotentialJUnit4TestClassFile(() -> new ClassLoader(null) {
+
+			@Override
+			public InputStream getResourceAsStream(String name) {
+				return new ByteArrayInputStream(new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0 });
+			}
+		});
+
+		assertTrue(predicate.test("org.example.Truncated"));
+	}
+
+	private boolean test(Class<?> testClass) {
+		return isPotentialJUnit4TestClassFile.test(testClass.getName());
+	}
+
+}
@@ -16,6 +16,9 @@ dependencies {
 	testImplementation(project(":junit-platform-testkit"))
 	testImplementation(project(path = ":junit-jupiter-engine", configuration = "testArtifacts"))
 	testImplementation("org.apiguardian:apiguardian-api:${Versions.apiGuardian}")
+	testImplementation("com.google.jimfs:jimfs:${Versions.jimfs}") {
+		because("used to test the secret file of ConsoleLauncherDaemon")
+	}
 
 	// --- Test run-time dependencies ---------------------------------------------
 	testRuntimeOnly(project(":junit-vintage-engine"))
@@ -30,6 +33,9 @@ dependencies {
 	}
 	jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:${Versions.jmh}")
 	jmh(project(":junit-jupiter-api"))
+	jmh(project(":junit-jupiter-engine"))
+	jmh(project(":junit-jupiter-params"))
+	jmh(project(":junit-platform-testkit"))
 	jmh("junit:junit:${Versions.junit4}")
 }
 
@@ -40,6 +46,8 @@ jmh {
 	fork = 0 // Too long command line on Windows...
 	warmupIterations = 1
 	iterations = 5
+	resultFormat = "JSON" // machine-readable for comparing results across commits
+	resultsFile = file("$buildDir/reports/jmh/results.json")
 }
 
 tasks {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.params.converter.DefaultArgumentConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for implicit argument conversion in parameterized tests.
+ *
+ * <p>Benchmarks prefixed with {@code csvSource} convert {@code String}
+ * arguments as provided by {@code @CsvSource}; benchmarks prefixed with
+ * {@code valueSource} convert already typed arguments as provided by
+ * {@code @ValueSource}.
+ *
+ * @since 5.4
+ */
+@State(Scope.Benchmark)
+public class ArgumentConversionBenchmarks {
+
+	private final DefaultArgumentConverter converter = DefaultArgumentConverter.INSTANCE;
+
+	private String intString = "42";
+	private String doubleString = "42.23";
+	private String dateString = "2018-12-24";
+	private String enumString = "SECONDS";
+	private String bookString = "The Hitchhiker's Guide to the Galaxy";
+	private Integer boxedInt = 42;
+
+	@Benchmark
+	public Object csvSource_String_to_String() {
+		return converter.convert(bookString, String.class);
+	}
+
+	@Benchmark
+	public Object csvSource_String_to_int() {
+		return converter.convert(intString, int.class);
+	}
+
+	@Benchmark
+	public Object csvSource_String_to_Integer() {
+		return converter.convert(intString, Integer.class);
+	}
+
+	@Benchmark
+	public Object csvSource_String_to_double() {
+		return converter.convert(doubleString, double.class);
+	}
+
+	@Benchmark
+	public Object csvSource_String_to_LocalDate() {
+		return converter.convert(dateString, LocalDate.class);
+	}
+
+	@Benchmark
+	public Object csvSource_String_to_Enum() {
+		return converter.convert(enumString, TimeUnit.class);
+	}
+
+	@Benchmark
+	public Object csvSource_String_to_typeWithFactoryMethod() {
+		return converter.convert(bookString, Book.class);
+	}
+
+	@Benchmark
+	public Object valueSource_int_to_int() {
+		return converter.convert(boxedInt, int.class);
+	}
+
+	@Benchmark
+	public Object valueSource_int_to_Integer() {
+		return converter.convert(boxedInt, Integer.class);
+	}
+
+	public static class Book {
+
+		private final String title;
+
+		private Book(String title) {
+			this.title = title;
+		}
+
+		public static Book factory(String title) {
+			return new Book(title);
+		}
+
+		public String getTitle() {
+			return this.title;
+		}
+
+	}
+
+}
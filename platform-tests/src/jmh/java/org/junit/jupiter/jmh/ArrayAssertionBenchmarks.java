@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for asserting the equality of large arrays of primitives.
+ *
+ * @since 5.4
+ */
+@State(Scope.Benchmark)
+public class ArrayAssertionBenchmarks {
+
+	@Param({ "16", "1024", "1048576" })
+	public int length;
+
+	private byte[] expectedBytes;
+	private byte[] actualBytes;
+	private int[] expectedInts;
+	private int[] actualInts;
+	private double[] expectedDoubles;
+	private double[] actualDoubles;
+
+	@Setup
+	public void createArrays() {
+		Random random = new Random(42);
+		expectedBytes = new byte[length];
+		random.nextBytes(expectedBytes);
+		actualBytes = expectedBytes.clone();
+		expectedInts = random.ints(length).toArray();
+		actualInts = expectedInts.clone();
+		expectedDoubles = random.doubles(length).toArray();
+		actualDoubles = expectedDoubles.clone();
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_bytes() {
+		Assert.assertArrayEquals(expectedBytes, actualBytes);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_bytes() {
+		Assertions.assertArrayEquals(expectedBytes, actualBytes);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_ints() {
+		Assert.assertArrayEquals(expectedInts, actualInts);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_ints() {
+		Assertions.assertArrayEquals(expectedInts, actualInts);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_doubles() {
+		Assert.assertArrayEquals(expectedDoubles, actualDoubles, 0.0);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_doubles() {
+		Assertions.assertArrayEquals(expectedDoubles, actualDoubles);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_doubles_delta() {
+		Assertions.assertArrayEquals(expectedDoubles, actualDoubles, 0.0);
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathRoots;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.List;
+
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * JMH benchmarks for classpath scanning, test discovery in the JUnit Jupiter
+ * engine, and {@link TestPlan} construction based on
+ * {@linkplain SyntheticTestClasses synthetic test classes}.
+ *
+ * @since 5.4
+ */
+@State(Scope.Benchmark)
+public class DiscoveryBenchmarks {
+
+	@Param({ "10", "100" })
+	public int classCount;
+
+	@Param({ "10" })
+	public int testsPerClass;
+
+	private final JupiterTestEngine engine = new JupiterTestEngine();
+	private final UniqueId engineId = UniqueId.forEngine(engine.getId());
+
+	private SyntheticTestClasses testClasses;
+	private LauncherDiscoveryRequest classpathRootRequest;
+	private LauncherDiscoveryRequest classesRequest;
+	private TestDescriptor engineDescriptor;
+
+	@Setup
+	public void generateTestClasses() throws Exception {
+		testClasses = SyntheticTestClasses.generate(classCount, testsPerClass);
+		classpathRootRequest = request().selectors(selectClasspathRoots(singleton(testClasses.getRoot()))).build();
+		classesRequest = request().selectors(
+			testClasses.getClasses().stream().map(testClass -> selectClass(testClass)).toArray(
+				DiscoverySelector[]::new)).build();
+		engineDescriptor = engine.discover(classesRequest, engineId);
+	}
+
+	@TearDown
+	public void deleteTestClasses() throws Exception {
+		testClasses.close();
+	}
+
+	@Benchmark
+	public List<Class<?>> scanClasspathRoot() throws Exception {
+		return testClasses.callWithClassLoader(() -> ReflectionUtils.findAllClassesInClasspathRoot(
+			testClasses.getRoot().toUri(), testClass -> true, className -> true));
+	}
+
+	@Benchmark
+	public TestDescriptor discoverClasspathRoot() throws Exception {
+		return testClasses.callWithClassLoader(() -> engine.discover(classpathRootRequest, engineId));
+	}
+
+	@Benchmark
+	public TestDescriptor discoverClasses() {
+		return engine.discover(classesRequest, engineId);
+	}
+
+	@Benchmark
+	public TestPlan createTestPlan() {
+		return TestPlan.from(singletonList(engineDescriptor));
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * JMH benchmarks for the per-test overhead of discovering and executing
+ * {@linkplain SyntheticTestClasses synthetic test classes} with empty test
+ * methods in the JUnit Jupiter engine via the {@link EngineTestKit}.
+ *
+ * <p>Scores are reported per test.
+ *
+ * @since 5.4
+ */
+@State(Scope.Benchmark)
+public class ExecutionBenchmarks {
+
+	private static final int CLASS_COUNT = 10;
+	private static final int TESTS_PER_CLASS = 10;
+
+	private final JupiterTestEngine engine = new JupiterTestEngine();
+
+	private SyntheticTestClasses testClasses;
+	private DiscoverySelector[] selectors;
+
+	@Setup
+	public void generateTestClasses() throws Exception {
+		testClasses = SyntheticTestClasses.generate(CLASS_COUNT, TESTS_PER_CLASS);
+		selectors = testClasses.getClasses().stream().map(testClass -> selectClass(testClass)).toArray(
+			DiscoverySelector[]::new);
+	}
+
+	@TearDown
+	public void deleteTestClasses() throws Exception {
+		testClasses.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CLASS_COUNT * TESTS_PER_CLASS)
+	public EngineExecutionResults executeTests() {
+		return EngineTestKit.engine(engine).selectors(selectors).execute();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CLASS_COUNT * TESTS_PER_CLASS)
+	public EngineExecutionResults executeTestsWithPerClassLifecycle() {
+		return EngineTestKit.engine(engine).selectors(selectors) //
+				.configurationParameter("junit.jupiter.testinstance.lifecycle.default", "per_class") //
+				.execute();
+	}
+
+}
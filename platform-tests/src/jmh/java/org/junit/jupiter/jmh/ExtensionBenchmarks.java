@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static java.util.Arrays.asList;
+
+import java.util.List;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.engine.config.DefaultJupiterConfiguration;
+import org.junit.jupiter.engine.execution.ExtensionValuesStore;
+import org.junit.jupiter.engine.execution.NamespaceAwareStore;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for looking up extensions in an {@link ExtensionRegistry}
+ * and values in an {@link ExtensionContext.Store} as happens several times
+ * for each test.
+ *
+ * <p>Registries and stores are nested three levels deep, corresponding to the
+ * engine, a test class, and a test method.
+ *
+ * @since 5.4
+ */
+@State(Scope.Benchmark)
+public class ExtensionBenchmarks {
+
+	private static final Namespace NAMESPACE = Namespace.create(ExtensionBenchmarks.class);
+
+	private ExtensionRegistry engineRegistry;
+	private ExtensionRegistry methodRegistry;
+	private ExtensionContext.Store methodStore;
+
+	@Setup
+	public void createRegistriesAndStores() {
+		DefaultJupiterConfiguration configuration = new DefaultJupiterConfiguration(
+			LauncherDiscoveryRequestBuilder.request().build().getConfigurationParameters());
+		engineRegistry = ExtensionRegistry.createRegistryWithDefaultExtensions(configuration);
+		List<Class<? extends Extension>> classExtensions = asList(FirstExtension.class, SecondExtension.class);
+		ExtensionRegistry classRegistry = ExtensionRegistry.createRegistryFrom(engineRegistry, classExtensions);
+		methodRegistry = ExtensionRegistry.createRegistryFrom(classRegistry, asList(ThirdExtension.class));
+
+		ExtensionValuesStore engineValues = new ExtensionValuesStore(null);
+		ExtensionValuesStore classValues = new ExtensionValuesStore(engineValues);
+		ExtensionValuesStore methodValues = new ExtensionValuesStore(classValues);
+		new NamespaceAwareStore(engineValues, NAMESPACE).put("engineKey", "engineValue");
+		new NamespaceAwareStore(classValues, NAMESPACE).put("classKey", "classValue");
+		methodStore = new NamespaceAwareStore(methodValues, NAMESPACE);
+	}
+
+	@Benchmark
+	public List<ParameterResolver> getParameterResolvers() {
+		return methodRegistry.getExtensions(ParameterResolver.class);
+	}
+
+	@Benchmark
+	public List<BeforeEachCallback> getReversedBeforeEachCallbacks() {
+		return methodRegistry.getReversedExtensions(BeforeEachCallback.class);
+	}
+
+	@Benchmark
+	public ExtensionRegistry createMethodRegistry() {
+		return ExtensionRegistry.createRegistryFrom(engineRegistry, asList(ThirdExtension.class));
+	}
+
+	@Benchmark
+	public Object getValueFromParentStore() {
+		return methodStore.get("engineKey");
+	}
+
+	@Benchmark
+	public Object getMissingValue() {
+		return methodStore.get("missingKey");
+	}
+
+	@Benchmark
+	public Object getOrComputeValueInNewStore() {
+		ExtensionContext.Store store = new NamespaceAwareStore(new ExtensionValuesStore(null), NAMESPACE);
+		return store.getOrComputeIfAbsent("key", key -> "value");
+	}
+
+	public static class FirstExtension implements ParameterResolver {
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return false;
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return null;
+		}
+
+	}
+
+	public static class SecondExtension implements BeforeEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+		}
+
+	}
+
+	public static class ThirdExtension implements BeforeEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+		}
+
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import java.util.Collections;
+
+import javax.script.Bindings;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.engine.script.Script;
+import org.junit.jupiter.engine.script.ScriptExecutionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JMH benchmarks for the per-test cost of evaluating the script of an
+ * {@link EnabledIf @EnabledIf} condition.
+ *
+ * <p>Benchmarks prefixed with {@code concurrent} evaluate the same script from
+ * multiple threads at once as happens during parallel test execution.
+ *
+ * @since 5.4
+ */
+@State(Scope.Benchmark)
+public class ScriptExecutionBenchmarks {
+
+	private final ScriptExecutionManager manager = new ScriptExecutionManager();
+
+	private final Script script = new Script(EnabledIf.class, "@EnabledIf", Script.DEFAULT_SCRIPT_ENGINE_NAME,
+		"systemProperty.get('os.arch') != 'unknown'", Script.DEFAULT_SCRIPT_REASON_PATTERN);
+
+	@Benchmark
+	public Object evaluate() throws ScriptException {
+		return manager.evaluate(script, createBindings());
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object concurrent_evaluate() throws ScriptException {
+		return manager.evaluate(script, createBindings());
+	}
+
+	@Benchmark
+	public Object createBindingsOnly() {
+		return createBindings();
+	}
+
+	private Bindings createBindings() {
+		Bindings bindings = new SimpleBindings();
+		bindings.put(Script.BIND_JUNIT_TAGS, Collections.emptySet());
+		bindings.put(Script.BIND_JUNIT_UNIQUE_ID, "[engine:junit-jupiter]/[class:Benchmark]/[method:test()]");
+		bindings.put(Script.BIND_JUNIT_DISPLAY_NAME, "test()");
+		bindings.put(Script.BIND_JUNIT_CONFIGURATION_PARAMETER, Collections.emptyMap());
+		return bindings;
+	}
+
+}
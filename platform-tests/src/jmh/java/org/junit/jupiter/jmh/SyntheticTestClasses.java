@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Synthetic JUnit Jupiter test classes that are generated and compiled into a
+ * temporary directory when setting up a benchmark.
+ *
+ * <p>The generated classes only depend on the requested number of classes and
+ * test methods so that results of benchmarks using them are comparable across
+ * commits.
+ *
+ * @since 5.4
+ */
+public class SyntheticTestClasses implements AutoCloseable {
+
+	public static final String PACKAGE_NAME = "org.junit.jupiter.jmh.generated";
+
+	/**
+	 * Generate {@code classCount} test classes declaring {@code testsPerClass}
+	 * test methods and a {@code @BeforeEach} method each.
+	 */
+	public static SyntheticTestClasses generate(int classCount, int testsPerClass) throws Exception {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null) {
+			throw new IllegalStateException("Generating synthetic test classes requires a JDK");
+		}
+
+		Path root = Files.createTempDirectory("junit-jmh-");
+		Path packageDir = Files.createDirectories(root.resolve(PACKAGE_NAME.replace('.', '/')));
+		List<String> compilerArgs = new ArrayList<>();
+		compilerArgs.add("-d");
+		compilerArgs.add(root.toString());
+		compilerArgs.add("-classpath");
+		compilerArgs.add(Paths.get(Test.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString());
+		List<String> classNames = new ArrayList<>();
+		for (int i = 0; i < classCount; i++) {
+			String simpleName = String.format("SyntheticTests%04d", i);
+			Path sourceFile = packageDir.resolve(simpleName + ".java");
+			Files.write(sourceFile, generateSource(simpleName, testsPerClass).getBytes(UTF_8));
+			compilerArgs.add(sourceFile.toString());
+			classNames.add(PACKAGE_NAME + "." + simpleName);
+		}
+		if (compiler.run(null, null, null, compilerArgs.toArray(new String[0])) != 0) {
+			throw new IllegalStateException("Failed to compile synthetic test classes in " + root);
+		}
+
+		URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() },
+			SyntheticTestClasses.class.getClassLoader());
+		List<Class<?>> classes = new ArrayList<>();
+		for (String className : classNames) {
+			classes.add(Class.forName(className, false, classLoader));
+		}
+		return new SyntheticTestClasses(root, classLoader, classes);
+	}
+
+	private static String generateSource(String simpleName, int testsPerClass) {
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(PACKAGE_NAME).append(";\n\n");
+		source.append("import org.junit.jupiter.api.BeforeEach;\n");
+		source.append("import org.junit.jupiter.api.Test;\n\n");
+		source.append("public class ").append(simpleName).append(" {\n\n");
+		source.append("\tint counter;\n\n");
+		source.append("\t@BeforeEach\n\tvoid beforeEach() {\n\t\tcounter++;\n\t}\n");
+		for (int i = 0; i < testsPerClass; i++) {
+			source.append(String.format("%n\t@Test%n\tvoid test%04d() {%n\t}%n", i));
+		}
+		source.append("\n}\n");
+		return source.toString();
+	}
+
+	private final Path root;
+	private final URLClassLoader classLoader;
+	private final List<Class<?>> classes;
+
+	private SyntheticTestClasses(Path root, URLClassLoader classLoader, List<Class<?>> classes) {
+		this.root = root;
+		this.classLoader = classLoader;
+		this.classes = classes;
+	}
+
+	/**
+	 * Get the classpath root the test classes have been compiled into.
+	 */
+	public Path getRoot() {
+		return this.root;
+	}
+
+	public List<Class<?>> getClasses() {
+		return this.classes;
+	}
+
+	/**
+	 * Call the supplied {@link Callable} with the class loader of the test
+	 * classes set as the thread context class loader.
+	 */
+	public <T> T callWithClassLoader(Callable<T> callable) throws Exception {
+		Thread thread = Thread.currentThread();
+		ClassLoader originalClassLoader = thread.getContextClassLoader();
+		thread.setContextClassLoader(this.classLoader);
+		try {
+			return callable.call();
+		}
+		finally {
+			thread.setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.classLoader.close();
+		try (Stream<Path> paths = Files.walk(this.root)) {
+			// @formatter:off
+			paths.sorted(Comparator.reverseOrder())
+					.forEach(path -> path.toFile().delete());
+			// @formatter:on
+		}
+	}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import org.junit.platform.engine.UniqueId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for parsing, appending to, and formatting {@link UniqueId
+ * UniqueIds} as done for every test during discovery and reporting.
+ *
+ * @since 5.4
+ */
+@State(Scope.Benchmark)
+public class UniqueIdBenchmarks {
+
+	private final UniqueId methodId = UniqueId.forEngine("junit-jupiter") //
+			.append("class", "com.example.project.CalculatorTests") //
+			.append("nested-class", "AdditionTests") //
+			.append("test-template", "add(int, int, int)");
+
+	private final String methodIdString = methodId.toString();
+
+	@Benchmark
+	public UniqueId parse() {
+		return UniqueId.parse(methodIdString);
+	}
+
+	@Benchmark
+	public UniqueId append() {
+		return methodId.append("test-template-invocation", "#1");
+	}
+
+	@Benchmark
+	public String format() {
+		return methodId.toString();
+	}
+
+	@Benchmark
+	public boolean hasPrefix() {
+		return methodId.hasPrefix(UniqueId.forEngine("junit-jupiter"));
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JMH benchmarks for acquiring and releasing the locks returned by the
+ * {@link LockManager} for the exclusive resources of a node.
+ *
+ * <p>This benchmark resides in the same package as {@code LockManager} since
+ * the latter is package private.
+ *
+ * @since 1.4
+ */
+@State(Scope.Benchmark)
+public class LockManagerBenchmarks {
+
+	private final LockManager lockManager = new LockManager();
+
+	private final List<ExclusiveResource> singleResource = singletonList(
+		new ExclusiveResource("java.lang.System.properties", READ_WRITE));
+
+	private final List<ExclusiveResource> multipleResources = asList( //
+		new ExclusiveResource("java.lang.System.properties", READ), //
+		new ExclusiveResource("java.lang.System.out", READ_WRITE), //
+		new ExclusiveResource("java.util.Locale.default", READ), //
+		new ExclusiveResource("java.lang.System.properties", READ_WRITE));
+
+	private final List<ExclusiveResource> readResource = singletonList(
+		new ExclusiveResource("java.lang.System.properties", READ));
+
+	@Benchmark
+	public void acquireSingleResource() throws InterruptedException {
+		lockManager.getLockForResources(singleResource).acquire().close();
+	}
+
+	@Benchmark
+	public void acquireMultipleResources() throws InterruptedException {
+		lockManager.getLockForResources(multipleResources).acquire().close();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void concurrent_acquireReadResource() throws InterruptedException {
+		lockManager.getLockForResources(readResource).acquire().close();
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.AbstractList;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ClassFileHeader}.
+ *
+ * @since 1.4
+ */
+class ClassFileHeaderTests {
+
+	@Test
+	void readsClassNamesAndAccessFlags() throws Exception {
+		ClassFileHeader header = read(PublicAbstractList.class);
+
+		assertThat(header.getClassName()).isEqualTo(
+			"org/junit/platform/commons/util/ClassFileHeaderTests$PublicAbstractList");
+		assertThat(header.getSuperClassName()).isEqualTo("java/util/AbstractList");
+		assertThat(header.getAccessFlags() & ClassFileHeader.ACC_PUBLIC).isNotZero();
+		assertThat(header.getAccessFlags() & ClassFileHeader.ACC_ABSTRACT).isNotZero();
+		assertThat(header.getReferencedClassNames()).contains("java/util/AbstractList",
+			"java/lang/UnsupportedOperationException");
+		assertThat(header.getUtf8Constants()).contains("()Ljava/lang/String;", "constant");
+	}
+
+	@Test
+	void readsClassExtendingObject() throws Exception {
+		ClassFileHeader header = read(ClassFileHeaderTests.class);
+
+		assertThat(header.getSuperClassName()).isEqualTo("java/lang/Object");
+		assertThat(header.getAccessFlags() & ClassFileHeader.ACC_PUBLIC).isZero();
+	}
+
+	@Test
+	void rejectsInputWithInvalidMagicNumber() {
+		IOException exception = assertThrows(IOException.class, () -> read(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+
+		assertThat(exception).hasMessage("Invalid magic number");
+	}
+
+	@Test
+	void rejectsUnsupportedConstantPoolEntries() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeInt(0xCAFEBABE);
+		output.writeShort(0); // minor version
+		output.writeShort(52); // major version
+		output.writeShort(2); // constant pool count
+		output.writeByte(42); // unknown tag
+
+		IOException exception = assertThrows(IOException.class, () -> read(bytes.toByteArray()));
+
+		assertThat(exception).hasMessage("Unsupported constant pool tag: 42");
+	}
+
+	private static ClassFileHeader read(Class<?> clazz) throws IOException {
+		String resourceName = clazz.getName().replace('.', '/') + ".class";
+		try (InputStream inputStream = clazz.getClassLoader().getResourceAsStream(resourceName)) {
+			return ClassFileHeader.read(new DataInputStream(inputStream));
+		}
+	}
+
+	private static ClassFileHeader read(byte[] bytes) throws IOException {
+		return ClassFileHeader.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+	public abstract static class PublicAbstractList extends AbstractList<String> {
+
+		@Override
+		public String toString() {
+			throw new UnsupportedOperationException("constant");
+		}
+
+	}
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_READ;
+import static java.nio.file.attribute.PosixFilePermission.OWNER_WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.AclEntry;
+import java.nio.file.attribute.AclEntryType;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.util.EnumSet;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+
+/**
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class ConsoleLauncherDaemonTests {
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream daemonErr = new ByteArrayOutputStream();
+
+	private Path secretFile;
+
+	@BeforeEach
+	void createSecretFilePath(@TempDir Path tempDir) {
+		secretFile = tempDir.resolve("daemon.secret");
+	}
+
+	@Test
+	void executesSubsequentRequestsAndSendsResultsToClient() throws Exception {
+		try (ConsoleLauncherDaemon daemon = startDaemon()) {
+			for (int i = 0; i < 2; i++) {
+				out.reset();
+				int exitCode = executeClient(String.valueOf(daemon.getPort()), "-e", "junit-jupiter", "-p",
+					"org.junit.platform.console.subpackage");
+
+				assertThat(exitCode).isEqualTo(0);
+				assertThat(out.toString()).contains("9 tests successful");
+			}
+		}
+	}
+
+	@Test
+	void sendsExitCodeOfInvalidRequestToClient() throws Exception {
+		try (ConsoleLauncherDaemon daemon = startDaemon()) {
+			int exitCode = executeClient(String.valueOf(daemon.getPort()), "--unknown-option");
+
+			assertThat(exitCode).isEqualTo(-1);
+			assertThat(err.toString()).contains("--unknown-option");
+		}
+	}
+
+	@Test
+	void clientFailsIfNoDaemonIsListening() throws Exception {
+		ConsoleLauncherDaemon daemon = new ConsoleLauncherDaemon(0, secretFile, new PrintStream(daemonErr));
+		daemon.close();
+
+		int exitCode = executeClient(String.valueOf(daemon.getPort()), "-e", "junit-jupiter");
+
+		assertThat(exitCode).isEqualTo(-1);
+		assertThat(err.toString()).contains("Failed to execute request via daemon");
+	}
+
+	@Test
+	void writesSecretToFileOnlyReadableByOwnerAndDeletesItOnClose() throws Exception {
+		assumeTrue(secretFile.getFileSystem().supportedFileAttributeViews().contains("posix"));
+
+		try (ConsoleLauncherDaemon daemon = startDaemon()) {
+			assertThat(Files.getPosixFilePermissions(secretFile)).isEqualTo(EnumSet.of(OWNER_READ, OWNER_WRITE));
+			assertThat(Files.readAllBytes(secretFile)).isNotEmpty();
+		}
+
+		assertThat(secretFile).doesNotExist();
+	}
+
+	@Test
+	void restrictsAccessToSecretFileToOwnerViaAccessControlList() throws Exception {
+		Configuration configuration = Configuration.windows().toBuilder().setAttributeViews("basic", "owner",
+			"acl").build();
+		try (FileSystem fileSystem = Jimfs.newFileSystem(configuration)) {
+			secretFile = fileSystem.getPath("C:\\daemon\\daemon.secret");
+
+			try (ConsoleLauncherDaemon daemon = startDaemon()) {
+				AclFileAttributeView view = Files.getFileAttributeView(secretFile, AclFileAttributeView.class);
+				List<AclEntry> acl = view.getAcl();
+				assertThat(acl).hasSize(1);
+				assertThat(acl.get(0).type()).isEqualTo(AclEntryType.ALLOW);
+				assertThat(acl.get(0).principal()).isEqualTo(view.getOwner());
+				assertThat(Files.readAllBytes(secretFile)).isNotEmpty();
+				assertThat(daemonErr.toString()).isEmpty();
+			}
+
+			assertThat(Files.exists(secretFile)).isFalse();
+		}
+	}
+
+	@Test
+	void warnsIfAccessToSecretFileCannotBeRestricted() throws Exception {
+		Configuration configuration = Configuration.unix().toBuilder().setAttributeViews("basic").build();
+		try (FileSystem fileSystem = Jimfs.newFileSystem(configuration)) {
+			secretFile = fileSystem.getPath("/daemon/daemon.secret");
+
+			try (ConsoleLauncherDaemon daemon = startDaemon()) {
+				assertThat(Files.readAllBytes(secretFile)).isNotEmpty();
+				assertThat(daemonErr.toString()).contains("cannot be restricted to the current user");
+			}
+		}
+	}
+
+	@Test
+	void refusesConnectionWithoutSecret() throws Exception {
+		try (ConsoleLauncherDaemon daemon = startDaemon();
+				Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+
+			OutputStream output = socket.getOutputStream();
+			output.write("not the secret\n".getBytes(UTF_8));
+			output.flush();
+
+			assertThat(socket.getInputStream().read()).isEqualTo(-1);
+			assertThat(daemonErr.toString()).contains("Rejected connection");
+		}
+	}
+
+	@Test
+	void reloadsChangedClassesOnClassPathForEachRequest(@TempDir Path tempDir) throws Exception {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assumeTrue(compiler != null, "Java compiler is not available");
+		Path sourceFile = tempDir.resolve("ReloadedTests.java");
+		Path classesDir = Files.createDirectory(tempDir.resolve("classes"));
+
+		try (ConsoleLauncherDaemon daemon = startDaemon()) {
+			String port = String.valueOf(daemon.getPort());
+
+			compileTestClass(compiler, sourceFile, classesDir, "@org.junit.jupiter.api.Test void test1() {}");
+			int exitCode = executeClient(port, "--class-path", classesDir.toString(), "-e", "junit-jupiter",
+				"--select-class", "ReloadedTests");
+
+			assertThat(exitCode).isEqualTo(0);
+			assertThat(out.toString()).contains("1 tests successful");
+
+			out.reset();
+			compileTestClass(compiler, sourceFile, classesDir,
+				"@org.junit.jupiter.api.Test void test1() {} @org.junit.jupiter.api.Test void test2() {}");
+			exitCode = executeClient(port, "--class-path", classesDir.toString(), "-e", "junit-jupiter",
+				"--select-class", "ReloadedTests");
+
+			assertThat(exitCode).isEqualTo(0);
+			assertThat(out.toString()).contains("2 tests successful");
+		}
+	}
+
+	private ConsoleLauncherDaemon startDaemon() throws Exception {
+		ConsoleLauncherDaemon daemon = new ConsoleLauncherDaemon(0, secretFile, new PrintStream(daemonErr, true));
+		Thread thread = new Thread(daemon::run);
+		thread.setDaemon(true);
+		thread.start();
+		return daemon;
+	}
+
+	private static void compileTestClass(JavaCompiler compiler, Path sourceFile, Path classesDir, String body)
+			throws Exception {
+
+		Files.write(sourceFile, ("public class ReloadedTests { " + body + " }").getBytes(UTF_8));
+		int result = compiler.run(null, null, null, "-classpath", System.getProperty("java.class.path"), "-d",
+			classesDir.toString(), sourceFile.toString());
+		assertThat(result).isEqualTo(0);
+	}
+
+	private int executeClient(String... args) {
+		return ConsoleLauncherDaemonClient.execute(secretFile, new PrintStream(out), new PrintStream(err), args);
+	}
+
+}
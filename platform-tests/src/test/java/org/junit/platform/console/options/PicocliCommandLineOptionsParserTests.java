@@ -39,6 +39,9 @@ import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.platform.commons.JUnitException;
@@ -374,6 +377,27 @@ class PicocliCommandLineOptionsParserTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("-d", "--select-directory");
 	}
 
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void resolvesRelativePathsAgainstSuppliedWorkingDirectory(@TempDir Path workingDirectory) throws Exception {
+		Path classesDir = Files.createDirectory(workingDirectory.resolve("classes"));
+		Path absoluteFile = workingDirectory.resolveSibling("bar.txt").toAbsolutePath();
+
+		CommandLineOptionsParser parser = new PicocliCommandLineOptionsParser(workingDirectory);
+		CommandLineOptions options = parser.parse("-cp", "classes", "--reports-dir", "reports", "--scan-class-path",
+			"classes", "-f", "foo.txt", "-f", absoluteFile.toString(), "-d", "foo");
+
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(singletonList(classesDir), options.getAdditionalClasspathEntries()),
+			() -> assertEquals(Optional.of(workingDirectory.resolve("reports")), options.getReportsDir()),
+			() -> assertEquals(singletonList(classesDir), options.getSelectedClasspathEntries()),
+			() -> assertEquals(asList(workingDirectory.resolve("foo.txt").toString(), absoluteFile.toString()), options.getSelectedFiles()),
+			() -> assertEquals(singletonList(workingDirectory.resolve("foo").toString()), options.getSelectedDirectories())
+		);
+		// @formatter:on
+	}
+
 	@ParameterizedTest
 	@EnumSource(ArgsType.class)
 	void parseValidModuleSelectors(ArgsType type) {
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ThreadMXBean;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AdaptiveParallelism}.
+ *
+ * @since 1.4
+ */
+class AdaptiveParallelismTests {
+
+	private final ThreadMXBean threadMXBean = mock(ThreadMXBean.class);
+	private final AdaptiveParallelism adaptiveParallelism = new AdaptiveParallelism(4, 8, 4, threadMXBean);
+
+	@Test
+	void doesNotCompensateInitially() {
+		assertThat(adaptiveParallelism.getTargetParallelism()).isEqualTo(4);
+		assertThat(adaptiveParallelism.tryStartCompensating()).isFalse();
+	}
+
+	@Test
+	void increasesTargetParallelismUpToMaximumWhileWorkersAreBlocked() {
+		adaptiveParallelism.adapt(0.5, true);
+		assertThat(adaptiveParallelism.getTargetParallelism()).isEqualTo(5);
+
+		adaptiveParallelism.adapt(0.5, true);
+		adaptiveParallelism.adapt(0.5, true);
+		adaptiveParallelism.adapt(0.5, true);
+		adaptiveParallelism.adapt(0.5, true);
+
+		assertThat(adaptiveParallelism.getTargetParallelism()).isEqualTo(8);
+	}
+
+	@Test
+	void keepsTargetParallelismWithoutQueuedTasks() {
+		adaptiveParallelism.adapt(0.5, false);
+
+		assertThat(adaptiveParallelism.getTargetParallelism()).isEqualTo(4);
+	}
+
+	@Test
+	void keepsTargetParallelismWhileWorkersAreBusy() {
+		adaptiveParallelism.adapt(3, true);
+
+		assertThat(adaptiveParallelism.getTargetParallelism()).isEqualTo(4);
+	}
+
+	@Test
+	void decreasesTargetParallelismDownToMinimumWhileProcessorsAreSaturated() {
+		adaptiveParallelism.adapt(0, true);
+		adaptiveParallelism.adapt(0, true);
+		assertThat(adaptiveParallelism.getTargetParallelism()).isEqualTo(6);
+
+		adaptiveParallelism.adapt(4, true);
+		assertThat(adaptiveParallelism.getTargetParallelism()).isEqualTo(5);
+
+		adaptiveParallelism.adapt(4, true);
+		adaptiveParallelism.adapt(4, true);
+
+		assertThat(adaptiveParallelism.getTargetParallelism()).isEqualTo(4);
+	}
+
+	@Test
+	void compensatesForAsManyTasksAsTargetParallelismExceedsParallelism() {
+		adaptiveParallelism.adapt(0, true);
+		adaptiveParallelism.adapt(0, true);
+		adaptiveParallelism.adapt(0, true);
+
+		assertThat(adaptiveParallelism.tryStartCompensating()).isTrue();
+		assertThat(adaptiveParallelism.tryStartCompensating()).isTrue();
+		assertThat(adaptiveParallelism.tryStartCompensating()).isTrue();
+		assertThat(adaptiveParallelism.tryStartCompensating()).isFalse();
+
+		adaptiveParallelism.stopCompensating();
+
+		assertThat(adaptiveParallelism.tryStartCompensating()).isTrue();
+	}
+
+	@Test
+	void doesNotAttributeCpuTimeConsumedBeforeWorkerStartedToFirstSample() throws Exception {
+		when(threadMXBean.getThreadCpuTime(anyLong())).thenReturn(SECONDS.toNanos(10));
+		adaptiveParallelism.adapt(0, true);
+		adaptiveParallelism.adapt(0, true);
+		adaptiveParallelism.workerStarted(Thread.currentThread());
+
+		Thread.sleep(150);
+		adaptiveParallelism.sampleIfNecessary(null);
+
+		assertThat(adaptiveParallelism.getTargetParallelism()).isEqualTo(6);
+	}
+
+	@Test
+	void disablesThreadCpuTimeOnlyOnceLastActiveInstanceIsClosed() {
+		when(threadMXBean.isThreadCpuTimeEnabled()).thenReturn(false, true);
+		AdaptiveParallelism first = AdaptiveParallelism.open(4, 8, 4, threadMXBean);
+		AdaptiveParallelism second = AdaptiveParallelism.open(4, 8, 4, threadMXBean);
+		verify(threadMXBean).setThreadCpuTimeEnabled(true);
+
+		first.close();
+		first.close();
+		verify(threadMXBean, never()).setThreadCpuTimeEnabled(false);
+
+		second.close();
+		verify(threadMXBean).setThreadCpuTimeEnabled(false);
+	}
+
+	@Test
+	void keepsThreadCpuTimeEnabledOnCloseIfItWasAlreadyEnabled() {
+		when(threadMXBean.isThreadCpuTimeEnabled()).thenReturn(true);
+
+		AdaptiveParallelism.open(4, 8, 4, threadMXBean).close();
+
+		verify(threadMXBean, never()).setThreadCpuTimeEnabled(anyBoolean());
+	}
+
+	@Test
+	void doesNotChangeThreadCpuTimeOnCloseOfInactiveInstance() {
+		adaptiveParallelism.close();
+
+		verify(threadMXBean, never()).setThreadCpuTimeEnabled(anyBoolean());
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.EXECUTE;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.LOCK_WAIT;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+
+/**
+ * Unit tests for {@link ChromeTraceTimingListener}.
+ *
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class ChromeTraceTimingListenerTests {
+
+	@Test
+	void writesNodesAndPhasesAsCompleteEvents(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("reports/trace.json");
+
+		try (ChromeTraceTimingListener listener = new ChromeTraceTimingListener(file)) {
+			long startNanos = System.nanoTime();
+			NodeExecutionTiming timing = new NodeExecutionTiming(startNanos);
+			timing.recordPhase(LOCK_WAIT, startNanos + 1_000, startNanos + 2_500);
+			timing.started(startNanos + 3_000);
+			timing.recordPhase(EXECUTE, startNanos + 4_000, startNanos + 5_000);
+			timing.finished(startNanos + 7_000);
+
+			listener.nodeExecuted(new TestNode("test \"quoted\" \\ name"), timing);
+			listener.nodeExecuted(new TestNode("other test"), timing);
+		}
+
+		String content = new String(Files.readAllBytes(file), UTF_8);
+		assertThat(content).startsWith("{\"traceEvents\":[\n{\"name\":\"thread_name\"").endsWith("\n]}\n");
+		assertThat(content).containsOnlyOnce("\"thread_name\"");
+		assertThat(content).contains("\"name\":\"test \\\"quoted\\\" \\\\ name\",\"cat\":\"node\"");
+		assertThat(content).contains(
+			"\"dur\":4.000,\"args\":{\"uniqueId\":\"[test:other test]\",\"queueWaitMicros\":3.000}");
+		assertThat(content).contains("\"name\":\"lock_wait\",\"cat\":\"phase\"");
+		assertThat(content).contains("\"name\":\"execute\",\"cat\":\"phase\"");
+		assertThat(content).doesNotContain("queue_wait", ",,", "[,");
+	}
+
+	private static class TestNode extends AbstractTestDescriptor implements Node<EngineExecutionContext> {
+
+		TestNode(String name) {
+			super(UniqueId.root("test", name), name);
+		}
+
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+
+	}
+
+}
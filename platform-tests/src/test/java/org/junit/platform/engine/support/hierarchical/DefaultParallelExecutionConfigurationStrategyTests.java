@@ -66,6 +66,55 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
 	}
 
+	@Test
+	void adaptiveStrategyCreatesValidConfiguration() {
+		when(configParams.get("adaptive.factor")).thenReturn(Optional.of("2.0"));
+		when(configParams.get("adaptive.max-factor")).thenReturn(Optional.of("3.0"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configParams);
+
+		int availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors * 2);
+		assertThat(configuration.getMaxParallelism()).isEqualTo(availableProcessors * 3);
+		assertThat(configuration.getCorePoolSize()).isEqualTo(availableProcessors * 2);
+		assertThat(configuration.getMinimumRunnable()).isEqualTo(availableProcessors * 2);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + (availableProcessors * 3));
+		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
+	}
+
+	@Test
+	void adaptiveStrategyUsesDefaultsWhenPropertiesAreNotPresent() {
+		when(configParams.get("adaptive.factor")).thenReturn(Optional.empty());
+		when(configParams.get("adaptive.max-factor")).thenReturn(Optional.empty());
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configParams);
+
+		int availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors);
+		assertThat(configuration.getMaxParallelism()).isEqualTo(availableProcessors * 4);
+	}
+
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenMaxFactorIsLessThanFactor() {
+		when(configParams.get("adaptive.factor")).thenReturn(Optional.of("2"));
+		when(configParams.get("adaptive.max-factor")).thenReturn(Optional.of("1"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
+	@Test
+	void nonAdaptiveStrategiesUseParallelismAsMaxParallelism() {
+		when(configParams.get("fixed.parallelism")).thenReturn(Optional.of("42"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.FIXED;
+		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configParams);
+
+		assertThat(configuration.getMaxParallelism()).isEqualTo(42);
+	}
+
 	@Test
 	void customStrategyCreatesValidConfiguration() {
 		when(configParams.get("custom.class")).thenReturn(
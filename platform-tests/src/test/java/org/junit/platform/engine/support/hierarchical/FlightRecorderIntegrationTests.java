@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.launcher.LauncherConstants.FLIGHT_RECORDER_ENABLED_PROPERTY_NAME;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.FlightRecorderEvents;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+/**
+ * Integration tests for the Java Flight Recorder events emitted by
+ * {@link NodeTestTask}.
+ *
+ * @since 1.4
+ */
+class FlightRecorderIntegrationTests {
+
+	private final DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
+
+	@BeforeEach
+	void assumeFlightRecorderIsAvailable() {
+		assumeTrue(FlightRecorderEvents.isAvailable(), "Java Flight Recorder is not available");
+	}
+
+	@Test
+	void emitsEventsForExecutedNodesIfEnabled() throws Exception {
+		engine.addTest("succeedingTest", () -> {
+		});
+		engine.addTest("failingTest", () -> fail("failing"));
+
+		List<RecordedEvent> events = recordEvents(true);
+
+		assertThat(uniqueIdsOf(events, "org.junit.NodeExecution")) //
+				.containsExactlyInAnyOrder("[engine:dummy]", "[engine:dummy]/[test:succeedingTest]",
+					"[engine:dummy]/[test:failingTest]");
+		assertThat(uniqueIdsOf(events, "org.junit.NodeExecutionPhase")) //
+				.contains("[engine:dummy]/[test:succeedingTest]", "[engine:dummy]/[test:failingTest]");
+	}
+
+	@Test
+	void emitsNoEventsIfDisabled() throws Exception {
+		engine.addTest("succeedingTest", () -> {
+		});
+
+		List<RecordedEvent> events = recordEvents(false);
+
+		assertThat(uniqueIdsOf(events, "org.junit.NodeExecution")).isEmpty();
+	}
+
+	private List<RecordedEvent> recordEvents(boolean flightRecorderEnabled) throws Exception {
+		try (Recording recording = new Recording()) {
+			recording.enable("org.junit.*");
+			recording.start();
+
+			EngineTestKit.engine(engine) //
+					.configurationParameter(FLIGHT_RECORDER_ENABLED_PROPERTY_NAME,
+						String.valueOf(flightRecorderEnabled)) //
+					.execute();
+
+			recording.stop();
+			Path file = Files.createTempFile("junit", ".jfr");
+			try {
+				recording.dump(file);
+				return RecordingFile.readAllEvents(file);
+			}
+			finally {
+				Files.delete(file);
+			}
+		}
+	}
+
+	private static List<String> uniqueIdsOf(List<RecordedEvent> events, String eventName) {
+		// @formatter:off
+		return events.stream()
+				.filter(event -> event.getEventType().getName().equals(eventName))
+				.map(event -> event.getString("uniqueId"))
+				.collect(toList());
+		// @formatter:on
+	}
+
+}
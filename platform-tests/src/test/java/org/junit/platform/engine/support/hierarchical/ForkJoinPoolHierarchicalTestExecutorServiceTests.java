@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+/**
+ * Integration tests for {@link ForkJoinPoolHierarchicalTestExecutorService}.
+ *
+ * @since 1.4
+ */
+class ForkJoinPoolHierarchicalTestExecutorServiceTests {
+
+	private static final int PARALLELISM = 2;
+	private static final int MAX_PARALLELISM = 8;
+
+	private final AtomicInteger runningTasks = new AtomicInteger();
+	private final AtomicInteger maxRunningTasks = new AtomicInteger();
+
+	@Test
+	void increasesParallelismWhileTasksAreBlocked() throws Exception {
+		ConfigurationParameters configurationParameters = mock(ConfigurationParameters.class);
+		when(configurationParameters.get("strategy")).thenReturn(Optional.of("custom"));
+		when(configurationParameters.get("custom.class")).thenReturn(Optional.of(AdaptiveStrategy.class.getName()));
+		List<TestTask> blockingTasks = IntStream.range(0, 40).mapToObj(i -> new BlockingTask()).collect(toList());
+
+		try (ForkJoinPoolHierarchicalTestExecutorService service = new ForkJoinPoolHierarchicalTestExecutorService(
+			configurationParameters)) {
+			service.submit(new Task(() -> service.invokeAll(blockingTasks))).get(30, TimeUnit.SECONDS);
+		}
+
+		assertThat(maxRunningTasks.get()).isGreaterThan(PARALLELISM);
+	}
+
+	static class AdaptiveStrategy implements ParallelExecutionConfigurationStrategy {
+
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			return new DefaultParallelExecutionConfiguration(PARALLELISM, PARALLELISM, 256 + MAX_PARALLELISM,
+				PARALLELISM, 30, MAX_PARALLELISM);
+		}
+	}
+
+	private class BlockingTask extends Task {
+
+		BlockingTask() {
+			super(() -> {
+				try {
+					Thread.sleep(50);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+
+		@Override
+		public void execute() {
+			maxRunningTasks.accumulateAndGet(runningTasks.incrementAndGet(), Math::max);
+			try {
+				super.execute();
+			}
+			finally {
+				runningTasks.decrementAndGet();
+			}
+		}
+	}
+
+	private static class Task implements TestTask {
+
+		private final Runnable action;
+
+		Task(Runnable action) {
+			this.action = action;
+		}
+
+		@Override
+		public ExecutionMode getExecutionMode() {
+			return CONCURRENT;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return NopLock.INSTANCE;
+		}
+
+		@Override
+		public void execute() {
+			action.run();
+		}
+	}
+
+}
@@ -17,6 +17,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.platform.engine.TestExecutionResult.Status.ABORTED;
 import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
 import static org.junit.platform.engine.TestExecutionResult.Status.SUCCESSFUL;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.AFTER;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.BEFORE;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.CHILDREN;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.CLEAN_UP;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.EXECUTE;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.PREPARE;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.QUEUE_WAIT;
+import static org.junit.platform.engine.support.hierarchical.NodeExecutionTiming.Phase.SHOULD_BE_SKIPPED;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -26,9 +34,14 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -59,12 +72,15 @@ class HierarchicalTestExecutorTests {
 	@Mock
 	EngineExecutionListener listener;
 
+	@Mock
+	ConfigurationParameters configurationParameters;
+
 	MyEngineExecutionContext rootContext = new MyEngineExecutionContext();
 	HierarchicalTestExecutor<MyEngineExecutionContext> executor;
 
 	@BeforeEach
 	void init() {
-		ExecutionRequest request = new ExecutionRequest(root, listener, null);
+		ExecutionRequest request = new ExecutionRequest(root, listener, configurationParameters);
 		executor = new MyExecutor(request, rootContext);
 	}
 
@@ -629,6 +645,43 @@ class HierarchicalTestExecutorTests {
 			exceptionInAfter).hasSuppressedException(exceptionInExecute);
 	}
 
+	@Test
+	void reportsDurationsOfExecutedPhasesToTimingListener() throws Exception {
+		MyLeaf child = spy(new MyLeaf(UniqueId.root("leaf", "child leaf")));
+		root.addChild(child);
+		Map<TestDescriptor, NodeExecutionTiming> timings = new LinkedHashMap<>();
+
+		new HierarchicalTestExecutor<>(new ExecutionRequest(root, listener, configurationParameters), rootContext,
+			new SameThreadHierarchicalTestExecutorService(), OpenTest4JAwareThrowableCollector::new,
+			timings::put).execute().get();
+
+		assertThat(timings.keySet()).containsExactly(child, root);
+		assertThat(timings.get(child).getPhases()).containsExactly(QUEUE_WAIT, PREPARE, SHOULD_BE_SKIPPED, BEFORE,
+			EXECUTE, CHILDREN, AFTER, CLEAN_UP);
+		NodeExecutionTiming rootTiming = timings.get(root);
+		assertThat(rootTiming.getThreadId()).isEqualTo(Thread.currentThread().getId());
+		assertThat(rootTiming.getDurationNanos(CHILDREN)).isGreaterThanOrEqualTo(
+			timings.get(child).getDurationNanos());
+		assertThat(rootTiming.getDurationNanos()).isGreaterThanOrEqualTo(rootTiming.getDurationNanos(CHILDREN));
+		assertThat(rootTiming.getStartNanos(PREPARE)).isGreaterThanOrEqualTo(rootTiming.getStartNanos());
+	}
+
+	@Test
+	void reportsOnlyExecutedPhasesOfSkippedNodeToTimingListener() throws Exception {
+		MyLeaf child = spy(new MyLeaf(UniqueId.root("leaf", "child leaf")));
+		root.addChild(child);
+		when(child.shouldBeSkipped(rootContext)).thenReturn(Node.SkipResult.skip("reason"));
+		Map<TestDescriptor, NodeExecutionTiming> timings = new LinkedHashMap<>();
+
+		new HierarchicalTestExecutor<>(new ExecutionRequest(root, listener, configurationParameters), rootContext,
+			new SameThreadHierarchicalTestExecutorService(), OpenTest4JAwareThrowableCollector::new,
+			timings::put).execute().get();
+
+		NodeExecutionTiming childTiming = timings.get(child);
+		assertThat(childTiming.getPhases()).containsExactly(QUEUE_WAIT, PREPARE, SHOULD_BE_SKIPPED, CLEAN_UP);
+		assertThrows(PreconditionViolationException.class, () -> childTiming.getDurationNanos(EXECUTE));
+	}
+
 	// -------------------------------------------------------------------
 
 	private static class MyEngineExecutionContext implements EngineExecutionContext {
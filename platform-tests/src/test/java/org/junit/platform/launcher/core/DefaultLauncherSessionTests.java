@@ -0,0 +1,200 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * @since 1.4
+ */
+class DefaultLauncherSessionTests {
+
+	private final CountingTestEngine engine = new CountingTestEngine();
+
+	private final LauncherSession session = LauncherFactory.openSession(LauncherConfig.builder() //
+			.enableTestEngineAutoRegistration(false) //
+			.enableTestExecutionListenerAutoRegistration(false) //
+			.addTestEngines(engine) //
+			.build());
+
+	private final Launcher launcher = session.getLauncher();
+
+	@AfterEach
+	void closeSession() {
+		session.close();
+	}
+
+	@Test
+	void reusesTestPlanDiscoveredForEqualRequest() {
+		TestPlan testPlan = launcher.discover(request().selectors(selectClass("com.example.FooTestCase")).build());
+
+		assertThat(launcher.discover(request().selectors(selectClass("com.example.FooTestCase")).build())) //
+				.isSameAs(testPlan);
+		assertThat(engine.discoveries).isEqualTo(1);
+	}
+
+	@Test
+	void executesTestPlanDiscoveredForEqualRequestWithoutDiscoveringAgain() {
+		launcher.discover(request().selectors(selectClass("com.example.FooTestCase")).build());
+
+		launcher.execute(request().selectors(selectClass("com.example.FooTestCase")).build());
+
+		assertThat(engine.discoveries).isEqualTo(1);
+		assertThat(engine.executions).isEqualTo(1);
+	}
+
+	@Test
+	void executesEachDiscoveredTestPlanAtMostOnce() {
+		TestPlan testPlan = launcher.discover(request().selectors(selectClass("com.example.FooTestCase")).build());
+
+		launcher.execute(testPlan);
+		launcher.execute(testPlan);
+		launcher.execute(request().selectors(selectClass("com.example.FooTestCase")).build());
+
+		assertThat(engine.discoveries).isEqualTo(3);
+		assertThat(engine.executions).isEqualTo(3);
+	}
+
+	@Test
+	void discoversTestPlanAgainAfterItHasBeenExecuted() {
+		TestPlan testPlan = launcher.discover(request().selectors(selectClass("com.example.FooTestCase")).build());
+		launcher.execute(testPlan);
+
+		assertThat(launcher.discover(request().selectors(selectClass("com.example.FooTestCase")).build())) //
+				.isNotSameAs(testPlan);
+		assertThat(engine.discoveries).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotReuseTestPlanDiscoveredForDifferentConfigurationParameters() {
+		TestPlan testPlan = launcher.discover(request() //
+				.selectors(selectClass("com.example.FooTestCase")) //
+				.configurationParameter("key", "foo") //
+				.build());
+
+		assertThat(launcher.discover(request() //
+				.selectors(selectClass("com.example.FooTestCase")) //
+				.configurationParameter("key", "bar") //
+				.build())).isNotSameAs(testPlan);
+		assertThat(engine.discoveries).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotCacheTestPlansForRequestsSelectingPackages() {
+		TestPlan testPlan = launcher.discover(request().selectors(selectPackage("com.example")).build());
+
+		assertThat(launcher.discover(request().selectors(selectPackage("com.example")).build())) //
+				.isNotSameAs(testPlan);
+		assertThat(engine.discoveries).isEqualTo(2);
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void discoversTestPlanAgainIfClassFileHasBeenModified(@TempDir Path tempDir) throws Exception {
+		Path classFile = tempDir.resolve("com/example/ModifiedTestCase.class");
+		Files.createDirectories(classFile.getParent());
+		Files.write(classFile, new byte[] { 1 });
+		long lastModified = Files.getLastModifiedTime(classFile).toMillis();
+
+		Thread thread = Thread.currentThread();
+		ClassLoader originalClassLoader = thread.getContextClassLoader();
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { tempDir.toUri().toURL() }, null)) {
+			thread.setContextClassLoader(classLoader);
+
+			TestPlan testPlan = launcher.discover(
+				request().selectors(selectClass("com.example.ModifiedTestCase")).build());
+			assertThat(launcher.discover(request().selectors(selectClass("com.example.ModifiedTestCase")).build())) //
+					.isSameAs(testPlan);
+
+			Files.write(classFile, new byte[] { 1, 2 });
+			assertThat(classFile.toFile().setLastModified(lastModified)).isTrue();
+
+			assertThat(launcher.discover(request().selectors(selectClass("com.example.ModifiedTestCase")).build())) //
+					.isNotSameAs(testPlan);
+			assertThat(engine.discoveries).isEqualTo(2);
+		}
+		finally {
+			thread.setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Test
+	void rejectsRequestsAfterSessionHasBeenClosed() {
+		session.close();
+
+		assertThrows(PreconditionViolationException.class,
+			() -> launcher.discover(request().selectors(selectClass("com.example.FooTestCase")).build()));
+	}
+
+	private static class CountingTestEngine implements TestEngine {
+
+		private int discoveries;
+		private int executions;
+
+		@Override
+		public String getId() {
+			return "counting";
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			discoveries++;
+			EngineDescriptor engineDescriptor = new EngineDescriptor(uniqueId, "Counting");
+			for (ClassSelector selector : discoveryRequest.getSelectorsByType(ClassSelector.class)) {
+				String className = selector.getClassName();
+				engineDescriptor.addChild(new AbstractTestDescriptor(uniqueId.append("test", className), className,
+					MethodSource.from(className, "test")) {
+
+					@Override
+					public Type getType() {
+						return Type.TEST;
+					}
+				});
+			}
+			return engineDescriptor;
+		}
+
+		@Override
+		public void execute(ExecutionRequest request) {
+			executions++;
+		}
+
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+
+/**
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class FileFingerprintTests {
+
+	@Test
+	void detectsModificationsOfFiles(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("test.properties"), "foo".getBytes());
+		long lastModified = Files.getLastModifiedTime(file).toMillis();
+
+		FileFingerprint fingerprint = FileFingerprint.of(file.toUri().toURL()).get();
+
+		assertThat(fingerprint.isUpToDate()).isTrue();
+		assertThat(FileFingerprint.of(file.toUri().toURL())).contains(fingerprint);
+
+		Files.write(file, "foobar".getBytes());
+		assertThat(file.toFile().setLastModified(lastModified)).isTrue();
+
+		assertThat(fingerprint.isUpToDate()).isFalse();
+		assertThat(FileFingerprint.of(file.toUri().toURL())).isNotEqualTo(Optional.of(fingerprint));
+	}
+
+	@Test
+	void representsResourcesInJarFilesByJarFile(@TempDir Path tempDir) throws Exception {
+		Path jarFile = tempDir.resolve("test.jar");
+		try (OutputStream out = Files.newOutputStream(jarFile); JarOutputStream jar = new JarOutputStream(out)) {
+			jar.putNextEntry(new JarEntry("test.properties"));
+			jar.write("foo".getBytes());
+			jar.closeEntry();
+		}
+		URL resourceUrl = new URL("jar:" + jarFile.toUri() + "!/test.properties");
+
+		assertThat(FileFingerprint.of(resourceUrl)).isEqualTo(FileFingerprint.of(jarFile.toUri().toURL()));
+	}
+
+	@Test
+	void doesNotSupportResourcesOutsideTheFileSystem() throws Exception {
+		assertThat(FileFingerprint.of(new URL("http://example.org/test.properties"))).isEmpty();
+	}
+
+	@Test
+	void doesNotSupportMissingFiles(@TempDir Path tempDir) throws Exception {
+		assertThat(FileFingerprint.of(tempDir.resolve("missing.properties").toUri().toURL())).isEmpty();
+	}
+
+}
@@ -16,6 +16,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
@@ -24,6 +28,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestInstancePostProcessor;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -120,6 +126,57 @@ class LauncherConfigurationParametersTests {
 		assertThat(configParams.toString()).contains(CONFIG_FILE);
 	}
 
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void reloadsConfigFileOnlyIfModified(@TempDir Path tempDir) throws Exception {
+		String configFileName = "cached-junit-platform.properties";
+		Path configFile = tempDir.resolve(configFileName);
+		Files.write(configFile, (KEY + "=first").getBytes());
+
+		Thread thread = Thread.currentThread();
+		ClassLoader originalClassLoader = thread.getContextClassLoader();
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { tempDir.toUri().toURL() }, null)) {
+			thread.setContextClassLoader(classLoader);
+
+			assertThat(fromMap(emptyMap(), configFileName).get(KEY)).contains("first");
+			assertThat(fromMap(emptyMap(), configFileName).get(KEY)).contains("first");
+
+			long lastModified = Files.getLastModifiedTime(configFile).toMillis();
+			Files.write(configFile, (KEY + "=second").getBytes());
+			assertThat(configFile.toFile().setLastModified(lastModified + 10_000)).isTrue();
+
+			assertThat(fromMap(emptyMap(), configFileName).get(KEY)).contains("second");
+		}
+		finally {
+			thread.setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void reloadsConfigFileIfModifiedWithinTimestampGranularity(@TempDir Path tempDir) throws Exception {
+		String configFileName = "cached-junit-platform.properties";
+		Path configFile = tempDir.resolve(configFileName);
+		Files.write(configFile, (KEY + "=first").getBytes());
+		long lastModified = Files.getLastModifiedTime(configFile).toMillis();
+
+		Thread thread = Thread.currentThread();
+		ClassLoader originalClassLoader = thread.getContextClassLoader();
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { tempDir.toUri().toURL() }, null)) {
+			thread.setContextClassLoader(classLoader);
+
+			assertThat(fromMap(emptyMap(), configFileName).get(KEY)).contains("first");
+
+			Files.write(configFile, (KEY + "=modified").getBytes());
+			assertThat(configFile.toFile().setLastModified(lastModified)).isTrue();
+
+			assertThat(fromMap(emptyMap(), configFileName).get(KEY)).contains("modified");
+		}
+		finally {
+			thread.setContextClassLoader(originalClassLoader);
+		}
+	}
+
 	@Test
 	void getValueInExtensionContext() {
 		LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request() //
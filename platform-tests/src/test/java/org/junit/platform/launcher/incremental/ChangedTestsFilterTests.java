@@ -0,0 +1,236 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.incremental;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.support.io.TempDirectory;
+import org.junit.jupiter.api.support.io.TempDirectory.TempDir;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+/**
+ * Tests for {@link ChangedTestsFilter} and {@link TestDependencyRecorder}.
+ *
+ * @since 1.4
+ */
+@ExtendWith(TempDirectory.class)
+class ChangedTestsFilterTests {
+
+	@Test
+	void includesTestsWithoutRecordedDependencies(@TempDir Path tempDirectory) throws Exception {
+		Path storeFile = tempDirectory.resolve("dependencies.txt");
+
+		TestExecutionSummary summary = execute(SucceedingTestCase.class, storeFile);
+
+		assertThat(summary.getTestsSucceededCount()).isEqualTo(1);
+		assertThat(new String(Files.readAllBytes(storeFile), UTF_8)) //
+				.contains(SucceedingTestCase.class.getName() + "\n") //
+				.contains("\t" + SucceedingTestCase.class.getName() + " ") //
+				.contains("\t" + DependencyOfSucceedingTestCase.class.getName() + " ");
+	}
+
+	@Test
+	void excludesTestsWhoseDependenciesAreUnchanged(@TempDir Path tempDirectory) {
+		Path storeFile = tempDirectory.resolve("dependencies.txt");
+		execute(SucceedingTestCase.class, storeFile);
+
+		TestExecutionSummary summary = execute(SucceedingTestCase.class, storeFile);
+
+		assertThat(summary.getTestsStartedCount()).isEqualTo(0);
+	}
+
+	@Test
+	void includesTestsWhoseDependenciesHaveChanged(@TempDir Path tempDirectory) throws Exception {
+		Path storeFile = tempDirectory.resolve("dependencies.txt");
+		execute(SucceedingTestCase.class, storeFile);
+		String dependency = "\t" + DependencyOfSucceedingTestCase.class.getName() + " ";
+		String content = new String(Files.readAllBytes(storeFile), UTF_8);
+		int fingerprintIndex = content.indexOf(dependency) + dependency.length();
+		String modifiedContent = content.substring(0, fingerprintIndex) + "0"
+				+ content.substring(content.indexOf('\n', fingerprintIndex));
+		Files.write(storeFile, modifiedContent.getBytes(UTF_8));
+
+		TestExecutionSummary summary = execute(SucceedingTestCase.class, storeFile);
+
+		assertThat(summary.getTestsSucceededCount()).isEqualTo(1);
+		assertThat(new String(Files.readAllBytes(storeFile), UTF_8)).isEqualTo(content);
+	}
+
+	@Test
+	void includesFailedTestsAgain(@TempDir Path tempDirectory) throws Exception {
+		Path storeFile = tempDirectory.resolve("dependencies.txt");
+		execute(FailingTestCase.class, storeFile);
+
+		TestExecutionSummary summary = execute(FailingTestCase.class, storeFile);
+
+		assertThat(summary.getTestsFailedCount()).isEqualTo(1);
+		assertThat(new String(Files.readAllBytes(storeFile), UTF_8)).doesNotContain(FailingTestCase.class.getName());
+	}
+
+	@Test
+	void includesFailedTestsAgainAfterOtherTestsOfTheirClassSucceeded(@TempDir Path tempDirectory) throws Exception {
+		Path storeFile = tempDirectory.resolve("dependencies.txt");
+		execute(PartiallyFailingTestCase.class, storeFile);
+
+		TestExecutionSummary summary = execute(selectMethod(PartiallyFailingTestCase.class, "succeedingTest"),
+			storeFile);
+
+		assertThat(summary.getTestsSucceededCount()).isEqualTo(1);
+		assertThat(new String(Files.readAllBytes(storeFile), UTF_8)) //
+				.contains(PartiallyFailingTestCase.class.getName() + "\n") //
+				.contains("[method:succeedingTest()]") //
+				.doesNotContain("[method:failingTest()]");
+
+		summary = execute(PartiallyFailingTestCase.class, storeFile);
+
+		assertThat(summary.getTestsStartedCount()).isEqualTo(1);
+		assertThat(summary.getTestsFailedCount()).isEqualTo(1);
+		assertThat(new String(Files.readAllBytes(storeFile), UTF_8)) //
+				.doesNotContain(PartiallyFailingTestCase.class.getName());
+	}
+
+	@Test
+	void includesTestsThatWereNotSelectedInPreviousRun(@TempDir Path tempDirectory) {
+		Path storeFile = tempDirectory.resolve("dependencies.txt");
+		execute(selectMethod(TwoSucceedingTestsTestCase.class, "firstTest"), storeFile);
+
+		TestExecutionSummary summary = execute(TwoSucceedingTestsTestCase.class, storeFile);
+
+		assertThat(summary.getTestsStartedCount()).isEqualTo(1);
+		assertThat(summary.getTestsSucceededCount()).isEqualTo(1);
+
+		summary = execute(TwoSucceedingTestsTestCase.class, storeFile);
+
+		assertThat(summary.getTestsStartedCount()).isEqualTo(0);
+	}
+
+	@Test
+	void includesTestsWithSkippedTestsAgain(@TempDir Path tempDirectory) throws Exception {
+		Path storeFile = tempDirectory.resolve("dependencies.txt");
+		execute(PartiallyDisabledTestCase.class, storeFile);
+
+		TestExecutionSummary summary = execute(PartiallyDisabledTestCase.class, storeFile);
+
+		assertThat(summary.getTestsSucceededCount()).isEqualTo(1);
+		assertThat(new String(Files.readAllBytes(storeFile), UTF_8)) //
+				.doesNotContain(PartiallyDisabledTestCase.class.getName());
+	}
+
+	@Test
+	void includesAllTestsIfStoreFileIsMalformed(@TempDir Path tempDirectory) throws Exception {
+		Path storeFile = tempDirectory.resolve("dependencies.txt");
+		Files.write(storeFile, "\tmalformed\n".getBytes(UTF_8));
+
+		TestExecutionSummary summary = execute(SucceedingTestCase.class, storeFile);
+
+		assertThat(summary.getTestsSucceededCount()).isEqualTo(1);
+	}
+
+	private static TestExecutionSummary execute(Class<?> testClass, Path storeFile) {
+		return execute(selectClass(testClass), storeFile);
+	}
+
+	private static TestExecutionSummary execute(DiscoverySelector selector, Path storeFile) {
+		Launcher launcher = createLauncher(new JupiterTestEngine());
+		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
+		// @formatter:off
+		launcher.execute(
+			request()
+				.selectors(selector)
+				.filters(ChangedTestsFilter.includeChangedTests(storeFile))
+				.build(),
+			summaryListener, new TestDependencyRecorder(storeFile));
+		// @formatter:on
+		return summaryListener.getSummary();
+	}
+
+	static class SucceedingTestCase {
+
+		@Test
+		void test() {
+			assertThat(new DependencyOfSucceedingTestCase().toString()).isEqualTo("dependency");
+		}
+
+	}
+
+	static class DependencyOfSucceedingTestCase {
+
+		@Override
+		public String toString() {
+			return "dependency";
+		}
+
+	}
+
+	static class FailingTestCase {
+
+		@Test
+		void test() {
+			fail("failing");
+		}
+
+	}
+
+	static class PartiallyFailingTestCase {
+
+		@Test
+		void succeedingTest() {
+		}
+
+		@Test
+		void failingTest() {
+			fail("failing");
+		}
+
+	}
+
+	static class TwoSucceedingTestsTestCase {
+
+		@Test
+		void firstTest() {
+		}
+
+		@Test
+		void secondTest() {
+		}
+
+	}
+
+	static class PartiallyDisabledTestCase {
+
+		@Test
+		void succeedingTest() {
+		}
+
+		@Test
+		@Disabled
+		void disabledTest() {
+		}
+
+	}
+
+}
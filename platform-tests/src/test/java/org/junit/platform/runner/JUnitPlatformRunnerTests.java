@@ -31,9 +31,11 @@ import static org.junit.runner.Description.createTestDescription;
 import static org.junit.runner.manipulation.Filter.matchMethodDescription;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -72,6 +74,7 @@ import org.junit.platform.launcher.EngineFilter;
 import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.suite.api.ExcludeClassNamePatterns;
 import org.junit.platform.suite.api.ExcludeEngines;
@@ -610,6 +613,77 @@ class JUnitPlatformRunnerTests {
 
 	}
 
+	@Nested
+	class Caching {
+
+		@Test
+		void reusesTestPlanForEqualDiscoveryRequests() {
+
+			@SelectPackages("foo")
+			@IncludeTags({ "tag1", "tag2" })
+			class TestSuite1 {
+			}
+
+			@SelectPackages("foo")
+			@IncludeTags({ "tag2", "tag1" })
+			class TestSuite2 {
+			}
+
+			@SelectPackages("foo")
+			@IncludeTags("tag1")
+			class TestSuite3 {
+			}
+
+			Launcher launcher = mock(Launcher.class);
+			when(launcher.discover(any())).thenReturn(TestPlan.from(emptySet()));
+			TestPlanCache testPlanCache = new TestPlanCache(launcher);
+
+			new JUnitPlatform(TestSuite1.class, testPlanCache);
+			new JUnitPlatform(TestSuite2.class, testPlanCache);
+			verify(launcher).discover(any());
+
+			new JUnitPlatform(TestSuite3.class, testPlanCache);
+			verify(launcher, times(2)).discover(any());
+		}
+
+		@Test
+		void executesCachedTestPlanAtMostOnce() {
+			TestPlan cachedTestPlan = TestPlan.from(emptySet());
+			TestPlan rediscoveredTestPlan = TestPlan.from(emptySet());
+
+			Launcher launcher = mock(Launcher.class);
+			when(launcher.discover(any())).thenReturn(cachedTestPlan).thenReturn(rediscoveredTestPlan);
+			TestPlanCache testPlanCache = new TestPlanCache(launcher);
+
+			JUnitPlatform runner1 = new JUnitPlatform(TestClass.class, testPlanCache);
+			JUnitPlatform runner2 = new JUnitPlatform(TestClass.class, testPlanCache);
+
+			runner1.run(new RunNotifier());
+			verify(launcher).execute(same(cachedTestPlan), any(TestExecutionListener.class));
+
+			runner2.run(new RunNotifier());
+			verify(launcher).execute(same(rediscoveredTestPlan), any(TestExecutionListener.class));
+			verify(launcher, times(2)).discover(any());
+		}
+
+		@Test
+		void removesUnfilteredTestPlanFromCacheWhenFiltered() throws Exception {
+			TestPlan testPlan = TestPlan.from(singleton(new TestDescriptorStub(UniqueId.root("root", "test"), "test")));
+
+			Launcher launcher = mock(Launcher.class);
+			when(launcher.discover(any())).thenReturn(testPlan);
+			TestPlanCache testPlanCache = new TestPlanCache(launcher);
+
+			JUnitPlatform runner = new JUnitPlatform(TestClass.class, testPlanCache);
+			runner.filter(matchMethodDescription(testDescription("[root:test]")));
+			verify(launcher, times(2)).discover(any());
+
+			new JUnitPlatform(TestClass.class, testPlanCache);
+			verify(launcher, times(3)).discover(any());
+		}
+
+	}
+
 	@Nested
 	class Descriptions {
 
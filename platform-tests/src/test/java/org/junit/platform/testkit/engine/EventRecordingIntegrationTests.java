@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015-2018 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.testkit.engine.Event.byType;
+import static org.junit.platform.testkit.engine.EventType.FINISHED;
+import static org.junit.platform.testkit.engine.EventType.STARTED;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Integration tests for recording options of {@link EngineTestKit.Builder}.
+ *
+ * @since 1.4
+ */
+class EventRecordingIntegrationTests {
+
+	@Test
+	void recordsAllEventsByDefault() {
+		EngineExecutionResults results = execute(EngineTestKit.engine("junit-jupiter"));
+
+		assertThat(results.all().list()).hasSize(11);
+		assertStatistics(results);
+	}
+
+	@Test
+	void recordsOnlyEventsMatchingFilter() {
+		EngineExecutionResults results = execute(EngineTestKit.engine("junit-jupiter").recordEvents(byType(FINISHED)));
+
+		assertThat(results.tests().list()).hasSize(3).allMatch(byType(FINISHED));
+		assertThat(results.containers().list()).hasSize(2).allMatch(byType(FINISHED));
+		assertStatistics(results);
+	}
+
+	@Test
+	void retainsOnlyMostRecentEvents() {
+		EngineExecutionResults results = execute(EngineTestKit.engine("junit-jupiter").maxRecordedEvents(2));
+
+		assertThat(results.all().list()).hasSize(2).allMatch(byType(FINISHED));
+		assertThat(results.tests().list()).isEmpty();
+		assertThat(results.containers().list()).hasSize(2);
+		assertStatistics(results);
+	}
+
+	@Test
+	void countsEventsWithoutRecordingThem() {
+		EngineExecutionResults results = execute(EngineTestKit.engine("junit-jupiter").maxRecordedEvents(0));
+
+		assertThat(results.all().list()).isEmpty();
+		assertStatistics(results);
+	}
+
+	@Test
+	void rejectsNegativeMaximumNumberOfRecordedEvents() {
+		assertThrows(PreconditionViolationException.class,
+			() -> EngineTestKit.engine("junit-jupiter").maxRecordedEvents(-1));
+	}
+
+	@Test
+	void looksUpEventsByUniqueId() {
+		Events testEvents = execute(EngineTestKit.engine("junit-jupiter")).tests();
+		UniqueId uniqueId = testEvents.started().list().get(0).getTestDescriptor().getUniqueId();
+
+		Events events = testEvents.forUniqueId(uniqueId);
+
+		assertThat(events.list()).hasSize(2);
+		assertThat(events.started().count()).isEqualTo(1);
+		assertThat(events.finished().count()).isEqualTo(1);
+		assertThat(testEvents.forUniqueId(uniqueId.append("method", "unknown()")).list()).isEmpty();
+	}
+
+	@Test
+	void filtersRecordedEventsByType() {
+		Events testEvents = execute(EngineTestKit.engine("junit-jupiter")).tests();
+
+		assertThat(testEvents.started().list()).hasSize(3).allMatch(byType(STARTED));
+		assertThat(testEvents.finished().list()).hasSize(3).allMatch(byType(FINISHED));
+	}
+
+	private static EngineExecutionResults execute(EngineTestKit.Builder builder) {
+		return builder.selectors(selectClass(ExampleTestCase.class)).execute();
+	}
+
+	private static void assertStatistics(EngineExecutionResults results) {
+		results.tests().assertStatistics(stats -> stats.skipped(1).started(3).succeeded(1).aborted(1).failed(1));
+		results.containers().assertStatistics(stats -> stats.skipped(0).started(2).succeeded(2).failed(0));
+		results.all().assertStatistics(stats -> stats.skipped(1).started(5).finished(5));
+	}
+
+	static class ExampleTestCase {
+
+		@Test
+		@Disabled
+		void skippedTest() {
+		}
+
+		@Test
+		void succeedingTest() {
+		}
+
+		@Test
+		void abortedTest() {
+			assumeTrue(false);
+		}
+
+		@Test
+		void failingTest() {
+			fail("Boom!");
+		}
+
+	}
+
+}
@@ -32,6 +32,7 @@ include("junit-jupiter-engine")
 include("junit-jupiter-migrationsupport")
 include("junit-jupiter-params")
 include("junit-platform-commons")
+include("junit-platform-commons-java-11")
 include("junit-platform-commons-java-9")
 include("junit-platform-console")
 include("junit-platform-console-standalone")